@@ -3,15 +3,24 @@ package seedu.address;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 import java.util.logging.Logger;
 
 import javafx.application.Application;
 import javafx.stage.Stage;
 import seedu.address.commons.core.Config;
+import seedu.address.commons.core.DataFileFormat;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.core.Version;
 import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.commons.util.ConfigUtil;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
 import seedu.address.commons.util.StringUtil;
 import seedu.address.logic.Logic;
 import seedu.address.logic.LogicManager;
@@ -21,6 +30,8 @@ import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.event.EventRecord;
 import seedu.address.model.event.ReadOnlyEvents;
+import seedu.address.model.group.ListOfGroups;
+import seedu.address.model.group.ReadOnlyGroups;
 import seedu.address.model.note.NotesRecord;
 import seedu.address.model.note.ReadOnlyNotesRecord;
 import seedu.address.model.question.ReadOnlyQuestions;
@@ -34,18 +45,24 @@ import seedu.address.model.student.StudentRecord;
 import seedu.address.model.util.SampleDataUtil;
 import seedu.address.model.util.SampleNotesUtil;
 import seedu.address.model.util.SampleStatisticUtil;
+import seedu.address.storage.DataFileConverter;
 import seedu.address.storage.JsonUserPrefsStorage;
 import seedu.address.storage.Storage;
 import seedu.address.storage.StorageManager;
 import seedu.address.storage.UserPrefsStorage;
 import seedu.address.storage.event.EventStorage;
 import seedu.address.storage.event.JsonEventStorage;
+import seedu.address.storage.group.GroupStorage;
+import seedu.address.storage.group.JsonGroupStorage;
+import seedu.address.storage.journal.TextCommandJournalStorage;
 import seedu.address.storage.note.JsonNotesRecordStorage;
 import seedu.address.storage.note.NotesRecordStorage;
+import seedu.address.storage.question.BinaryQuestionStorage;
 import seedu.address.storage.question.JsonQuestionStorage;
 import seedu.address.storage.question.QuestionStorage;
 import seedu.address.storage.quiz.JsonQuizStorage;
 import seedu.address.storage.quiz.QuizStorage;
+import seedu.address.storage.student.BinaryStudentRecordStorage;
 import seedu.address.storage.student.JsonStudentRecordStorage;
 import seedu.address.storage.student.StudentRecordStorage;
 import seedu.address.ui.Ui;
@@ -59,6 +76,7 @@ public class MainApp extends Application {
     public static final Version VERSION = new Version(1, 0, 0, true);
 
     private static final Logger logger = LogsCenter.getLogger(MainApp.class);
+    private static final int DATA_FILE_COUNT = 6;
 
     protected Ui ui;
     protected Logic logic;
@@ -66,6 +84,8 @@ public class MainApp extends Application {
     protected Model model;
     protected Config config;
 
+    private boolean isDataReadFromStorage;
+
     @Override
     public void init() throws Exception {
         logger.info(
@@ -74,26 +94,48 @@ public class MainApp extends Application {
 
         AppParameters appParameters = AppParameters.parse(getParameters());
         config = initConfig(appParameters.getConfigPath());
+        long fileSyncIntervalMillis = config.getFileSyncIntervalMillis();
+        if (!FileUtil.isValidSyncInterval(fileSyncIntervalMillis)) {
+            logger.warning("Invalid file sync interval of " + fileSyncIntervalMillis + "ms in config file. Using "
+                + FileUtil.DEFAULT_SYNC_INTERVAL_MILLIS + "ms with the " + config.getFileSyncPolicy()
+                + " sync policy instead");
+            fileSyncIntervalMillis = FileUtil.DEFAULT_SYNC_INTERVAL_MILLIS;
+        }
+        FileUtil.setSyncPolicy(config.getFileSyncPolicy(), fileSyncIntervalMillis);
+        JsonUtil.setPrettyPrinted(config.isJsonPrettyPrinted());
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        StudentRecordStorage studentRecordStorage =
-            new JsonStudentRecordStorage(userPrefs.getStudentRecordFilePath());
-        QuestionStorage savedQuestionStorage =
-            new JsonQuestionStorage(userPrefs.getSavedQuestionsFilePath());
+        StudentRecordStorage studentRecordStorage = initStudentRecordStorage(userPrefs);
+        QuestionStorage savedQuestionStorage = initQuestionStorage(userPrefs);
         EventStorage eventStorage =
             new JsonEventStorage(userPrefs.getEventRecordFilePath());
         QuizStorage savedQuizStorage =
                 new JsonQuizStorage(userPrefs.getSavedQuizzesFilePath());
         NotesRecordStorage notesRecordStorage = new JsonNotesRecordStorage(userPrefs.getNotesRecordFilePath());
-        storage = new StorageManager(userPrefsStorage, studentRecordStorage,
-            savedQuestionStorage, savedQuizStorage, notesRecordStorage, eventStorage);
+        GroupStorage groupStorage = new JsonGroupStorage(userPrefs.getGroupsFilePath());
+        StorageManager storageManager = new StorageManager(userPrefsStorage, studentRecordStorage,
+            savedQuestionStorage, savedQuizStorage, notesRecordStorage, eventStorage, groupStorage);
+        if (config.isWriteBehindEnabled()) {
+            storageManager.enableWriteBehind();
+        }
+        if (config.isCommandJournalEnabled()) {
+            storageManager.enableCommandJournal(
+                new TextCommandJournalStorage(userPrefs.getCommandJournalFilePath()));
+        }
+        storage = storageManager;
 
         initLogging(config);
 
         model = initModelManager(storage, userPrefs);
 
-        logic = new LogicManager(model, storage);
+        LogicManager logicManager = new LogicManager(model, storage);
+        if (storage.isCommandJournalEnabled() && isDataReadFromStorage) {
+            logicManager.replayCommandJournal();
+        } else if (storage.isCommandJournalEnabled()) {
+            logicManager.discardCommandJournal();
+        }
+        logic = logicManager;
 
         ui = new UiManager(logic);
     }
@@ -102,14 +144,16 @@ public class MainApp extends Application {
      * Returns a {@code ModelManager} with the data from {@code storage}'s address book and {@code
      * userPrefs}. <br> The data from the sample address book will be used instead if {@code
      * storage}'s address book is not found, or an empty address book will be used instead if errors
-     * occur when reading {@code storage}'s address book.
+     * occur when reading {@code storage}'s address book. A groups file that cannot be read only leaves the model
+     * without groups.
      */
-    private Model initModelManager(Storage storage, ReadOnlyUserPrefs userPrefs) {
+    Model initModelManager(Storage storage, ReadOnlyUserPrefs userPrefs) {
         Optional<ReadOnlyStudentRecord> studentRecordOptional;
         Optional<ReadOnlyQuestions> questionsOptional;
         Optional<ReadOnlyEvents> eventsOptional;
         Optional<ReadOnlyQuizzes> quizzesOptional;
         Optional<ReadOnlyNotesRecord> notesRecordOptional;
+        Optional<ReadOnlyGroups> groupsOptional;
 
         ReadOnlyStudentRecord initialStudentRecord;
         ReadOnlyQuestions initialQuestions;
@@ -117,13 +161,43 @@ public class MainApp extends Application {
         ReadOnlyQuizzes initialQuizzes;
         ReadOnlyNotesRecord initialNotesRecord;
         ReadOnlyStatisticsRecord initialStatisticsRecord;
+        ReadOnlyGroups initialGroups;
 
+        isDataReadFromStorage = false;
+        ExecutorService dataFileReaders = Executors.newFixedThreadPool(
+            Math.min(DATA_FILE_COUNT, Runtime.getRuntime().availableProcessors()));
         try {
-            studentRecordOptional = storage.readStudentRecord();
-            questionsOptional = storage.readQuestions();
-            eventsOptional = storage.readEvents();
-            quizzesOptional = storage.readQuizzes();
-            notesRecordOptional = storage.readNotesRecord();
+            Future<Optional<ReadOnlyStudentRecord>> studentRecordRead =
+                dataFileReaders.submit(timed("student", storage::readStudentRecord));
+            Future<Optional<ReadOnlyQuestions>> questionsRead =
+                dataFileReaders.submit(timed("question", storage::readQuestions));
+            Future<Optional<ReadOnlyEvents>> eventsRead =
+                dataFileReaders.submit(timed("event", storage::readEvents));
+            Future<Optional<ReadOnlyQuizzes>> quizzesRead =
+                dataFileReaders.submit(timed("quiz", storage::readQuizzes));
+            Future<Optional<ReadOnlyNotesRecord>> notesRecordRead =
+                dataFileReaders.submit(timed("notes", storage::readNotesRecord));
+            // The students in the groups are looked up in the student record the model starts with, which holds
+            // the sample students when there is no student file, so the groups are read once it is known.
+            Future<ReadOnlyStudentRecord> initialStudentRecordRead = dataFileReaders.submit(() ->
+                getReadResult(studentRecordRead).orElseGet(SampleDataUtil::getSampleStudents));
+            Future<Optional<ReadOnlyGroups>> groupsRead = dataFileReaders.submit(timed("group", () ->
+                storage.readGroups(getReadResult(initialStudentRecordRead))));
+
+            studentRecordOptional = getReadResult(studentRecordRead);
+            questionsOptional = getReadResult(questionsRead);
+            eventsOptional = getReadResult(eventsRead);
+            quizzesOptional = getReadResult(quizzesRead);
+            notesRecordOptional = getReadResult(notesRecordRead);
+            // The groups only refer to students in the student record, so a groups file that cannot be read
+            // leaves the model without groups instead of without any data.
+            try {
+                groupsOptional = getReadResult(groupsRead);
+            } catch (DataConversionException | IOException e) {
+                logger.warning("Groups file could not be read. Will be starting without groups: "
+                    + StringUtil.getDetails(e));
+                groupsOptional = Optional.of(new ListOfGroups());
+            }
 
             if (!studentRecordOptional.isPresent()) {
                 logger.info("Student file not found. Will be starting with a student record with a sample student.");
@@ -140,12 +214,18 @@ public class MainApp extends Application {
             if (!notesRecordOptional.isPresent()) {
                 logger.info("Notes Record not found. Will start with sample NotesRecord");
             }
-            initialStudentRecord = studentRecordOptional.orElseGet(SampleDataUtil::getSampleStudents);
+            if (!groupsOptional.isPresent()) {
+                logger.info("Groups file not found. Will create an empty one.");
+            }
+            initialStudentRecord = getReadResult(initialStudentRecordRead);
             initialQuestions = questionsOptional.orElseGet(SampleDataUtil::getSampleQuestionList);
             initialEvents = eventsOptional.orElseGet(SampleDataUtil::getSampleEventsList);
             initialNotesRecord = notesRecordOptional.orElseGet(SampleNotesUtil::getSampleNotesRecord);
             initialStatisticsRecord = SampleStatisticUtil.getSampleStatisticsRecord();
             initialQuizzes = quizzesOptional.orElseGet(SampleDataUtil::getSampleQuizList);
+            initialGroups = groupsOptional.orElseGet(ListOfGroups::new);
+            isDataReadFromStorage = studentRecordOptional.isPresent() && questionsOptional.isPresent()
+                && eventsOptional.isPresent() && quizzesOptional.isPresent() && notesRecordOptional.isPresent();
 
 
         } catch (DataConversionException e) {
@@ -157,6 +237,7 @@ public class MainApp extends Application {
             initialQuizzes = new SavedQuizzes();
             initialNotesRecord = new NotesRecord();
             initialStatisticsRecord = new StatisticsRecord();
+            initialGroups = new ListOfGroups();
 
         } catch (IOException e) {
             logger.warning(
@@ -167,10 +248,109 @@ public class MainApp extends Application {
             initialQuizzes = new SavedQuizzes();
             initialNotesRecord = new NotesRecord();
             initialStatisticsRecord = new StatisticsRecord();
+            initialGroups = new ListOfGroups();
+        } finally {
+            dataFileReaders.shutdownNow();
         }
 
         return new ModelManager(initialStudentRecord, initialQuestions, initialQuizzes,
-                initialNotesRecord, initialEvents, initialStatisticsRecord, userPrefs);
+                initialNotesRecord, initialEvents, initialStatisticsRecord, initialGroups, userPrefs);
+    }
+
+    /**
+     * Returns a task that performs {@code read} and logs how long it took to read the {@code dataName} data file.
+     */
+    private static <T> Callable<T> timed(String dataName, Callable<T> read) {
+        return () -> {
+            long startTime = System.nanoTime();
+            try {
+                return read.call();
+            } finally {
+                long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime);
+                logger.info("Read " + dataName + " data file in " + elapsedMillis + "ms");
+            }
+        };
+    }
+
+    /**
+     * Waits for {@code read} to finish and returns its result, rethrowing the exception it failed with.
+     */
+    private static <T> T getReadResult(Future<T> read) throws DataConversionException, IOException {
+        try {
+            return read.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while reading data files", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof DataConversionException) {
+                throw (DataConversionException) cause;
+            } else if (cause instanceof IOException) {
+                throw (IOException) cause;
+            } else if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new IOException(cause);
+        }
+    }
+
+    /**
+     * Returns the storage for the student record in the data file format chosen in {@code userPrefs}.
+     * The data file in the other format is converted first if it holds newer data.
+     */
+    private StudentRecordStorage initStudentRecordStorage(UserPrefs userPrefs) {
+        StudentRecordStorage jsonStorage = new JsonStudentRecordStorage(userPrefs.getStudentRecordFilePath());
+        StudentRecordStorage binaryStorage =
+            new BinaryStudentRecordStorage(toBinaryFilePath(userPrefs.getStudentRecordFilePath()));
+        boolean isBinary = userPrefs.getDataFileFormat() == DataFileFormat.BINARY;
+        StudentRecordStorage chosenStorage = isBinary ? binaryStorage : jsonStorage;
+        StudentRecordStorage otherStorage = isBinary ? jsonStorage : binaryStorage;
+
+        Path chosenFilePath = chosenStorage.getStudentRecordFilePath();
+        Path otherFilePath = otherStorage.getStudentRecordFilePath();
+        try {
+            if (DataFileConverter.isConversionNeeded(otherFilePath, chosenFilePath)
+                    && DataFileConverter.convertStudentRecord(otherStorage, chosenStorage)) {
+                logger.info("Converted " + otherFilePath + " to " + chosenFilePath);
+            }
+        } catch (DataConversionException | IOException e) {
+            logger.warning("Could not convert " + otherFilePath + " to " + chosenFilePath + ": " + e);
+        }
+        return chosenStorage;
+    }
+
+    /**
+     * Returns the storage for the questions in the data file format chosen in {@code userPrefs}.
+     * The data file in the other format is converted first if it holds newer data.
+     */
+    private QuestionStorage initQuestionStorage(UserPrefs userPrefs) {
+        QuestionStorage jsonStorage = new JsonQuestionStorage(userPrefs.getSavedQuestionsFilePath());
+        QuestionStorage binaryStorage =
+            new BinaryQuestionStorage(toBinaryFilePath(userPrefs.getSavedQuestionsFilePath()));
+        boolean isBinary = userPrefs.getDataFileFormat() == DataFileFormat.BINARY;
+        QuestionStorage chosenStorage = isBinary ? binaryStorage : jsonStorage;
+        QuestionStorage otherStorage = isBinary ? jsonStorage : binaryStorage;
+
+        Path chosenFilePath = chosenStorage.getSavedQuestionsFilePath();
+        Path otherFilePath = otherStorage.getSavedQuestionsFilePath();
+        try {
+            if (DataFileConverter.isConversionNeeded(otherFilePath, chosenFilePath)
+                    && DataFileConverter.convertQuestions(otherStorage, chosenStorage)) {
+                logger.info("Converted " + otherFilePath + " to " + chosenFilePath);
+            }
+        } catch (DataConversionException | IOException e) {
+            logger.warning("Could not convert " + otherFilePath + " to " + chosenFilePath + ": " + e);
+        }
+        return chosenStorage;
+    }
+
+    /**
+     * Returns the path of the binary data file that sits next to the JSON data file at {@code jsonFilePath}.
+     */
+    private static Path toBinaryFilePath(Path jsonFilePath) {
+        String fileName = jsonFilePath.getFileName().toString();
+        String baseName = fileName.endsWith(".json") ? fileName.substring(0, fileName.length() - 5) : fileName;
+        return jsonFilePath.resolveSibling(baseName + ".bin");
     }
 
     private void initLogging(Config config) {
@@ -260,5 +440,11 @@ public class MainApp extends Application {
         } catch (IOException e) {
             logger.severe("Failed to save preferences " + StringUtil.getDetails(e));
         }
+        try {
+            storage.flush();
+        } catch (IOException e) {
+            logger.severe("Failed to save data " + StringUtil.getDetails(e));
+        }
+        FileUtil.syncPendingFiles();
     }
 }
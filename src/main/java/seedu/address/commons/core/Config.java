@@ -5,6 +5,9 @@ import java.nio.file.Paths;
 import java.util.Objects;
 import java.util.logging.Level;
 
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.FileUtil.SyncPolicy;
+
 /**
  * Config values used by the app
  */
@@ -15,6 +18,11 @@ public class Config {
     // Config values customizable through config file
     private Level logLevel = Level.INFO;
     private Path userPrefsFilePath = Paths.get("preferences.json");
+    private boolean writeBehindEnabled = false;
+    private boolean commandJournalEnabled = false;
+    private SyncPolicy fileSyncPolicy = SyncPolicy.ALWAYS;
+    private long fileSyncIntervalMillis = FileUtil.DEFAULT_SYNC_INTERVAL_MILLIS;
+    private boolean jsonPrettyPrinted = true;
 
     public Level getLogLevel() {
         return logLevel;
@@ -32,6 +40,46 @@ public class Config {
         this.userPrefsFilePath = userPrefsFilePath;
     }
 
+    public boolean isWriteBehindEnabled() {
+        return writeBehindEnabled;
+    }
+
+    public void setWriteBehindEnabled(boolean writeBehindEnabled) {
+        this.writeBehindEnabled = writeBehindEnabled;
+    }
+
+    public boolean isCommandJournalEnabled() {
+        return commandJournalEnabled;
+    }
+
+    public void setCommandJournalEnabled(boolean commandJournalEnabled) {
+        this.commandJournalEnabled = commandJournalEnabled;
+    }
+
+    public SyncPolicy getFileSyncPolicy() {
+        return fileSyncPolicy;
+    }
+
+    public void setFileSyncPolicy(SyncPolicy fileSyncPolicy) {
+        this.fileSyncPolicy = fileSyncPolicy;
+    }
+
+    public long getFileSyncIntervalMillis() {
+        return fileSyncIntervalMillis;
+    }
+
+    public void setFileSyncIntervalMillis(long fileSyncIntervalMillis) {
+        this.fileSyncIntervalMillis = fileSyncIntervalMillis;
+    }
+
+    public boolean isJsonPrettyPrinted() {
+        return jsonPrettyPrinted;
+    }
+
+    public void setJsonPrettyPrinted(boolean jsonPrettyPrinted) {
+        this.jsonPrettyPrinted = jsonPrettyPrinted;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -44,12 +92,18 @@ public class Config {
         Config o = (Config) other;
 
         return Objects.equals(logLevel, o.logLevel)
-                && Objects.equals(userPrefsFilePath, o.userPrefsFilePath);
+                && Objects.equals(userPrefsFilePath, o.userPrefsFilePath)
+                && writeBehindEnabled == o.writeBehindEnabled
+                && commandJournalEnabled == o.commandJournalEnabled
+                && fileSyncPolicy == o.fileSyncPolicy
+                && fileSyncIntervalMillis == o.fileSyncIntervalMillis
+                && jsonPrettyPrinted == o.jsonPrettyPrinted;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(logLevel, userPrefsFilePath);
+        return Objects.hash(logLevel, userPrefsFilePath, writeBehindEnabled, commandJournalEnabled,
+                fileSyncPolicy, fileSyncIntervalMillis, jsonPrettyPrinted);
     }
 
     @Override
@@ -57,6 +111,10 @@ public class Config {
         StringBuilder sb = new StringBuilder();
         sb.append("Current log level : " + logLevel);
         sb.append("\nPreference file Location : " + userPrefsFilePath);
+        sb.append("\nWrite-behind storage : " + writeBehindEnabled);
+        sb.append("\nCommand journal : " + commandJournalEnabled);
+        sb.append("\nFile sync policy : " + fileSyncPolicy + " every " + fileSyncIntervalMillis + "ms");
+        sb.append("\nPretty-printed JSON : " + jsonPrettyPrinted);
         return sb.toString();
     }
 
@@ -0,0 +1,11 @@
+package seedu.address.commons.core;
+
+/**
+ * The formats that question and student data files can be saved in.
+ */
+public enum DataFileFormat {
+    /** Human-readable JSON, the default. */
+    JSON,
+    /** Compact binary, which is faster to read and write for large classes. */
+    BINARY
+}
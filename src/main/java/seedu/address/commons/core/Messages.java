@@ -40,6 +40,13 @@ public class Messages {
     public static final String EXCEL_FILE_ILLEGAL_INPUT = "File has illegal input. Please refer to user guide.";
     public static final String EXCEL_FILE_ILLEGAL_FORMAT = "File has illegal format. Please refer to user guide.";
     public static final String EXCEL_ILLEGAL_HEADER = "Cell A1 should be 'Students'";
+    public static final String STUDENT_FILE_NOT_FOUND = "Student file was not found. Please ensure file path is valid.";
+    public static final String STUDENT_FILE_NOT_PARSED = "Error occurred reading student file. Please try again.";
+    public static final String STUDENT_FILE_TYPE_ISSUE = "File type must be comma-separated values with extension"
+            + " '.csv'. Please try again.";
+    public static final String STUDENT_FILE_ILLEGAL_INPUT = "Line %1$d of the student file has illegal input. %2$s";
+    public static final String STUDENT_FILE_DUPLICATE_STUDENT = "Line %1$d of the student file repeats the student"
+            + " %2$s.";
 
     public static final String MESSAGE_INVALID_EVENT_DATETIME_RANGE = "Invalid event date time range."
             + " Start date time should be earlier than end date time.";
@@ -0,0 +1,31 @@
+package seedu.address.commons.util;
+
+import java.io.IOException;
+
+/**
+ * Content that is written piece by piece to an {@link Appendable}, such as a {@code Writer} or a
+ * {@code StringBuilder}, instead of being built up as one {@code String} first.
+ */
+@FunctionalInterface
+public interface AppendableContent {
+
+    /**
+     * Appends this content to {@code out}.
+     *
+     * @throws IOException if {@code out} could not be written to.
+     */
+    void appendTo(Appendable out) throws IOException;
+
+    /**
+     * Returns {@code content} as a {@code String}.
+     */
+    static String toString(AppendableContent content) {
+        StringBuilder builder = new StringBuilder();
+        try {
+            content.appendTo(builder);
+        } catch (IOException ioe) {
+            throw new AssertionError("Appending to a StringBuilder does not throw IOException.", ioe);
+        }
+        return builder.toString();
+    }
+}
@@ -0,0 +1,134 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+
+/**
+ * Reads and writes rows of strings as a compact binary file.
+ * The file starts with a marker, the number of fields in each row and the number of rows, followed by every
+ * field of every row in order. Each field is stored as its length in bytes followed by its UTF-8 bytes, with a
+ * length of -1 standing for a missing field.
+ */
+public class BinaryUtil {
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryUtil.class);
+
+    private static final int FILE_MARKER = 0x4E4A4F59;
+    private static final int MISSING_FIELD_LENGTH = -1;
+    private static final Charset CHARSET = StandardCharsets.UTF_8;
+
+    /**
+     * Returns the rows in the given file or {@code Optional.empty()} object if the file is not found.
+     * @param filePath cannot be null.
+     * @param fieldCount the number of fields each row in the file must have.
+     * @throws DataConversionException if the file format is not as expected.
+     */
+    public static Optional<List<String[]>> readBinaryFile(Path filePath, int fieldCount)
+            throws DataConversionException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            logger.info("Binary file " + filePath + " not found");
+            return Optional.empty();
+        }
+
+        try {
+            return Optional.of(readRows(ByteBuffer.wrap(Files.readAllBytes(filePath)), fieldCount));
+        } catch (IOException | BufferUnderflowException e) {
+            logger.warning("Error reading from binary file " + filePath + ": " + e);
+            throw new DataConversionException(e);
+        }
+    }
+
+    /**
+     * Saves the rows to the specified file.
+     * Overwrites existing file if it exists, creates a new file if it doesn't.
+     * @param rows cannot be null, and every row must have {@code fieldCount} fields.
+     * @param filePath cannot be null.
+     * @throws IOException if there was an error during writing to the file.
+     */
+    public static void saveBinaryFile(List<String[]> rows, int fieldCount, Path filePath) throws IOException {
+        requireNonNull(rows);
+        requireNonNull(filePath);
+        rows.forEach(row -> checkArgument(row.length == fieldCount, "Every row should have " + fieldCount
+                + " fields"));
+
+        FileUtil.writeToFile(filePath, out -> {
+            DataOutputStream data = new DataOutputStream(out);
+            data.writeInt(FILE_MARKER);
+            data.writeInt(fieldCount);
+            data.writeInt(rows.size());
+            for (String[] row : rows) {
+                for (String field : row) {
+                    writeField(data, field);
+                }
+            }
+            data.flush();
+        });
+    }
+
+    private static void writeField(DataOutputStream data, String field) throws IOException {
+        if (field == null) {
+            data.writeInt(MISSING_FIELD_LENGTH);
+            return;
+        }
+        byte[] bytes = field.getBytes(CHARSET);
+        data.writeInt(bytes.length);
+        data.write(bytes);
+    }
+
+    private static List<String[]> readRows(ByteBuffer buffer, int fieldCount) throws IOException {
+        if (buffer.getInt() != FILE_MARKER) {
+            throw new IOException("File is not a binary data file");
+        }
+        if (buffer.getInt() != fieldCount) {
+            throw new IOException("Rows do not have " + fieldCount + " fields");
+        }
+        int rowCount = buffer.getInt();
+        if (rowCount < 0) {
+            throw new IOException("Invalid number of rows: " + rowCount);
+        }
+
+        List<String[]> rows = new ArrayList<>();
+        for (int i = 0; i < rowCount; i++) {
+            String[] row = new String[fieldCount];
+            for (int j = 0; j < fieldCount; j++) {
+                row[j] = readField(buffer);
+            }
+            rows.add(row);
+        }
+        if (buffer.hasRemaining()) {
+            throw new IOException("Unexpected data after the last row");
+        }
+        return rows;
+    }
+
+    private static String readField(ByteBuffer buffer) throws IOException {
+        int length = buffer.getInt();
+        if (length == MISSING_FIELD_LENGTH) {
+            return null;
+        }
+        if (length < 0 || length > buffer.remaining()) {
+            throw new IOException("Invalid field length: " + length);
+        }
+        String field = new String(buffer.array(), buffer.arrayOffset() + buffer.position(), length, CHARSET);
+        buffer.position(buffer.position() + length);
+        return field;
+    }
+}
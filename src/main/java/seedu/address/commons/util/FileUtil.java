@@ -1,17 +1,71 @@
 package seedu.address.commons.util;
 
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.FileAlreadyExistsException;
 import java.nio.file.Files;
 import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.PosixFileAttributeView;
+import java.security.SecureRandom;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
 
 /**
  * Writes and reads files
  */
 public class FileUtil {
 
+    public static final long DEFAULT_SYNC_INTERVAL_MILLIS = 1000;
+
     private static final String CHARSET = "UTF-8";
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final Logger logger = LogsCenter.getLogger(FileUtil.class);
+    private static final SecureRandom TEMP_FILE_SUFFIXES = new SecureRandom();
+
+    private static final Set<Path> pendingSyncs = new HashSet<>();
+    private static volatile SyncPolicy syncPolicy = SyncPolicy.ALWAYS;
+    private static volatile long syncIntervalMillis = DEFAULT_SYNC_INTERVAL_MILLIS;
+    private static ScheduledExecutorService syncScheduler;
+
+    /**
+     * Writes the content of a file to a stream. The stream must be left open.
+     */
+    @FunctionalInterface
+    public interface ContentWriter {
+        void writeTo(OutputStream out) throws IOException;
+    }
+
+    /**
+     * How often written files are forced to the disk, trading durability for write throughput.
+     */
+    public enum SyncPolicy {
+        /** Forces every write to the disk before returning. */
+        ALWAYS,
+        /** Forces written files to the disk together, at most one sync interval after they are written. */
+        BATCHED,
+        /** Leaves writing to the disk to the OS. */
+        NEVER
+    }
 
     public static boolean isFileExists(Path file) {
         return Files.exists(file) && Files.isRegularFile(file);
@@ -75,9 +129,185 @@ public class FileUtil {
     /**
      * Writes given string to a file.
      * Will create the file if it does not exist yet.
+     * @see #writeToFile(Path, ContentWriter)
      */
     public static void writeToFile(Path file, String content) throws IOException {
-        Files.write(file, content.getBytes(CHARSET));
+        writeToFile(file, out -> out.write(content.getBytes(CHARSET)));
+    }
+
+    /**
+     * Writes the content written by {@code contentWriter} to a file, through a buffer.
+     * Will create the file if it does not exist yet.
+     * The content is written to a temporary file that then replaces {@code file}, so that {@code file} is never
+     * left partially written. Whether the content is forced to the disk depends on the {@link SyncPolicy}.
+     */
+    public static void writeToFile(Path file, ContentWriter contentWriter) throws IOException {
+        Path directory = file.toAbsolutePath().getParent();
+        Path tempFile = createTempFileFor(file);
+        try {
+            try (FileChannel channel = FileChannel.open(tempFile, StandardOpenOption.WRITE)) {
+                OutputStream out = new BufferedOutputStream(Channels.newOutputStream(channel), BUFFER_SIZE);
+                contentWriter.writeTo(out);
+                out.flush();
+                if (syncPolicy == SyncPolicy.ALWAYS) {
+                    channel.force(true);
+                }
+            }
+            moveAtomically(tempFile, file);
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+
+        if (syncPolicy == SyncPolicy.ALWAYS) {
+            syncDirectory(directory);
+        } else if (syncPolicy == SyncPolicy.BATCHED) {
+            scheduleSync(file);
+        }
+    }
+
+    /**
+     * Creates an empty temporary file next to {@code file}, to be moved in its place once written.
+     * The temporary file gets the permissions of {@code file} if it exists, or the default permissions for new
+     * files otherwise, so that replacing {@code file} does not change its permissions.
+     */
+    private static Path createTempFileFor(Path file) throws IOException {
+        Path absoluteFile = file.toAbsolutePath();
+        Path tempFile;
+        while (true) {
+            tempFile = absoluteFile.resolveSibling(absoluteFile.getFileName() + "."
+                    + Long.toUnsignedString(TEMP_FILE_SUFFIXES.nextLong()) + ".tmp");
+            try {
+                Files.createFile(tempFile);
+                break;
+            } catch (FileAlreadyExistsException e) {
+                // try another name
+            }
+        }
+
+        try {
+            if (Files.exists(absoluteFile)
+                    && Files.getFileStore(tempFile).supportsFileAttributeView(PosixFileAttributeView.class)) {
+                Files.setPosixFilePermissions(tempFile, Files.getPosixFilePermissions(absoluteFile));
+            }
+        } catch (IOException e) {
+            Files.deleteIfExists(tempFile);
+            throw e;
+        }
+        return tempFile;
+    }
+
+    /**
+     * Returns a buffered stream to read a file from. The stream must be closed by the caller.
+     * Assumes file exists
+     */
+    public static InputStream openForReading(Path file) throws IOException {
+        return new BufferedInputStream(Channels.newInputStream(FileChannel.open(file, StandardOpenOption.READ)),
+                BUFFER_SIZE);
+    }
+
+    /**
+     * Appends given string to the end of a file.
+     * Will create the file if it does not exist yet.
+     * Whether the content is forced to the disk depends on the {@link SyncPolicy}.
+     */
+    public static void appendToFile(Path file, String content) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+            writeFully(channel, content);
+            if (syncPolicy == SyncPolicy.ALWAYS) {
+                channel.force(true);
+            }
+        }
+
+        if (syncPolicy == SyncPolicy.BATCHED) {
+            scheduleSync(file);
+        }
+    }
+
+    /**
+     * Returns true if {@code syncIntervalMillis} can be used as the sync interval, which must be positive.
+     */
+    public static boolean isValidSyncInterval(long syncIntervalMillis) {
+        return syncIntervalMillis > 0;
+    }
+
+    /**
+     * Sets how often written files are forced to the disk.
+     * @param syncIntervalMillis The longest time a written file waits to be forced to the disk under
+     *     {@link SyncPolicy#BATCHED}. Must be valid as declared in {@link #isValidSyncInterval(long)}.
+     */
+    public static void setSyncPolicy(SyncPolicy policy, long syncIntervalMillis) {
+        requireNonNull(policy);
+        checkArgument(isValidSyncInterval(syncIntervalMillis), "Sync interval should be positive");
+        syncPolicy = policy;
+        FileUtil.syncIntervalMillis = syncIntervalMillis;
+    }
+
+    /**
+     * Forces every file that is waiting to be synced under {@link SyncPolicy#BATCHED} to the disk now.
+     */
+    public static void syncPendingFiles() {
+        Set<Path> filesToSync;
+        synchronized (pendingSyncs) {
+            filesToSync = new HashSet<>(pendingSyncs);
+            pendingSyncs.clear();
+        }
+
+        for (Path file : filesToSync) {
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+                channel.force(true);
+            } catch (IOException e) {
+                logger.warning("Failed to sync file: " + file + " " + e);
+            }
+        }
+    }
+
+    private static void writeFully(FileChannel channel, String content) throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap(content.getBytes(CHARSET));
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+    private static void moveAtomically(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Forces the renaming of a file in {@code directory} to the disk.
+     * Not every platform allows a directory to be opened, in which case the rename is left to the OS.
+     */
+    private static void syncDirectory(Path directory) {
+        try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException e) {
+            logger.finer("Could not sync directory: " + directory);
+        }
+    }
+
+    private static void scheduleSync(Path file) {
+        synchronized (pendingSyncs) {
+            boolean isSyncScheduled = !pendingSyncs.isEmpty();
+            pendingSyncs.add(file);
+            if (isSyncScheduled) {
+                return;
+            }
+        }
+        getSyncScheduler().schedule(FileUtil::syncPendingFiles, syncIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    private static synchronized ScheduledExecutorService getSyncScheduler() {
+        if (syncScheduler == null) {
+            syncScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "file-sync");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        return syncScheduler;
     }
 
     /**
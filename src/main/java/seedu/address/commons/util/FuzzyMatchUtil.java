@@ -0,0 +1,131 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Helper functions for finding strings that are similar to a given string.
+ */
+public class FuzzyMatchUtil {
+
+    public static final int NOT_WITHIN_DISTANCE = -1;
+
+    /**
+     * Returns the Levenshtein distance between {@code string1} and {@code string2} if it is at most
+     * {@code maxDistance}, else {@code NOT_WITHIN_DISTANCE}.
+     * Only the edits within {@code maxDistance} of the diagonal are computed, and the computation stops as soon as
+     * every path has exceeded {@code maxDistance}.
+     * @param maxDistance cannot be negative
+     */
+    public static int getBoundedDistance(CharSequence string1, CharSequence string2, int maxDistance) {
+        requireAllNonNull(string1, string2);
+        checkArgument(maxDistance >= 0, "maxDistance cannot be negative");
+
+        CharSequence shorter = string1.length() <= string2.length() ? string1 : string2;
+        CharSequence longer = shorter == string1 ? string2 : string1;
+        int shorterLength = shorter.length();
+        int longerLength = longer.length();
+        if (longerLength - shorterLength > maxDistance) {
+            return NOT_WITHIN_DISTANCE;
+        }
+
+        // Distances beyond maxDistance are all stored as exceeded, which also keeps the sums below from overflowing.
+        int exceeded = maxDistance + 1;
+        int[] previous = new int[shorterLength + 1];
+        int[] current = new int[shorterLength + 1];
+        for (int i = 0; i <= shorterLength; i++) {
+            previous[i] = Math.min(i, exceeded);
+        }
+
+        for (int j = 1; j <= longerLength; j++) {
+            char longerChar = longer.charAt(j - 1);
+            int from = Math.max(1, j - maxDistance);
+            int to = Math.min(shorterLength, j + maxDistance);
+
+            current[0] = Math.min(j, exceeded);
+            if (from > 1) {
+                current[from - 1] = exceeded;
+            }
+            int rowMinimum = current[0];
+            for (int i = from; i <= to; i++) {
+                if (shorter.charAt(i - 1) == longerChar) {
+                    current[i] = previous[i - 1];
+                } else {
+                    current[i] = Math.min(exceeded, 1 + Math.min(previous[i - 1],
+                            Math.min(previous[i], current[i - 1])));
+                }
+                rowMinimum = Math.min(rowMinimum, current[i]);
+            }
+            if (to < shorterLength) {
+                current[to + 1] = exceeded;
+            }
+            if (rowMinimum == exceeded) {
+                return NOT_WITHIN_DISTANCE;
+            }
+
+            int[] swap = previous;
+            previous = current;
+            current = swap;
+        }
+
+        return previous[shorterLength] == exceeded ? NOT_WITHIN_DISTANCE : previous[shorterLength];
+    }
+
+    /**
+     * Returns the similarity between {@code string1} and {@code string2} as a double from 0.0 - 1.0, which is the
+     * fraction of the longer string that does not need to be edited to turn one string into the other.
+     * @throws NullPointerException if {@code string1} or {@code string2} is null.
+     */
+    public static double getSimilarity(String string1, String string2) {
+        requireAllNonNull(string1, string2);
+        checkArgument(!string1.isBlank(), "string1 cannot be blank");
+        checkArgument(!string2.isBlank(), "string2 cannot be blank");
+
+        int longerLength = Math.max(string1.length(), string2.length());
+        return toSimilarity(getBoundedDistance(string1, string2, longerLength), longerLength);
+    }
+
+    /**
+     * Returns the index of the first of {@code candidates} whose text is the most similar to {@code target}, as
+     * measured by {@link #getSimilarity(String, String)}.
+     * A candidate is only compared in full while it can still be more similar than the best candidate so far.
+     * @param candidates cannot be empty
+     * @param toText gives the text of a candidate, which cannot be blank
+     */
+    public static <T> int findMostSimilar(List<? extends T> candidates, Function<? super T, String> toText,
+                                          String target) {
+        requireAllNonNull(candidates, toText, target);
+        checkArgument(!candidates.isEmpty(), "candidates cannot be empty");
+        checkArgument(!target.isBlank(), "target cannot be blank");
+
+        int mostSimilarIndex = 0;
+        double highestSimilarity = getSimilarity(toText.apply(candidates.get(0)), target);
+        for (int i = 1; i < candidates.size(); i++) {
+            String text = toText.apply(candidates.get(i));
+            requireNonNull(text);
+            checkArgument(!text.isBlank(), "candidate text cannot be blank");
+
+            int longerLength = Math.max(text.length(), target.length());
+            // One edit more than the most that could still beat the highest similarity, to allow for rounding.
+            int maxDistance = Math.min(longerLength, (int) (longerLength * (1 - highestSimilarity)) + 1);
+            int distance = getBoundedDistance(text, target, maxDistance);
+            if (distance == NOT_WITHIN_DISTANCE) {
+                continue;
+            }
+            double similarity = toSimilarity(distance, longerLength);
+            if (similarity > highestSimilarity) {
+                mostSimilarIndex = i;
+                highestSimilarity = similarity;
+            }
+        }
+        return mostSimilarIndex;
+    }
+
+    private static double toSimilarity(int distance, int longerLength) {
+        return (longerLength - distance) / (double) longerLength;
+    }
+}
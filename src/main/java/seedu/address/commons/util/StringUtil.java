@@ -7,8 +7,6 @@ import java.io.PrintWriter;
 import java.io.StringWriter;
 import java.util.Arrays;
 
-import org.apache.commons.text.similarity.LevenshteinDistance;
-
 /**
  * Helper functions for handling strings.
  */
@@ -76,12 +74,6 @@ public class StringUtil {
         requireNonNull(string1);
         requireNonNull(string2);
 
-        checkArgument(!string1.isBlank(), "string1 cannot be blank");
-        checkArgument(!string2.isBlank(), "string2 cannot be blank");
-
-        Integer longerStringLength = Math.max(string1.length(), string2.length());
-        Integer levenshteinDistance = LevenshteinDistance.getDefaultInstance().apply(string1, string2);
-        Double similarityPercentage = ((longerStringLength - levenshteinDistance) / (double) longerStringLength);
-        return similarityPercentage;
+        return FuzzyMatchUtil.getSimilarity(string1, string2);
     }
 }
@@ -13,6 +13,7 @@ import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.event.EventScheduleViewMode;
 import seedu.address.model.note.Note;
 import seedu.address.model.question.Question;
+import seedu.address.model.question.QuestionSearchHit;
 import seedu.address.model.statistics.Statistics;
 import seedu.address.model.student.Student;
 import seedu.address.storage.printable.NjoyPrintable;
@@ -48,11 +49,11 @@ public interface Logic {
     ObservableList<Question> getAllQuestions();
 
     /**
-     * Returns the list of all searched questions.
+     * Returns the hits of the last question search.
      *
      * @see seedu.address.model.Model#getSearchQuestions()
      */
-    ObservableList<Question> getSearchQuestions();
+    ObservableList<QuestionSearchHit> getSearchQuestions();
     //endregion
 
     //region Statistics
@@ -5,6 +5,8 @@ import static seedu.address.logic.commands.CommandResultType.EXPORT_CALENDAR;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
@@ -20,6 +22,7 @@ import seedu.address.model.Model;
 import seedu.address.model.event.EventScheduleViewMode;
 import seedu.address.model.note.Note;
 import seedu.address.model.question.Question;
+import seedu.address.model.question.QuestionSearchHit;
 import seedu.address.model.statistics.Statistics;
 import seedu.address.model.student.Student;
 import seedu.address.storage.Storage;
@@ -31,11 +34,13 @@ import seedu.address.storage.printable.NjoyPrintable;
 public class LogicManager implements Logic {
 
     public static final String FILE_OPS_ERROR_MESSAGE = "Could not save data to file: ";
+    public static final int COMMANDS_PER_SNAPSHOT = 50;
     private final Logger logger = LogsCenter.getLogger(LogicManager.class);
 
     private final Model model;
     private final Storage storage;
     private final NjoyParser njoyParser;
+    private boolean isSnapshotRequired;
 
     public LogicManager(Model model, Storage storage) {
         this.model = model;
@@ -49,14 +54,19 @@ public class LogicManager implements Logic {
 
         CommandResult commandResult;
         Command command = njoyParser.parseCommand(commandText);
+        long dataVersion = getDataVersion();
         commandResult = command.execute(model);
 
         try {
-            storage.saveStudentRecord(model.getStudentRecord());
-            storage.saveQuestions(model.getSavedQuestions());
-            storage.saveEvents(model.getEventRecord());
-            storage.saveQuizzes(model.getSavedQuizzes());
-            storage.saveNotesRecord(model.getNotesRecord());
+            if (!storage.isCommandJournalEnabled()) {
+                saveSnapshot();
+            } else if (getDataVersion() != dataVersion) {
+                journal(command, commandText);
+            }
+            Optional<IOException> writeFailure = storage.takeWriteFailure();
+            if (writeFailure.isPresent()) {
+                throw writeFailure.get();
+            }
             if (commandResult.getCommandResultType().equals(EXPORT_CALENDAR)) {
                 storage.exportEvent(model.getVEventRecord());
             }
@@ -67,6 +77,83 @@ public class LogicManager implements Logic {
         return commandResult;
     }
 
+    /**
+     * Saves all data to the data files, and clears the command journal since the data files are now up to date.
+     */
+    public void saveSnapshot() throws IOException {
+        storage.saveStudentRecord(model.getStudentRecord());
+        storage.saveQuestions(model.getSavedQuestions());
+        storage.saveEvents(model.getEventRecord());
+        storage.saveQuizzes(model.getSavedQuizzes());
+        storage.saveNotesRecord(model.getNotesRecord());
+        storage.saveGroups(model.getGroups());
+        logger.fine("Writes skipped for unchanged data files: " + storage.getSkippedWriteCount());
+
+        if (storage.isCommandJournalEnabled()) {
+            storage.flush();
+            storage.clearCommandJournal();
+        }
+        isSnapshotRequired = false;
+    }
+
+    /**
+     * Executes the journaled commands again, to redo the changes made since the data files were last saved.
+     * Commands that can no longer be executed are skipped.
+     */
+    public void replayCommandJournal() {
+        List<String> commandTexts;
+        try {
+            commandTexts = storage.readCommandJournal();
+        } catch (IOException e) {
+            logger.warning("Problem while reading the command journal. Changes since the last save will be lost");
+            isSnapshotRequired = true;
+            return;
+        }
+
+        for (String commandText : commandTexts) {
+            try {
+                njoyParser.parseCommand(commandText).execute(model);
+            } catch (ParseException | CommandException | IOException e) {
+                logger.warning("Could not replay journaled command: " + commandText + " " + e.getMessage());
+            }
+        }
+        logger.info("Replayed " + commandTexts.size() + " journaled commands");
+    }
+
+    /**
+     * Ignores the journaled commands, as they were made to data that could not be read.
+     * The next change to the data is saved to the data files instead of being journaled.
+     */
+    public void discardCommandJournal() {
+        logger.warning("Discarding command journal made to data that could not be read");
+        isSnapshotRequired = true;
+    }
+
+    /**
+     * Journals {@code command}, or saves a snapshot in its place if the journal is due for compaction or
+     * the command cannot be replayed.
+     */
+    private void journal(Command command, String commandText) throws IOException {
+        if (isSnapshotRequired || !command.isReplayable()
+                || storage.getCommandJournalSize() + 1 >= COMMANDS_PER_SNAPSHOT) {
+            saveSnapshot();
+            return;
+        }
+        storage.appendToCommandJournal(commandText);
+    }
+
+    /**
+     * Returns a number that changes whenever any of the saved data is modified.
+     */
+    private long getDataVersion() {
+        return model.getStudentRecord().getVersion()
+                + model.getSavedQuestions().getVersion()
+                + model.getEventRecord().getVersion()
+                + model.getSavedQuizzes().getVersion()
+                + model.getNotesRecord().getVersion()
+                + model.getGroups().getVersion();
+    }
+
     @Override
     public void savePrintable(NjoyPrintable printable) throws IOException {
         storage.savePrintable(printable);
@@ -89,7 +176,7 @@ public class LogicManager implements Logic {
     }
 
     @Override
-    public ObservableList<Question> getSearchQuestions() {
+    public ObservableList<QuestionSearchHit> getSearchQuestions() {
         return model.getSearchQuestions();
     }
 
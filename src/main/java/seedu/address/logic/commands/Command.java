@@ -19,4 +19,12 @@ public abstract class Command {
      */
     public abstract CommandResult execute(Model model) throws CommandException, IOException;
 
+    /**
+     * Returns true if executing the command again on the same data always makes the same changes to it.
+     * Only such commands are journaled in place of saving the data they change.
+     */
+    public boolean isReplayable() {
+        return true;
+    }
+
 }
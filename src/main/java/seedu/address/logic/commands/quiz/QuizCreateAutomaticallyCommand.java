@@ -75,6 +75,14 @@ public class QuizCreateAutomaticallyCommand extends QuizCommand {
         }
     }
 
+    /**
+     * Questions are picked at random, so executing the command again may not create the same quiz.
+     */
+    @Override
+    public boolean isReplayable() {
+        return false;
+    }
+
     /**
      * Generates a command execution success message.
      * @return The String representation of a success message.
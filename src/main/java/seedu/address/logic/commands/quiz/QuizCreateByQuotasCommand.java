@@ -0,0 +1,132 @@
+package seedu.address.logic.commands.quiz;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.CommandResultType;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.quiz.QuizBank;
+
+/**
+ * Represents a quiz create command that fills a number of questions of each type automatically.
+ */
+public class QuizCreateByQuotasCommand extends QuizCommand {
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Creates a quiz automatically from question quotas.\n"
+            + "Parameters:\n"
+            + "auto/\n"
+            + "Example: auto/\n\n"
+            + "quizID/ [QUIZ_ID]\n"
+            + "Example: quizID/ CS2103T Finals\n\n"
+            + "numMcq/ [NUM_MCQ_QUESTIONS] (Optional)\n"
+            + "Example: numMcq/ 5 (The quiz will have 5 mcq questions.)\n\n"
+            + "numOpen/ [NUM_OPEN_QUESTIONS] (Optional)\n"
+            + "Example: numOpen/ 3 (The quiz will have 3 open ended questions.)\n\n"
+            + "excludeRecent/ [NUM_QUIZZES] (Optional)\n"
+            + "Example: excludeRecent/ 2 (No question from the last 2 quizzes created will be used.)\n\n";
+
+    protected static final String INVALID_QUOTAS =
+            "Please provide the correct number of mcq and open ended questions, and ask for at least one question!";
+    protected static final String INVALID_NUM_RECENT_QUIZZES =
+            "Please provide the correct number of recent quizzes to leave out, and not leave blanks!";
+    protected static final String QUOTAS_NOT_MET =
+            "You do not have enough questions in the storage that are not in the last %1$d quizzes!"
+            + " Add more questions and try again.";
+
+    private final String quizId;
+    private final int numMcqQuestions;
+    private final int numOpenEndedQuestions;
+    private final int numRecentQuizzes;
+
+    /**
+     * Creates a QuizCreateByQuotasCommand instance with the appropriate attributes.
+     * @param quizId The identifier of the quiz.
+     * @param numMcqQuestions The number of mcq questions to add to the quiz.
+     * @param numOpenEndedQuestions The number of open ended questions to add to the quiz.
+     * @param numRecentQuizzes The number of most recently created quizzes whose questions are left out.
+     */
+    public QuizCreateByQuotasCommand(String quizId, int numMcqQuestions, int numOpenEndedQuestions,
+                                     int numRecentQuizzes) {
+        this.quizId = quizId;
+        this.numMcqQuestions = numMcqQuestions;
+        this.numOpenEndedQuestions = numOpenEndedQuestions;
+        this.numRecentQuizzes = numRecentQuizzes;
+    }
+
+    /**
+     * Executes the user command.
+     * @param model {@code Model} which the command should operate on.
+     * @return The result of the command.
+     * @throws CommandException
+     */
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        if (quizId.equals("")) {
+            throw new CommandException(BLANK_QUIZ_ID);
+        }
+        if (numMcqQuestions == -1 || numOpenEndedQuestions == -1
+                || (numMcqQuestions == 0 && numOpenEndedQuestions == 0)) {
+            throw new CommandException(INVALID_QUOTAS);
+        }
+        if (numRecentQuizzes == -1) {
+            throw new CommandException(INVALID_NUM_RECENT_QUIZZES);
+        }
+
+        if (model.checkQuizExists(quizId)) {
+            throw new CommandException(String.format(QUIZ_ALREADY_EXISTS, quizId));
+        }
+
+        Optional<Duration> solveTime =
+                model.createQuizByQuotas(quizId, numMcqQuestions, numOpenEndedQuestions, numRecentQuizzes);
+        if (solveTime.isPresent()) {
+            QuizBank.setCurrentlyQueriedQuiz(quizId);
+            return new CommandResult(generateSuccessMessage(solveTime.get()), CommandResultType.SHOW_QUIZ_ALL);
+        } else {
+            throw new CommandException(String.format(QUOTAS_NOT_MET, numRecentQuizzes));
+        }
+    }
+
+    /**
+     * Questions are picked at random, so executing the command again may not create the same quiz.
+     */
+    @Override
+    public boolean isReplayable() {
+        return false;
+    }
+
+    /**
+     * Generates a command execution success message.
+     * @param solveTime The time taken to pick the questions.
+     * @return The String representation of a success message.
+     */
+    private String generateSuccessMessage(Duration solveTime) {
+        return "Created quiz: " + quizId + " with " + numMcqQuestions + " mcq and " + numOpenEndedQuestions
+                + " open ended questions in " + solveTime.toMillis() + " ms.";
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        // short circuit if same object
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof QuizCreateByQuotasCommand)) {
+            return false;
+        }
+
+        // state check
+        QuizCreateByQuotasCommand e = (QuizCreateByQuotasCommand) other;
+        return quizId.equals(e.quizId)
+                && numMcqQuestions == e.numMcqQuestions
+                && numOpenEndedQuestions == e.numOpenEndedQuestions
+                && numRecentQuizzes == e.numRecentQuizzes;
+    }
+
+}
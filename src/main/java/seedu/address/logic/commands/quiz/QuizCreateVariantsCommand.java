@@ -0,0 +1,148 @@
+package seedu.address.logic.commands.quiz;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.quiz.QuizManager;
+
+/**
+ * Represents a quiz create command that creates many variants of a quiz automatically.
+ */
+public class QuizCreateVariantsCommand extends QuizCommand {
+
+    public static final int MAX_VARIANTS = 100;
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Creates variants of a quiz automatically.\n"
+            + "Parameters:\n"
+            + "auto/\n"
+            + "Example: auto/\n\n"
+            + "quizID/ [QUIZ_ID]\n"
+            + "Example: quizID/ CS2103T Finals (The variants are named CS2103T Finals 1, CS2103T Finals 2, ...)\n\n"
+            + "numQuestions/ [NUM_QUESTIONS]\n"
+            + "Example: numQuestions/ 10 (Each variant will have 10 questions.)\n\n"
+            + "type/ [TYPE: open, mcq, all]\n"
+            + "Example: type/ open (Specifies the question type for the variants)\n\n"
+            + "numVariants/ [NUM_VARIANTS] (At most " + MAX_VARIANTS + ")\n"
+            + "Example: numVariants/ 30 (30 variants will be created.)\n\n"
+            + "maxOverlap/ [MAX_OVERLAP] (Optional)\n"
+            + "Example: maxOverlap/ 2 (No two variants will have more than 2 questions in common.)\n\n";
+
+    public static final int NO_MAX_OVERLAP = Integer.MAX_VALUE;
+
+    protected static final String INVALID_NUM_VARIANTS =
+            "Please provide a number of variants from 1 to " + MAX_VARIANTS + ", and not leave blanks!";
+    protected static final String INVALID_MAX_OVERLAP =
+            "Please provide the correct maximum overlap, and not leave blanks!";
+    protected static final String VARIANTS_NOT_CREATED =
+            "Unable to create %1$d variants of %2$d questions from the questions in the storage"
+            + " with at most %3$d questions in common! Add more questions or allow more overlap and try again.";
+
+    private final String quizId;
+    private final int numQuestions;
+    private final String type;
+    private final int numVariants;
+    private final int maxOverlap;
+
+    /**
+     * Creates a QuizCreateVariantsCommand instance with the appropriate attributes.
+     * @param quizId The identifier that the variants are named after.
+     * @param numQuestions The number of questions to add to each variant.
+     * @param type The type of questions to add to the variants.
+     * @param numVariants The number of variants to create.
+     * @param maxOverlap The most questions that any two variants can have in common.
+     */
+    public QuizCreateVariantsCommand(String quizId, int numQuestions, String type, int numVariants,
+                                     int maxOverlap) {
+        this.quizId = quizId;
+        this.numQuestions = numQuestions;
+        this.type = type;
+        this.numVariants = numVariants;
+        this.maxOverlap = maxOverlap;
+    }
+
+    /**
+     * Executes the user command.
+     * @param model {@code Model} which the command should operate on.
+     * @return The result of the command.
+     * @throws CommandException
+     */
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        if (quizId.equals("")) {
+            throw new CommandException(BLANK_QUIZ_ID);
+        }
+        if (numQuestions == -1) {
+            throw new CommandException(INVALID_NUM_QUESTIONS);
+        }
+        if (type.equals("")) {
+            throw new CommandException(BLANK_TYPE);
+        }
+        if (!type.equals("mcq") && !type.equals("open") && !type.equals("all")) {
+            throw new CommandException(INVALID_TYPE);
+        }
+        if (numVariants == -1 || numVariants > MAX_VARIANTS) {
+            throw new CommandException(INVALID_NUM_VARIANTS);
+        }
+        if (maxOverlap == -1) {
+            throw new CommandException(INVALID_MAX_OVERLAP);
+        }
+
+        for (int i = 1; i <= numVariants; i++) {
+            String variantQuizId = QuizManager.getVariantQuizId(quizId, i);
+            if (model.checkQuizExists(variantQuizId)) {
+                throw new CommandException(String.format(QUIZ_ALREADY_EXISTS, variantQuizId));
+            }
+        }
+
+        boolean isSuccess = model.createQuizVariants(quizId, numVariants, numQuestions, type, maxOverlap);
+        if (isSuccess) {
+            return new CommandResult(generateSuccessMessage());
+        } else {
+            throw new CommandException(String.format(VARIANTS_NOT_CREATED, numVariants, numQuestions,
+                    Math.min(maxOverlap, numQuestions)));
+        }
+    }
+
+    /**
+     * Questions are picked at random, so executing the command again may not create the same quizzes.
+     */
+    @Override
+    public boolean isReplayable() {
+        return false;
+    }
+
+    /**
+     * Generates a command execution success message.
+     * @return The String representation of a success message.
+     */
+    private String generateSuccessMessage() {
+        return "Created quizzes: " + QuizManager.getVariantQuizId(quizId, 1) + " to "
+                + QuizManager.getVariantQuizId(quizId, numVariants) + " with " + numQuestions
+                + (numQuestions == 1 ? " question each." : " questions each.");
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        // short circuit if same object
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof QuizCreateVariantsCommand)) {
+            return false;
+        }
+
+        // state check
+        QuizCreateVariantsCommand e = (QuizCreateVariantsCommand) other;
+        return quizId.equals(e.quizId)
+                && numQuestions == e.numQuestions
+                && type.equals(e.type)
+                && numVariants == e.numVariants
+                && maxOverlap == e.maxOverlap;
+    }
+
+}
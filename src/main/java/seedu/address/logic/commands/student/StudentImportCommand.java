@@ -0,0 +1,92 @@
+package seedu.address.logic.commands.student;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.core.Messages.STUDENT_FILE_NOT_FOUND;
+import static seedu.address.commons.core.Messages.STUDENT_FILE_NOT_PARSED;
+
+import java.io.IOException;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.List;
+
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.CommandResultType;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.logic.parser.student.StudentCsvParser;
+import seedu.address.model.Model;
+import seedu.address.model.student.Student;
+
+/**
+ * Adds every student in a file to the student record at once.
+ */
+public class StudentImportCommand extends StudentCommand {
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Adds every student in a file\n"
+            + "Parameters:\n"
+            + "file/[FILE_PATH]\n"
+            + "Each line of the .csv file holds a student name, followed by any tags, separated by commas.\n"
+            + "Full Example: student file/students.csv -->"
+            + "adds every student in students.csv\n\n";
+
+    public static final String MESSAGE_SUCCESS = "%1$d students added.";
+    public static final String MESSAGE_DUPLICATE_IMPORTED_STUDENT = "No students were added, as %1$s already exists"
+            + " in the student storage.";
+
+    private final Path filePath;
+    private final StudentCsvParser studentCsvParser = new StudentCsvParser();
+
+    /**
+     * Creates a StudentImportCommand object.
+     *
+     * @param filePath of the .csv file with the students to add, which is read when the command is executed.
+     */
+    public StudentImportCommand(Path filePath) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        List<Student> toAdd = readStudents();
+        for (Student student : toAdd) {
+            if (model.hasStudent(student)) {
+                throw new CommandException(String.format(MESSAGE_DUPLICATE_IMPORTED_STUDENT, student));
+            }
+        }
+        model.addStudents(toAdd);
+        return new CommandResult(String.format(MESSAGE_SUCCESS, toAdd.size()), CommandResultType.SHOW_STUDENT);
+    }
+
+    /**
+     * Returns the students in the file.
+     * @throws CommandException if the file cannot be read, or is not a valid list of students.
+     */
+    private List<Student> readStudents() throws CommandException {
+        try {
+            return studentCsvParser.parseFile(filePath);
+        } catch (NoSuchFileException ex) {
+            throw new CommandException(STUDENT_FILE_NOT_FOUND, ex);
+        } catch (IOException ex) {
+            throw new CommandException(STUDENT_FILE_NOT_PARSED, ex);
+        } catch (ParseException ex) {
+            throw new CommandException(ex.getMessage(), ex);
+        }
+    }
+
+    /**
+     * Returns false, as the file may have changed by the time the command is executed again.
+     */
+    @Override
+    public boolean isReplayable() {
+        return false;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof StudentImportCommand // instanceof handles nulls
+                && filePath.equals(((StudentImportCommand) other).filePath));
+    }
+
+}
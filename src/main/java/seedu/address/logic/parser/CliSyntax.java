@@ -84,5 +84,10 @@ public class CliSyntax {
     public static final Prefix PREFIX_QUIZ_QUESTION_NUMBER = new Prefix("quizQuestionNumber/");
     public static final Prefix PREFIX_SHOW_QUESTIONS = new Prefix("showQuestions");
     public static final Prefix PREFIX_SHOW_ANSWERS = new Prefix("showAnswers");
+    public static final Prefix PREFIX_NUM_VARIANTS = new Prefix("numVariants/");
+    public static final Prefix PREFIX_MAX_OVERLAP = new Prefix("maxOverlap/");
+    public static final Prefix PREFIX_NUM_MCQ = new Prefix("numMcq/");
+    public static final Prefix PREFIX_NUM_OPEN = new Prefix("numOpen/");
+    public static final Prefix PREFIX_EXCLUDE_RECENT = new Prefix("excludeRecent/");
 
 }
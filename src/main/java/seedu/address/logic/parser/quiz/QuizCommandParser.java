@@ -5,11 +5,16 @@ import static org.apache.commons.lang3.StringUtils.isNumeric;
 import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_ADD;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_DELETE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_EXCLUDE_RECENT;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_EXPORT;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_LIST;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_MAX_OVERLAP;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_MODE_AUTO;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_MODE_MANUAL;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NUM_MCQ;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NUM_OPEN;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_NUM_QUESTIONS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NUM_VARIANTS;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_QUESTION_NUMBER;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_QUIZ;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_QUIZ_ID;
@@ -26,7 +31,9 @@ import seedu.address.commons.core.LogsCenter;
 import seedu.address.logic.commands.quiz.QuizAddQuestionCommand;
 import seedu.address.logic.commands.quiz.QuizCommand;
 import seedu.address.logic.commands.quiz.QuizCreateAutomaticallyCommand;
+import seedu.address.logic.commands.quiz.QuizCreateByQuotasCommand;
 import seedu.address.logic.commands.quiz.QuizCreateManuallyCommand;
+import seedu.address.logic.commands.quiz.QuizCreateVariantsCommand;
 import seedu.address.logic.commands.quiz.QuizDeleteQuestionCommand;
 import seedu.address.logic.commands.quiz.QuizExportCommand;
 import seedu.address.logic.commands.quiz.QuizListQuestionsAndAnswersCommand;
@@ -58,9 +65,18 @@ public class QuizCommandParser implements Parser<QuizCommand> {
         ArgumentMultimap argMultimap = ArgumentTokenizer
                 .tokenize(args, PREFIX_ADD, PREFIX_DELETE, PREFIX_QUIZ, PREFIX_MODE_AUTO, PREFIX_MODE_MANUAL,
                         PREFIX_QUIZ_ID, PREFIX_NUM_QUESTIONS, PREFIX_QUESTION_NUMBER, PREFIX_SHOW_QUESTIONS,
-                        PREFIX_SHOW_ANSWERS, PREFIX_EXPORT, PREFIX_QUIZ_QUESTION_NUMBER, PREFIX_TYPE, PREFIX_LIST);
-
-        if (argMultimap.getValue(PREFIX_MODE_AUTO).isPresent()) { // Create auto command
+                        PREFIX_SHOW_ANSWERS, PREFIX_EXPORT, PREFIX_QUIZ_QUESTION_NUMBER, PREFIX_TYPE, PREFIX_LIST,
+                        PREFIX_NUM_VARIANTS, PREFIX_MAX_OVERLAP, PREFIX_NUM_MCQ, PREFIX_NUM_OPEN,
+                        PREFIX_EXCLUDE_RECENT);
+
+        if (argMultimap.getValue(PREFIX_MODE_AUTO).isPresent()
+                && argMultimap.getValue(PREFIX_NUM_VARIANTS).isPresent()) { // Create variants command
+            return createVariantsCommand(argMultimap);
+        } else if (argMultimap.getValue(PREFIX_MODE_AUTO).isPresent()
+                && (argMultimap.getValue(PREFIX_NUM_MCQ).isPresent()
+                || argMultimap.getValue(PREFIX_NUM_OPEN).isPresent())) { // Create by quotas command
+            return createByQuotasCommand(argMultimap);
+        } else if (argMultimap.getValue(PREFIX_MODE_AUTO).isPresent()) { // Create auto command
             return createAutomaticallyCommand(argMultimap);
         } else if (argMultimap.getValue(PREFIX_MODE_MANUAL).isPresent()) { // Create manual command
             return createManuallyCommand(argMultimap);
@@ -108,6 +124,58 @@ public class QuizCommandParser implements Parser<QuizCommand> {
         return new QuizCreateAutomaticallyCommand(quizId, intNumQuestions, typeName);
     }
 
+    /**
+     * Creates variants of a quiz by number of variants, number of questions and quiz ID.
+     * @param argMultimap Arguments Multimap.
+     * @return Quiz create variants command if the parsing was successful.
+     * @throws ParseException if the input was incorrectly formatted.
+     */
+    private QuizCreateVariantsCommand createVariantsCommand(ArgumentMultimap argMultimap) throws ParseException {
+        if (!arePrefixesPresent(argMultimap, PREFIX_QUIZ_ID, PREFIX_NUM_QUESTIONS, PREFIX_TYPE, PREFIX_NUM_VARIANTS)
+                || !argMultimap.getPreamble().isEmpty()) {
+            logger.info("missing fields in the create quiz variants command, command error");
+            throw new ParseException(
+                    String
+                            .format(MESSAGE_INVALID_COMMAND_FORMAT, QuizCreateVariantsCommand.MESSAGE_USAGE));
+        }
+
+        String quizId = argMultimap.getValue(PREFIX_QUIZ_ID).orElse("");
+        int intNumQuestions = parseCount(argMultimap.getValue(PREFIX_NUM_QUESTIONS).orElse(""));
+        String typeName = argMultimap.getValue(PREFIX_TYPE).orElse("");
+        int intNumVariants = parseCount(argMultimap.getValue(PREFIX_NUM_VARIANTS).orElse(""));
+        if (intNumVariants == 0 || intNumVariants > QuizCreateVariantsCommand.MAX_VARIANTS) {
+            intNumVariants = -1;
+        }
+        int intMaxOverlap = argMultimap.getValue(PREFIX_MAX_OVERLAP).isPresent()
+                ? parseCount(argMultimap.getValue(PREFIX_MAX_OVERLAP).get())
+                : QuizCreateVariantsCommand.NO_MAX_OVERLAP;
+
+        return new QuizCreateVariantsCommand(quizId, intNumQuestions, typeName, intNumVariants, intMaxOverlap);
+    }
+
+    /**
+     * Creates a quiz by number of questions of each type and quiz ID.
+     * @param argMultimap Arguments Multimap.
+     * @return Quiz create by quotas command if the parsing was successful.
+     * @throws ParseException if the input was incorrectly formatted.
+     */
+    private QuizCreateByQuotasCommand createByQuotasCommand(ArgumentMultimap argMultimap) throws ParseException {
+        if (!arePrefixesPresent(argMultimap, PREFIX_QUIZ_ID)
+                || !argMultimap.getPreamble().isEmpty()) {
+            logger.info("missing fields in the create quiz by quotas command, command error");
+            throw new ParseException(
+                    String
+                            .format(MESSAGE_INVALID_COMMAND_FORMAT, QuizCreateByQuotasCommand.MESSAGE_USAGE));
+        }
+
+        String quizId = argMultimap.getValue(PREFIX_QUIZ_ID).orElse("");
+        int intNumMcq = parseCount(argMultimap.getValue(PREFIX_NUM_MCQ).orElse("0"));
+        int intNumOpen = parseCount(argMultimap.getValue(PREFIX_NUM_OPEN).orElse("0"));
+        int intNumRecentQuizzes = parseCount(argMultimap.getValue(PREFIX_EXCLUDE_RECENT).orElse("0"));
+
+        return new QuizCreateByQuotasCommand(quizId, intNumMcq, intNumOpen, intNumRecentQuizzes);
+    }
+
     /**
      * Creates a quiz by specifying individual questions and quiz ID.
      * @param argMultimap Arguments Multimap.
@@ -284,6 +352,20 @@ public class QuizCommandParser implements Parser<QuizCommand> {
     }
 
 
+    /**
+     * Returns the count in {@code count}, or -1 if it is not a count.
+     */
+    private static int parseCount(String count) {
+        if (count.equals("") || !isNumeric(count)) {
+            return -1;
+        }
+        try {
+            return Integer.parseInt(count);
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
     /**
      * Returns true if none of the prefixes contains empty {@code Optional} values in the given
      * {@code ArgumentMultimap}.
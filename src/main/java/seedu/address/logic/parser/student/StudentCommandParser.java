@@ -4,10 +4,12 @@ import static java.util.Objects.requireNonNull;
 
 import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_DELETE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FILEPATH;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_LIST;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_STUDENT;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
 
+import java.nio.file.Path;
 import java.util.Set;
 import java.util.logging.Logger;
 import java.util.stream.Stream;
@@ -20,6 +22,7 @@ import seedu.address.logic.commands.student.StudentCommand;
 import seedu.address.logic.commands.student.StudentDeleteCommand;
 import seedu.address.logic.commands.student.StudentEditCommand;
 import seedu.address.logic.commands.student.StudentEditCommand.EditStudentDescriptor;
+import seedu.address.logic.commands.student.StudentImportCommand;
 import seedu.address.logic.commands.student.StudentListCommand;
 import seedu.address.logic.parser.ArgumentMultimap;
 import seedu.address.logic.parser.ArgumentTokenizer;
@@ -38,6 +41,8 @@ public class StudentCommandParser implements Parser<StudentCommand> {
 
     private static final Logger logger = LogsCenter.getLogger(StudentCommandParser.class);
 
+    private StudentCsvParser studentCsvParser = new StudentCsvParser();
+
     /**
      * Parses the given {@code String} of arguments in the context of the CreationStudentCommand
      * and returns an CreateStudentCommand object for execution.
@@ -50,7 +55,7 @@ public class StudentCommandParser implements Parser<StudentCommand> {
 
         ArgumentMultimap argMultimap = ArgumentTokenizer
                 .tokenize(args, PREFIX_STUDENT, PREFIX_LIST,
-                        PREFIX_DELETE, PREFIX_TAG);
+                        PREFIX_DELETE, PREFIX_TAG, PREFIX_FILEPATH);
 
         boolean isEdit = false;
         Index index = Index.fromZeroBased(0);
@@ -74,6 +79,9 @@ public class StudentCommandParser implements Parser<StudentCommand> {
         if (argMultimap.getValue(PREFIX_DELETE).isPresent()) { // Delete command
             return deleteCommand(index, argMultimap);
         }
+        if (argMultimap.getValue(PREFIX_FILEPATH).isPresent()) { // Import command
+            return importCommand(argMultimap);
+        }
         if (!isEdit) { // Create command
             return addCommand(argMultimap);
         }
@@ -110,6 +118,23 @@ public class StudentCommandParser implements Parser<StudentCommand> {
         return new StudentDeleteCommand(index);
     }
 
+    /**
+     * Adds every student in a file to student list.
+     *
+     * @param argMultimap Arguments Multimap.
+     * @return Student import command that reads the file when it is executed.
+     * @throws ParseException if the input was incorrectly formatted, or the file path is not a .csv file.
+     */
+    private StudentImportCommand importCommand(ArgumentMultimap argMultimap) throws ParseException {
+        if (!argMultimap.getPreamble().isEmpty() || arePrefixesPresent(argMultimap, PREFIX_STUDENT)) {
+            logger.info("extra fields in the student import command.");
+            throw new ParseException(
+                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, StudentImportCommand.MESSAGE_USAGE));
+        }
+        Path filePath = studentCsvParser.parseFilePath(argMultimap.getValue(PREFIX_FILEPATH).get());
+        return new StudentImportCommand(filePath);
+    }
+
     /**
      * Edits student in student list.
      *
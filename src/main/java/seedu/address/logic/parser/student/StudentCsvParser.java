@@ -0,0 +1,139 @@
+package seedu.address.logic.parser.student;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.core.Messages.STUDENT_FILE_DUPLICATE_STUDENT;
+import static seedu.address.commons.core.Messages.STUDENT_FILE_ILLEGAL_INPUT;
+import static seedu.address.commons.core.Messages.STUDENT_FILE_NOT_FOUND;
+import static seedu.address.commons.core.Messages.STUDENT_FILE_TYPE_ISSUE;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.logic.parser.ParserUtil;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.student.Name;
+import seedu.address.model.student.Student;
+import seedu.address.model.tag.Tag;
+
+/**
+ * A data parser that parses comma-separated values(.csv) files containing one student per line.
+ * The first value of a line is the name of the student, and any further values are the tags of the student.
+ * A value may be enclosed in double quotes, in which case it may contain commas, and a double quote in it is
+ * written as two double quotes. Blank lines are ignored.
+ */
+public class StudentCsvParser {
+
+    public static final String MESSAGE_UNCLOSED_QUOTE = "A value that starts with a double quote (\") must end "
+            + "with one.";
+
+    private static final Logger logger = LogsCenter.getLogger(StudentCsvParser.class);
+
+    private static final char SEPARATOR = ',';
+    private static final char QUOTE = '"';
+
+    /**
+     * Returns the path of a student file, without reading the file.
+     * @param filePath file path of relevant data file.
+     * @throws ParseException when the file path is not a valid path to a .csv file.
+     */
+    public Path parseFilePath(String filePath) throws ParseException {
+        requireNonNull(filePath);
+        if (!filePath.trim().endsWith(".csv")) {
+            logger.info("Input file is not supported. Try files with .csv extension");
+            throw new ParseException(STUDENT_FILE_TYPE_ISSUE);
+        }
+        try {
+            return Paths.get(filePath.trim());
+        } catch (InvalidPathException ex) {
+            logger.info("Input file is not found");
+            throw new ParseException(STUDENT_FILE_NOT_FOUND);
+        }
+    }
+
+    /**
+     * Returns the students in the file at {@code filePath}, in the order they appear in the file.
+     * Every line is validated before any student is returned.
+     * @return the students in the file.
+     * @throws IOException when the file cannot be read.
+     * @throws ParseException when any line is not a valid and distinct student.
+     */
+    public List<Student> parseFile(Path filePath) throws IOException, ParseException {
+        requireNonNull(filePath);
+        List<String> lines = Files.readAllLines(filePath, StandardCharsets.UTF_8);
+        List<Student> students = new ArrayList<>();
+        Set<Name> names = new HashSet<>();
+        for (int i = 0; i < lines.size(); i++) {
+            if (lines.get(i).isBlank()) {
+                continue;
+            }
+            int lineNumber = i + 1;
+            Student student = parseStudent(lines.get(i), lineNumber);
+            if (!names.add(student.getName())) {
+                logger.info("Student file repeats a student");
+                throw new ParseException(String.format(STUDENT_FILE_DUPLICATE_STUDENT, lineNumber, student));
+            }
+            students.add(student);
+        }
+        return students;
+    }
+
+    /**
+     * Parses one line of the file into a student.
+     * @throws ParseException when the line cannot be split into values, or the name or a tag on it is invalid.
+     */
+    private Student parseStudent(String line, int lineNumber) throws ParseException {
+        try {
+            List<String> values = splitValues(line);
+            Name name = ParserUtil.parseStudentName(values.get(0));
+            Set<Tag> tags = ParserUtil.parseTags(values.subList(1, values.size()));
+            return new Student(name, tags);
+        } catch (ParseException ex) {
+            logger.info("Student file has illegal input");
+            throw new ParseException(String.format(STUDENT_FILE_ILLEGAL_INPUT, lineNumber, ex.getMessage()));
+        }
+    }
+
+    /**
+     * Splits a line into its comma-separated values, removing the double quotes around quoted values.
+     * Empty values at the end of the line are left out.
+     * @throws ParseException when a quoted value is not closed.
+     */
+    private List<String> splitValues(String line) throws ParseException {
+        List<String> values = new ArrayList<>();
+        StringBuilder value = new StringBuilder();
+        boolean isQuoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (isQuoted && c == QUOTE && i + 1 < line.length() && line.charAt(i + 1) == QUOTE) {
+                value.append(QUOTE);
+                i++;
+            } else if (c == QUOTE) {
+                isQuoted = !isQuoted;
+            } else if (c == SEPARATOR && !isQuoted) {
+                values.add(value.toString());
+                value.setLength(0);
+            } else {
+                value.append(c);
+            }
+        }
+        if (isQuoted) {
+            throw new ParseException(MESSAGE_UNCLOSED_QUOTE);
+        }
+        values.add(value.toString());
+
+        while (values.size() > 1 && values.get(values.size() - 1).isEmpty()) {
+            values.remove(values.size() - 1);
+        }
+        return values;
+    }
+}
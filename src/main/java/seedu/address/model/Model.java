@@ -2,6 +2,7 @@ package seedu.address.model;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Comparator;
@@ -18,9 +19,11 @@ import seedu.address.commons.core.index.Index;
 import seedu.address.model.event.EventScheduleViewMode;
 import seedu.address.model.event.ReadOnlyEvents;
 import seedu.address.model.event.ReadOnlyVEvents;
+import seedu.address.model.group.ReadOnlyGroups;
 import seedu.address.model.note.Note;
 import seedu.address.model.note.ReadOnlyNotesRecord;
 import seedu.address.model.question.Question;
+import seedu.address.model.question.QuestionSearchHit;
 import seedu.address.model.question.ReadOnlyQuestions;
 import seedu.address.model.quiz.ReadOnlyQuizzes;
 import seedu.address.model.statistics.ReadOnlyStatisticsRecord;
@@ -121,6 +124,11 @@ public interface Model {
      */
     void addStudent(Student student);
 
+    /**
+     * Adds the specified students to the end of the list of students, in a single update of the list.
+     */
+    void addStudents(List<Student> students);
+
     /**
      * Gets the index of a specified student.
      */
@@ -204,6 +212,11 @@ public interface Model {
      * Gets group size
      */
     int getGroupSize(String groupId);
+
+    /**
+     * Returns the list of groups
+     */
+    ReadOnlyGroups getGroups();
     //endregion
 
     //region Questions
@@ -224,9 +237,9 @@ public interface Model {
     ObservableList<Question> getAllQuestions();
 
     /**
-     * Returns the list of search questions.
+     * Returns the hits of the last question search.
      */
-    ObservableList<Question> getSearchQuestions();
+    ObservableList<QuestionSearchHit> getSearchQuestions();
 
     /**
      * Returns the question based on its Index.
@@ -277,6 +290,20 @@ public interface Model {
      */
     boolean createQuizAutomatically(String quizId, int numQuestions, String type);
 
+    /**
+     * Creates {@code numVariants} variants of a quiz automatically, no two of which have more than
+     * {@code maxOverlap} questions in common.
+     */
+    boolean createQuizVariants(String quizId, int numVariants, int numQuestions, String type, int maxOverlap);
+
+    /**
+     * Creates a quiz automatically with {@code numMcqQuestions} mcq and {@code numOpenEndedQuestions} open ended
+     * questions, none of which are in the {@code numRecentQuizzes} most recently created quizzes.
+     * Returns the time taken to pick the questions if the quiz has been created.
+     */
+    Optional<Duration> createQuizByQuotas(String quizId, int numMcqQuestions, int numOpenEndedQuestions,
+                                          int numRecentQuizzes);
+
     /**
      * Adds a question to a quiz. {@code quizId} Must already exist in the quiz bank. {@code
      * questionNumber} Must already exist in the question bank. {@code quizQuestionNumber} Must
@@ -5,6 +5,7 @@ import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Comparator;
@@ -28,10 +29,12 @@ import seedu.address.model.event.ReadOnlyEvents;
 import seedu.address.model.event.ReadOnlyVEvents;
 import seedu.address.model.group.Group;
 import seedu.address.model.group.ListOfGroups;
+import seedu.address.model.group.ReadOnlyGroups;
 import seedu.address.model.note.Note;
 import seedu.address.model.note.NotesRecord;
 import seedu.address.model.note.ReadOnlyNotesRecord;
 import seedu.address.model.question.Question;
+import seedu.address.model.question.QuestionSearchHit;
 import seedu.address.model.question.ReadOnlyQuestions;
 import seedu.address.model.question.SavedQuestions;
 import seedu.address.model.quiz.ReadOnlyQuizzes;
@@ -63,7 +66,7 @@ public class ModelManager implements Model {
     private final FilteredList<Note> filteredNotes;
 
     /**
-     * Initializes a ModelManager with the given addressBook and userPrefs.
+     * Initializes a ModelManager with the given addressBook and userPrefs, and no groups.
      */
     public ModelManager(ReadOnlyStudentRecord studentRecord,
                         ReadOnlyQuestions savedQuestions,
@@ -72,14 +75,29 @@ public class ModelManager implements Model {
                         ReadOnlyEvents readEvents,
                         ReadOnlyStatisticsRecord statisticsRecord,
                         ReadOnlyUserPrefs userPrefs) {
+        this(studentRecord, savedQuestions, savedQuizzes, notesRecord, readEvents, statisticsRecord,
+                new ListOfGroups(), userPrefs);
+    }
+
+    /**
+     * Initializes a ModelManager with the given addressBook, groups and userPrefs.
+     */
+    public ModelManager(ReadOnlyStudentRecord studentRecord,
+                        ReadOnlyQuestions savedQuestions,
+                        ReadOnlyQuizzes savedQuizzes,
+                        ReadOnlyNotesRecord notesRecord,
+                        ReadOnlyEvents readEvents,
+                        ReadOnlyStatisticsRecord statisticsRecord,
+                        ReadOnlyGroups groups,
+                        ReadOnlyUserPrefs userPrefs) {
         super();
         requireAllNonNull(studentRecord, savedQuestions,
-                savedQuizzes, notesRecord, statisticsRecord, userPrefs);
+                savedQuizzes, notesRecord, statisticsRecord, groups, userPrefs);
 
         logger.fine(
                 "Initializing with NJoy application with user prefs " + userPrefs);
 
-        this.groupList = new ListOfGroups();
+        this.groupList = new ListOfGroups(groups);
         this.userPrefs = new UserPrefs(userPrefs);
         this.studentRecord = new StudentRecord(studentRecord);
         this.savedQuestions = new SavedQuestions(savedQuestions);
@@ -203,13 +221,16 @@ public class ModelManager implements Model {
 
     /**
      * Sets student into the student record with a specific index.
+     * The student it replaces is also replaced in the groups it is in.
      * @param index Index of the student that the user wants to set.
      * @param student Student to be inserted into the student record.
      */
     @Override
     public void setStudentWithIndex(Index index, Student student) {
         requireAllNonNull(index, student);
+        Student target = studentRecord.getStudent(index.getZeroBased());
         studentRecord.setStudentWithIndex(index, student);
+        groupList.setStudentInGroups(target, student);
     }
 
     /**
@@ -232,13 +253,14 @@ public class ModelManager implements Model {
         this.studentRecord.resetData(studentRecord);
     }
     /**
-     * Deletes a student in the student list.
+     * Deletes a student in the student list, and from the groups the student is in.
      *
      * @param target Student to be deleted.
      */
     @Override
     public void deleteStudent(Student target) {
         studentRecord.removeStudent(target);
+        groupList.removeStudentFromGroups(target);
     }
 
     /**
@@ -253,7 +275,19 @@ public class ModelManager implements Model {
     }
 
     /**
-     * Edits a student that is currently in the student list to a new student.
+     * Adds students to the end of the student list, in a single update of the list.
+     *
+     * @param students Students to be added.
+     */
+    @Override
+    public void addStudents(List<Student> students) {
+        studentRecord.addStudents(students);
+        updateFilteredStudentList(PREDICATE_SHOW_ALL_STUDENTS);
+    }
+
+    /**
+     * Edits a student that is currently in the student list to a new student, in the student list and in the
+     * groups the student is in.
      *
      * @param target        Student to be edited.
      * @param editedStudent New student.
@@ -262,6 +296,7 @@ public class ModelManager implements Model {
     public void setStudent(Student target, Student editedStudent) {
         requireAllNonNull(target, editedStudent);
         studentRecord.setStudent(target, editedStudent);
+        groupList.setStudentInGroups(target, editedStudent);
     }
 
     /**
@@ -304,24 +339,14 @@ public class ModelManager implements Model {
     public boolean addStudentToGroup(String groupId, int studentNumber, int groupIndexNumber) {
         int studentIndex = studentNumber - 1;
         Student student = filteredStudents.get(studentIndex);
-
-        int groupIndex = groupList.getGroupIndex(groupId);
-        if (groupIndex != -1) {
-            Group group = groupList.getGroup(groupIndex);
-            return group.addStudent(groupIndexNumber, student);
-        }
-        return false;
+        return groupList.addStudentToGroup(groupId, groupIndexNumber, student);
     }
 
     /**
      * Removes a student from a group.
      */
     public void removeStudentFromGroup(String groupId, int groupIndexNumber) {
-        int groupIndex = groupList.getGroupIndex(groupId);
-        if (groupIndex != -1) {
-            Group group = groupList.getGroup(groupIndex);
-            group.removeStudent(groupIndexNumber);
-        }
+        groupList.removeStudentFromGroup(groupId, groupIndexNumber);
     }
 
     /**
@@ -331,13 +356,7 @@ public class ModelManager implements Model {
      * @return size of the group queried.
      */
     public int getGroupSize(String groupId) {
-        int groupSize = 0;
-        int groupIndex = groupList.getGroupIndex(groupId);
-        if (groupIndex != -1) {
-            Group group = groupList.getGroup(groupIndex);
-            groupSize = group.getObservableListStudents().size();
-        }
-        return groupSize;
+        return groupList.getGroup(groupId).getObservableListStudents().size();
     }
 
     /**
@@ -347,13 +366,7 @@ public class ModelManager implements Model {
      */
     public ObservableList<Student> getObservableListStudentsFromGroup() {
         String groupId = ListOfGroups.getCurrentlyQueriedGroup();
-        int groupIndex = groupList.getGroupIndex(groupId);
-        ObservableList<Student> studentList = null;
-        if (groupIndex != -1) {
-            Group group = groupList.getGroup(groupIndex);
-            studentList = group.getObservableListStudents();
-        }
-        return studentList;
+        return groupList.getGroup(groupId).getObservableListStudents();
     }
 
     /**
@@ -362,15 +375,7 @@ public class ModelManager implements Model {
      * @param groupId ID of the specified group.
      */
     public boolean checkGroupExists(String groupId) {
-        boolean groupExists = false;
-        ArrayList<Group> groupArrayList = groupList.getGroupList();
-        for (Group group : groupArrayList) {
-            if (group.getGroupId().equals((groupId))) {
-                groupExists = true;
-                break;
-            }
-        }
-        return groupExists;
+        return groupList.hasGroup(groupId);
     }
 
     /**
@@ -381,15 +386,7 @@ public class ModelManager implements Model {
      * @return True if student exists in thr group.
      */
     public boolean checkStudentExistInGroup(String groupId, Student student) {
-        ArrayList<Group> groupArrayList = groupList.getGroupList();
-        Group queriedGroup = null;
-        for (Group group : groupArrayList) {
-            if (group.getGroupId().equals(groupId)) {
-                queriedGroup = group;
-                break;
-            }
-        }
-        return queriedGroup.checkStudentExist(student);
+        return groupList.isStudentInGroup(groupId, student);
     }
 
 
@@ -402,6 +399,11 @@ public class ModelManager implements Model {
         groupList.exportGroup(groupId);
     }
 
+    @Override
+    public ReadOnlyGroups getGroups() {
+        return groupList;
+    }
+
     //endregion
 
     //region Questions
@@ -421,7 +423,7 @@ public class ModelManager implements Model {
     }
 
     @Override
-    public ObservableList<Question> getSearchQuestions() {
+    public ObservableList<QuestionSearchHit> getSearchQuestions() {
         return savedQuestions.getSearchQuestions();
     }
 
@@ -497,6 +499,20 @@ public class ModelManager implements Model {
         return savedQuizzes.createQuizAutomatically(quizId, numQuestions, type, savedQuestions);
     }
 
+    @Override
+    public boolean createQuizVariants(String quizId, int numVariants, int numQuestions, String type,
+                                      int maxOverlap) {
+        return savedQuizzes.createQuizVariants(quizId, numVariants, numQuestions, type, maxOverlap,
+                savedQuestions);
+    }
+
+    @Override
+    public Optional<Duration> createQuizByQuotas(String quizId, int numMcqQuestions, int numOpenEndedQuestions,
+                                                 int numRecentQuizzes) {
+        return savedQuizzes.createQuizByQuotas(quizId, numMcqQuestions, numOpenEndedQuestions, numRecentQuizzes,
+                savedQuestions);
+    }
+
     @Override
     public boolean addQuizQuestion(String quizId, int questionNumber, int quizQuestionNumber) {
         return savedQuizzes.addQuizQuestion(quizId, questionNumber, quizQuestionNumber, savedQuestions);
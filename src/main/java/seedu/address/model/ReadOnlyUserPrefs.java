@@ -2,6 +2,7 @@ package seedu.address.model;
 
 import java.nio.file.Path;
 
+import seedu.address.commons.core.DataFileFormat;
 import seedu.address.commons.core.GuiSettings;
 
 /**
@@ -19,4 +20,10 @@ public interface ReadOnlyUserPrefs {
 
     Path getNotesRecordFilePath();
 
+    Path getGroupsFilePath();
+
+    Path getCommandJournalFilePath();
+
+    DataFileFormat getDataFileFormat();
+
 }
@@ -6,6 +6,7 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Objects;
 
+import seedu.address.commons.core.DataFileFormat;
 import seedu.address.commons.core.GuiSettings;
 
 /**
@@ -20,6 +21,9 @@ public class UserPrefs implements ReadOnlyUserPrefs {
     private Path eventRecordFilePath = Paths.get("data" , "events.json");
     private Path savedQuizzesFilePath = Paths.get("data" , "quizzes.json");
     private Path notesRecordFilePath = Paths.get("data", "notes.json");
+    private Path groupsFilePath = Paths.get("data", "groups.json");
+    private Path commandJournalFilePath = Paths.get("data", "journal.txt");
+    private DataFileFormat dataFileFormat = DataFileFormat.JSON;
 
 
     /**
@@ -45,6 +49,9 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         setStudentRecordFilePath(newUserPrefs.getStudentRecordFilePath());
         setSavedQuizzesFilePath(newUserPrefs.getSavedQuizzesFilePath());
         setNotesRecordFilePath(newUserPrefs.getNotesRecordFilePath());
+        setGroupsFilePath(newUserPrefs.getGroupsFilePath());
+        setCommandJournalFilePath(newUserPrefs.getCommandJournalFilePath());
+        setDataFileFormat(newUserPrefs.getDataFileFormat());
     }
 
     public GuiSettings getGuiSettings() {
@@ -112,6 +119,17 @@ public class UserPrefs implements ReadOnlyUserPrefs {
     }
     //endregion
 
+    //region Groups
+    public Path getGroupsFilePath() {
+        return groupsFilePath;
+    }
+
+    public void setGroupsFilePath(Path groupsFilePath) {
+        requireNonNull(groupsFilePath);
+        this.groupsFilePath = groupsFilePath;
+    }
+    //endregion
+
     //region EventRecord
     public Path getEventRecordFilePath() {
         return eventRecordFilePath;
@@ -123,6 +141,28 @@ public class UserPrefs implements ReadOnlyUserPrefs {
     }
     //endregion
 
+    //region DataFileFormat
+    public DataFileFormat getDataFileFormat() {
+        return dataFileFormat;
+    }
+
+    public void setDataFileFormat(DataFileFormat dataFileFormat) {
+        requireNonNull(dataFileFormat);
+        this.dataFileFormat = dataFileFormat;
+    }
+    //endregion
+
+    //region CommandJournal
+    public Path getCommandJournalFilePath() {
+        return commandJournalFilePath;
+    }
+
+    public void setCommandJournalFilePath(Path commandJournalFilePath) {
+        requireNonNull(commandJournalFilePath);
+        this.commandJournalFilePath = commandJournalFilePath;
+    }
+    //endregion
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -143,7 +183,8 @@ public class UserPrefs implements ReadOnlyUserPrefs {
     @Override
     public int hashCode() {
         return Objects.hash(guiSettings, addressBookFilePath, studentRecordFilePath,
-                savedQuestionsFilePath, savedQuizzesFilePath, notesRecordFilePath);
+                savedQuestionsFilePath, savedQuizzesFilePath, notesRecordFilePath, groupsFilePath,
+                commandJournalFilePath, dataFileFormat);
     }
 
     @Override
@@ -155,6 +196,9 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         sb.append("\nLocal questions data file location : " + savedQuestionsFilePath);
         sb.append("\nLocal quizzes data file location : " + savedQuizzesFilePath);
         sb.append("\nLocal notes data file location : " + notesRecordFilePath);
+        sb.append("\nLocal groups data file location : " + groupsFilePath);
+        sb.append("\nLocal command journal file location : " + commandJournalFilePath);
+        sb.append("\nQuestion and student data file format : " + dataFileFormat);
         return sb.toString();
     }
 
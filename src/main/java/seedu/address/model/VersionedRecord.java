@@ -0,0 +1,15 @@
+package seedu.address.model;
+
+/**
+ * A record whose modifications are tracked by a version number.
+ * The version changes every time the contents of the record are modified, so two reads of the same
+ * version are guaranteed to see the same data.
+ */
+public interface VersionedRecord {
+
+    /**
+     * Returns the current version of the record.
+     */
+    long getVersion();
+
+}
@@ -4,7 +4,7 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 import static seedu.address.commons.util.EventUtil.eventToVEventMapper;
 import static seedu.address.commons.util.EventUtil.isSameVEvent;
-import static seedu.address.commons.util.StringUtil.calculateStringSimilarity;
+import static seedu.address.commons.util.FuzzyMatchUtil.findMostSimilar;
 
 import java.util.ArrayList;
 import java.util.Iterator;
@@ -13,6 +13,7 @@ import java.util.List;
 import org.apache.commons.math3.util.Pair;
 
 import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import jfxtras.icalendarfx.components.VEvent;
 import seedu.address.commons.core.index.Index;
@@ -29,8 +30,10 @@ public class EventRecord implements ReadOnlyVEvents, ReadOnlyEvents, Iterable<VE
     private final ObservableList<VEvent> vEvents = FXCollections.observableArrayList();
     private final ObservableList<VEvent> vEventsUnmodifiableList =
             FXCollections.unmodifiableObservableList(vEvents);
+    private long version;
 
     public EventRecord() {
+        vEvents.addListener((ListChangeListener<VEvent>) change -> version++);
     }
 
     /**
@@ -211,23 +214,9 @@ public class EventRecord implements ReadOnlyVEvents, ReadOnlyEvents, Iterable<VE
         if (vEvents.isEmpty()) {
             throw new VEventNotFoundException();
         }
-        VEvent mostSimilarVEvent = vEvents.get(0);
-        Integer mostSimilarIndex = 0;
-        double highestSimilarityPercentage =
-                calculateStringSimilarity(mostSimilarVEvent.getSummary().getValue(), desiredEventName);
-
-        for (int i = 1; i < vEvents.size(); i++) {
-            VEvent currentEvent = vEvents.get(i);
-            double eventNameSimilarity =
-                    calculateStringSimilarity(currentEvent.getSummary().getValue(), desiredEventName);
-            if (eventNameSimilarity > highestSimilarityPercentage) {
-                mostSimilarIndex = i;
-                mostSimilarVEvent = currentEvent;
-                highestSimilarityPercentage = eventNameSimilarity;
-            }
-        }
+        int mostSimilarIndex = findMostSimilar(vEvents, vEvent -> vEvent.getSummary().getValue(), desiredEventName);
 
-        return new Pair(Index.fromZeroBased(mostSimilarIndex), mostSimilarVEvent);
+        return new Pair(Index.fromZeroBased(mostSimilarIndex), vEvents.get(mostSimilarIndex));
     }
 
 
@@ -247,6 +236,11 @@ public class EventRecord implements ReadOnlyVEvents, ReadOnlyEvents, Iterable<VE
         return true;
     }
 
+    @Override
+    public long getVersion() {
+        return version;
+    }
+
     @Override
     public Iterator<VEvent> iterator() {
         return vEvents.iterator();
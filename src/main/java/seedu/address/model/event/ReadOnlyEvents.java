@@ -2,9 +2,11 @@ package seedu.address.model.event;
 
 import java.util.List;
 
+import seedu.address.model.VersionedRecord;
+
 /**
  * Unmodifiable view of an events
  */
-public interface ReadOnlyEvents {
+public interface ReadOnlyEvents extends VersionedRecord {
     List<Event> getAllEvents();
 }
@@ -1,7 +1,6 @@
 package seedu.address.model.group;
 
 import javafx.collections.ObservableList;
-import seedu.address.model.student.Name;
 import seedu.address.model.student.Student;
 import seedu.address.model.student.UniqueStudentList;
 import seedu.address.storage.export.WordDocExporter;
@@ -107,13 +106,7 @@ public class Group {
      * @return True if student exists in the group.
      */
     public boolean checkStudentExist(Student student) {
-        Name name = student.getName();
-        for (Student checkStudent : studentList) {
-            if (checkStudent.getName().equals(name)) {
-                return true;
-            }
-        }
-        return false;
+        return studentList.contains(student);
     }
 
     /**
@@ -1,18 +1,33 @@
 package seedu.address.model.group;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import seedu.address.model.group.exceptions.DuplicateGroupException;
 import seedu.address.model.group.exceptions.GroupNotFoundException;
+import seedu.address.model.student.Name;
+import seedu.address.model.student.Student;
+import seedu.address.model.student.UniqueStudentList;
 
 /**
  * Model that represents a list of groups.
+ * Groups are also kept by their identifiers, and the groups of each student by the student's name, so that
+ * finding a group or the groups of a student does not look through every group.
+ * Students should be added to and removed from a group in the list through this class, to keep the groups of
+ * each student up to date.
  */
-public class ListOfGroups {
+public class ListOfGroups implements ReadOnlyGroups {
 
     private static String currentlyQueriedGroup;
     private ArrayList<Group> groups;
+    private final Map<String, Group> groupsById = new HashMap<>();
+    private final Map<Name, Set<String>> groupIdsByStudent = new HashMap<>();
+    private long version;
 
     /**
      * Creates a ListOfGroups instance with the appropriate attributes.
@@ -21,6 +36,19 @@ public class ListOfGroups {
         groups = new ArrayList<>();
     }
 
+    /**
+     * Creates a ListOfGroups with copies of the groups in {@code toBeCopied}, so that adding students to or
+     * removing students from the groups in either list does not change the other.
+     */
+    public ListOfGroups(ReadOnlyGroups toBeCopied) {
+        this();
+        for (Group group : toBeCopied.getGroupList()) {
+            UniqueStudentList studentList = new UniqueStudentList();
+            studentList.setStudents(group.getStudentList());
+            addGroup(new Group(group.getGroupId(), studentList));
+        }
+    }
+
     /**
      * Sets the currently queried group
      */
@@ -43,10 +71,14 @@ public class ListOfGroups {
      * @param group The group to be added to the list of groups.
      */
     public void addGroup(Group group) {
-        if (groups.contains(group)) {
+        if (groupsById.putIfAbsent(group.getGroupId(), group) != null) {
             throw new DuplicateGroupException();
         }
         groups.add(group);
+        for (Student student : group.getStudentList()) {
+            addToStudentIndex(student, group.getGroupId());
+        }
+        version++;
     }
 
     /**
@@ -55,33 +87,26 @@ public class ListOfGroups {
      * @param groupId The group to be removed from the list of groups.
      */
     public void removeGroup(String groupId) {
-        boolean removed = false;
-        for (Group q : groups) {
-            if (q.getGroupId().equals(groupId)) {
-                groups.remove(q);
-                removed = true;
-                break;
-            }
-        }
-        if (!removed) {
+        Group removedGroup = groupsById.remove(groupId);
+        if (removedGroup == null) {
             throw new GroupNotFoundException();
         }
+        groups.remove(removedGroup);
+        for (Student student : removedGroup.getStudentList()) {
+            removeFromStudentIndex(student, groupId);
+        }
+        version++;
     }
 
     /**
-     * Returns the groupIndex of a group if found, else -1.
+     * Returns the groupIndex of a group.
      *
      * @param groupId The identifier of the group.
      * @return The groupIndex of the group.
+     * @throws GroupNotFoundException if there is no group with the identifier.
      */
     public int getGroupIndex(String groupId) {
-        for (int i = 0; i < groups.size(); i++) {
-            Group currentGroup = groups.get(i);
-            if (currentGroup.getGroupId().equals(groupId)) {
-                return i;
-            }
-        }
-        throw new GroupNotFoundException();
+        return groups.indexOf(getGroup(groupId));
     }
 
     /**
@@ -94,11 +119,33 @@ public class ListOfGroups {
         return groups.get(groupIndex);
     }
 
+    /**
+     * Returns the group with an identifier from the list of groups.
+     *
+     * @param groupId The identifier of the group.
+     * @return The group from the list of groups.
+     * @throws GroupNotFoundException if there is no group with the identifier.
+     */
+    public Group getGroup(String groupId) {
+        Group group = groupsById.get(groupId);
+        if (group == null) {
+            throw new GroupNotFoundException();
+        }
+        return group;
+    }
+
+    /**
+     * Returns true if a group with an identifier exists in the list of groups.
+     */
+    public boolean hasGroup(String groupId) {
+        return groupsById.containsKey(groupId);
+    }
+
     /**
      * Checks if group exists in the list of groups
      */
     public boolean contains(Group group) {
-        return groups.contains(group);
+        return groupsById.containsKey(group.getGroupId());
     }
 
     /**
@@ -106,41 +153,156 @@ public class ListOfGroups {
      *
      * @return array list of groups.
      */
+    @Override
     public ArrayList<Group> getGroupList() {
         return this.groups;
     }
 
+    /**
+     * Adds a student to a group in the list of groups.
+     *
+     * @param groupId          The identifier of the group.
+     * @param groupIndexNumber The group index number to add the student to.
+     * @param student          The student to be added to the group.
+     * @return True if the student is not a repeat, else false.
+     * @throws GroupNotFoundException if there is no group with the identifier.
+     */
+    public boolean addStudentToGroup(String groupId, int groupIndexNumber, Student student) {
+        boolean isAdded = getGroup(groupId).addStudent(groupIndexNumber, student);
+        if (isAdded) {
+            addToStudentIndex(student, groupId);
+            version++;
+        }
+        return isAdded;
+    }
+
+    /**
+     * Removes a student from a group in the list of groups.
+     *
+     * @param groupId          The identifier of the group.
+     * @param groupIndexNumber The student to be removed from the group.
+     * @return The removed student.
+     * @throws GroupNotFoundException if there is no group with the identifier.
+     */
+    public Student removeStudentFromGroup(String groupId, int groupIndexNumber) {
+        Student removedStudent = getGroup(groupId).removeStudent(groupIndexNumber);
+        removeFromStudentIndex(removedStudent, groupId);
+        version++;
+        return removedStudent;
+    }
+
+    /**
+     * Replaces a student with an edited student in every group the student is in.
+     * The edited student must not already be in any of those groups, unless it has the same identity as the
+     * student.
+     *
+     * @param target        The student to be replaced, identified by name.
+     * @param editedStudent The edited student.
+     */
+    public void setStudentInGroups(Student target, Student editedStudent) {
+        Set<String> groupIds = groupIdsByStudent.remove(target.getName());
+        if (groupIds == null) {
+            return;
+        }
+        for (String groupId : groupIds) {
+            groupsById.get(groupId).getStudentList().setStudent(target, editedStudent);
+        }
+        groupIdsByStudent.put(editedStudent.getName(), groupIds);
+        version++;
+    }
+
+    /**
+     * Removes a student from every group the student is in.
+     *
+     * @param student The student to be removed, identified by name.
+     */
+    public void removeStudentFromGroups(Student student) {
+        Set<String> groupIds = groupIdsByStudent.remove(student.getName());
+        if (groupIds == null) {
+            return;
+        }
+        for (String groupId : groupIds) {
+            groupsById.get(groupId).getStudentList().remove(student);
+        }
+        version++;
+    }
+
+    /**
+     * Returns the identifiers of the groups a student is in, in the order the student joined them.
+     *
+     * @param student The student, identified by name.
+     * @return The identifiers of the groups, which cannot be modified.
+     */
+    public Set<String> getGroupIdsOf(Student student) {
+        return Collections.unmodifiableSet(groupIdsByStudent.getOrDefault(student.getName(), Collections.emptySet()));
+    }
+
+    /**
+     * Returns true if a student is in the group with an identifier.
+     *
+     * @param groupId The identifier of the group.
+     * @param student The student, identified by name.
+     */
+    public boolean isStudentInGroup(String groupId, Student student) {
+        return getGroupIdsOf(student).contains(groupId);
+    }
+
     /**
      * Exports the group specified in the parameters of the method.
      *
      * @param groupId Id of group to be exported
      */
     public void exportGroup(String groupId) {
-        Group queriedGroup = null;
-        boolean queriedGroupFound = false;
-        for (Group group : groups) {
-            if (groupId.equals(group.getGroupId())) {
-                queriedGroup = group;
-                queriedGroupFound = true;
-                break;
-            }
-        }
-        if (queriedGroupFound) {
-            queriedGroup.export();
-        } else {
-            throw new GroupNotFoundException();
-        }
+        getGroup(groupId).export();
     }
 
     /**
      * Set all groups in the List Of Groups
      */
     public void setGroups(List<Group> groupList) {
-        if (!groupsAreUnique(groupList)) {
-            throw new DuplicateGroupException();
+        Map<String, Group> replacementById = new HashMap<>();
+        for (Group group : groupList) {
+            if (replacementById.putIfAbsent(group.getGroupId(), group) != null) {
+                throw new DuplicateGroupException();
+            }
         }
         this.groups.clear();
         this.groups.addAll(groupList);
+        groupsById.clear();
+        groupsById.putAll(replacementById);
+        groupIdsByStudent.clear();
+        for (Group group : groupList) {
+            for (Student student : group.getStudentList()) {
+                addToStudentIndex(student, group.getGroupId());
+            }
+        }
+        version++;
+    }
+
+    /**
+     * Records {@code student} as being in the group with {@code groupId}.
+     */
+    private void addToStudentIndex(Student student, String groupId) {
+        groupIdsByStudent.computeIfAbsent(student.getName(), name -> new LinkedHashSet<>()).add(groupId);
+    }
+
+    /**
+     * Records {@code student} as no longer being in the group with {@code groupId}.
+     */
+    private void removeFromStudentIndex(Student student, String groupId) {
+        Set<String> groupIds = groupIdsByStudent.get(student.getName());
+        if (groupIds == null) {
+            return;
+        }
+        groupIds.remove(groupId);
+        if (groupIds.isEmpty()) {
+            groupIdsByStudent.remove(student.getName());
+        }
+    }
+
+    @Override
+    public long getVersion() {
+        return version;
     }
 
     @Override
@@ -150,18 +312,4 @@ public class ListOfGroups {
                 || (other instanceof ListOfGroups // instanceof handles nulls
                 && groups.equals(((ListOfGroups) other).groups));
     }
-
-    /**
-     * Returns true if {@code Group} contains only unique groups.
-     */
-    private boolean groupsAreUnique(List<Group> groups) {
-        for (int i = 0; i < groups.size() - 1; i++) {
-            for (int j = i + 1; j < groups.size(); j++) {
-                if (groups.get(i).equals(groups.get(j))) {
-                    return false;
-                }
-            }
-        }
-        return true;
-    }
 }
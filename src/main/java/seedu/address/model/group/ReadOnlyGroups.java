@@ -0,0 +1,18 @@
+package seedu.address.model.group;
+
+import java.util.List;
+
+import seedu.address.model.VersionedRecord;
+
+/**
+ * Unmodifiable view of a list of groups
+ */
+public interface ReadOnlyGroups extends VersionedRecord {
+
+    /**
+     * Returns the groups, in the order they were created.
+     * No two groups in this list have the same identifier.
+     */
+    List<Group> getGroupList();
+
+}
@@ -6,6 +6,7 @@ import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
 
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 
 /**
@@ -15,11 +16,14 @@ import javafx.collections.ObservableList;
 public class NotesRecord implements ReadOnlyNotesRecord {
 
     private final UniqueNotesList notes;
+    private long version;
     {
         notes = new UniqueNotesList();
     }
 
-    public NotesRecord() {}
+    public NotesRecord() {
+        notes.asUnmodifiableObservableList().addListener((ListChangeListener<Note>) change -> version++);
+    }
 
     /**
      * Creates an NotesRecord using the Notes in the {@code toBeCopied}
@@ -95,6 +99,11 @@ public class NotesRecord implements ReadOnlyNotesRecord {
     }
 
     //// util methods
+    @Override
+    public long getVersion() {
+        return version;
+    }
+
     @Override
     public String toString() {
         return "You have " + notes.asUnmodifiableObservableList().size()
@@ -1,11 +1,12 @@
 package seedu.address.model.note;
 
 import javafx.collections.ObservableList;
+import seedu.address.model.VersionedRecord;
 
 /**
  * Unmodifiable view of a notes record.
  */
-public interface ReadOnlyNotesRecord {
+public interface ReadOnlyNotesRecord extends VersionedRecord {
 
     /**
      * Returns an unmodifiable view of the notes list.
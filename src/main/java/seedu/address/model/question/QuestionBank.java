@@ -5,14 +5,14 @@ import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
-
-import org.apache.commons.lang3.StringUtils;
-import org.apache.commons.text.similarity.LevenshteinDistance;
+import java.util.Map;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import javafx.collections.transformation.FilteredList;
 import seedu.address.commons.core.index.Index;
 import seedu.address.model.question.exceptions.DuplicateQuestionException;
 import seedu.address.model.question.exceptions.QuestionNotFoundException;
@@ -26,9 +26,15 @@ public class QuestionBank implements Iterable<Question> {
         "Displaying results for \'%1$s\' and similar terms.\n"
             + "Found %2$s results";
     private final ObservableList<Question> questions = FXCollections.observableArrayList();
-    private final ObservableList<Question> questionsFiltered = FXCollections.observableArrayList();
+    private final ObservableList<QuestionSearchHit> questionsFiltered = FXCollections.observableArrayList();
     private final ObservableList<Question> questionsUnmodifiableList =
         FXCollections.unmodifiableObservableList(questions);
+    private final FilteredList<Question> mcqQuestions =
+        new FilteredList<>(questions, question -> question instanceof McqQuestion);
+    private final FilteredList<Question> openEndedQuestions =
+        new FilteredList<>(questions, question -> question instanceof OpenEndedQuestion);
+    private final QuestionSearchIndex searchIndex = new QuestionSearchIndex();
+    private final Map<String, List<Question>> questionsByText = new HashMap<>();
 
     /**
      * Replaces the contents of this list with {@code Question}. {@code questions} must not contain
@@ -36,10 +42,18 @@ public class QuestionBank implements Iterable<Question> {
      */
     public void setQuestions(List<Question> questions) {
         requireAllNonNull(questions);
-        if (isRepeated(questions)) {
-            throw new DuplicateQuestionException();
+        Map<String, List<Question>> replacementQuestionsByText = new HashMap<>();
+        for (Question question : questions) {
+            if (containsIn(replacementQuestionsByText, question)) {
+                throw new DuplicateQuestionException();
+            }
+            addTo(replacementQuestionsByText, question);
         }
+
+        questionsByText.clear();
+        questionsByText.putAll(replacementQuestionsByText);
         this.questions.setAll(questions);
+        searchIndex.setAll(questions);
     }
 
     /**
@@ -52,6 +66,8 @@ public class QuestionBank implements Iterable<Question> {
         if (contains(question)) {
             throw new DuplicateQuestionException();
         }
+        addTo(questionsByText, question);
+        searchIndex.add(questions.size(), question);
         this.questions.add(question);
     }
 
@@ -62,7 +78,10 @@ public class QuestionBank implements Iterable<Question> {
      * @return question object.
      */
     public Question deleteQuestion(Index index) {
-        return questions.remove(index.getZeroBased());
+        Question deletedQuestion = questions.remove(index.getZeroBased());
+        removeFrom(questionsByText, deletedQuestion);
+        searchIndex.remove(index.getZeroBased());
+        return deletedQuestion;
     }
 
     /**
@@ -72,9 +91,12 @@ public class QuestionBank implements Iterable<Question> {
      */
     public void deleteQuestion(Question question) {
         requireNonNull(question);
-        if (!questions.remove(question)) {
+        int index = questions.indexOf(question);
+        if (index == -1) {
             throw new QuestionNotFoundException();
         }
+        removeFrom(questionsByText, questions.remove(index));
+        searchIndex.remove(index);
     }
 
     /**
@@ -97,7 +119,9 @@ public class QuestionBank implements Iterable<Question> {
         if (contains(question)) {
             throw new DuplicateQuestionException();
         }
-        questions.set(index.getZeroBased(), question);
+        removeFrom(questionsByText, questions.set(index.getZeroBased(), question));
+        addTo(questionsByText, question);
+        searchIndex.set(index.getZeroBased(), question);
     }
 
     /**
@@ -110,7 +134,9 @@ public class QuestionBank implements Iterable<Question> {
         requireAllNonNull(target, editedQuestion);
 
         int index = questions.indexOf(target);
-        questions.set(index, editedQuestion);
+        removeFrom(questionsByText, questions.set(index, editedQuestion));
+        addTo(questionsByText, editedQuestion);
+        searchIndex.set(index, editedQuestion);
     }
 
     /**
@@ -123,41 +149,31 @@ public class QuestionBank implements Iterable<Question> {
     }
 
     /**
-     * Returns all the questions in a question bank in an ObservableList representation.
+     * Returns the hits of the last search in an ObservableList representation.
      *
-     * @return All the questions in the question bank in an ObservableList representation.
+     * @return The hits of the last search in an ObservableList representation.
      */
-    public ObservableList<Question> getSearchQuestions() {
+    public ObservableList<QuestionSearchHit> getSearchQuestions() {
         return questionsFiltered;
     }
 
     /**
-     * Returns all the McqQuestions in a question bank in an ObservableList representation.
+     * Returns all the McqQuestions in a question bank as an unmodifiable view that stays up to date with the
+     * question bank.
      *
      * @return mcq questions
      */
     public ObservableList<Question> getMcqQuestions() {
-        ObservableList<Question> mcqQuestions = FXCollections.observableArrayList();
-        for (Question q : questions) {
-            if (q instanceof McqQuestion) {
-                mcqQuestions.add(q);
-            }
-        }
         return mcqQuestions;
     }
 
     /**
-     * Returns all the OpenEndedQuestions in a question bank in an ArrayList representation.
+     * Returns all the OpenEndedQuestions in a question bank as an unmodifiable view that stays up to date with the
+     * question bank.
      *
      * @return open ended questions
      */
     public ObservableList<Question> getOpenEndedQuestions() {
-        ObservableList<Question> openEndedQuestions = FXCollections.observableArrayList();
-        for (Question q : questions) {
-            if (q instanceof OpenEndedQuestion) {
-                openEndedQuestions.add(q);
-            }
-        }
         return openEndedQuestions;
     }
 
@@ -169,37 +185,25 @@ public class QuestionBank implements Iterable<Question> {
      */
     public String searchQuestions(String textToFind) {
         requireNonNull(textToFind);
-        questionsFiltered.clear();
         int textToFindSize = textToFind.length();
         int similarityThreshold = (int) (textToFindSize * 0.4); // 40% match
-        ArrayList<Question> similarAl = new ArrayList<>(); // Used for grouping similiar terms
 
         // 2-levels of searching occurs here
-        for (int i = 0; i < questions.size(); i++) {
-            Question question = questions.get(i).duplicate();
-            Index index = Index.fromZeroBased(i);
-
-            String questionStr = question.getQuestion();
-            int difference = LevenshteinDistance.getDefaultInstance()
-                .apply(textToFind, questionStr);
-
-            if (StringUtils.containsIgnoreCase(questionStr,
-                textToFind)) { // Search if text forms a subset of the question
-                question.setQuestion(index.getOneBased() + ". " + question.getQuestion());
-                questionsFiltered.add(question);
-            } else if (difference <= similarityThreshold) { // Search for similar terms
-                question.setQuestion(index.getOneBased() + ". " + question.getQuestion());
-                similarAl.add(question);
-            }
-        }
-
-        similarAl.sort(Comparator.comparingInt(o -> o.getQuestion().length()));
-        questionsFiltered.sort(Comparator.comparingInt(o -> o.getQuestion().length()));
-        questionsFiltered.addAll(similarAl);
+        List<QuestionSearchHit> results = sortByQuestionLength(searchIndex.findContaining(textToFind));
+        results.addAll(sortByQuestionLength(searchIndex.findSimilar(textToFind, similarityThreshold)));
+        questionsFiltered.setAll(results);
 
         return String.format(SEARCH_RESULT_SUCCESS, textToFind, questionsFiltered.size());
     }
 
+    /**
+     * Returns {@code hits} sorted shortest question first, keeping hits with questions of the same length in order.
+     */
+    private static List<QuestionSearchHit> sortByQuestionLength(List<QuestionSearchHit> hits) {
+        hits.sort(Comparator.comparingInt(hit -> hit.getQuestion().getQuestion().length()));
+        return hits;
+    }
+
     /**
      * Returns the questions summary.
      *
@@ -212,28 +216,32 @@ public class QuestionBank implements Iterable<Question> {
     }
 
     /**
-     * Returns true if a question has been repeated, else false.
-     *
-     * @param questions the list of questions to check.
-     * @return True if the question has been repeated, else false.
+     * Returns true if the list contains an equivalent Question as the given argument.
      */
-    private boolean isRepeated(List<Question> questions) {
-        for (int i = 0; i < questions.size() - 1; i++) {
-            for (int j = i + 1; j < questions.size(); j++) {
-                if (questions.get(i).equals(questions.get(j))) {
-                    return true;
-                }
-            }
-        }
-        return false;
+    public boolean contains(Question toCheck) {
+        requireNonNull(toCheck);
+        return containsIn(questionsByText, toCheck);
     }
 
     /**
-     * Returns true if the list contains an equivalent Question as the given argument.
+     * Returns true if {@code questionsByText} holds a question equivalent to {@code toCheck}.
+     * Equivalent questions have the same text, so only the questions with the text of {@code toCheck} are compared.
      */
-    public boolean contains(Question toCheck) {
-        requireNonNull(toCheck);
-        return questions.stream().anyMatch((question) -> question.equals(toCheck));
+    private static boolean containsIn(Map<String, List<Question>> questionsByText, Question toCheck) {
+        List<Question> sameTextQuestions = questionsByText.get(toCheck.getQuestion());
+        return sameTextQuestions != null && sameTextQuestions.contains(toCheck);
+    }
+
+    private static void addTo(Map<String, List<Question>> questionsByText, Question question) {
+        questionsByText.computeIfAbsent(question.getQuestion(), unused -> new ArrayList<>(1)).add(question);
+    }
+
+    private static void removeFrom(Map<String, List<Question>> questionsByText, Question question) {
+        List<Question> sameTextQuestions = questionsByText.get(question.getQuestion());
+        sameTextQuestions.remove(question);
+        if (sameTextQuestions.isEmpty()) {
+            questionsByText.remove(question.getQuestion());
+        }
     }
 
     /**
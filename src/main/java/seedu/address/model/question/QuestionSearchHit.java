@@ -0,0 +1,63 @@
+package seedu.address.model.question;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Objects;
+
+import seedu.address.commons.core.index.Index;
+
+/**
+ * A question found by a search, together with its index in the question bank at the time of the search.
+ * The hit refers to the question in the question bank itself rather than a copy of it.
+ * Guarantees: immutable; details are present and not null.
+ */
+public class QuestionSearchHit {
+
+    private final Index index;
+    private final Question question;
+    private final int score;
+
+    /**
+     * Creates a hit for {@code question} at {@code index}.
+     *
+     * @param score the number of edits between the search text and the question text, or 0 if the question text
+     *              contains the search text. Lower scores are closer matches.
+     */
+    public QuestionSearchHit(Index index, Question question, int score) {
+        requireAllNonNull(index, question);
+        this.index = index;
+        this.question = question;
+        this.score = score;
+    }
+
+    public Index getIndex() {
+        return index;
+    }
+
+    public Question getQuestion() {
+        return question;
+    }
+
+    public int getScore() {
+        return score;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof QuestionSearchHit // instanceof handles nulls
+                && index.equals(((QuestionSearchHit) other).index)
+                && question.equals(((QuestionSearchHit) other).question)
+                && score == ((QuestionSearchHit) other).score);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(index.getZeroBased(), question.getQuestion(), score);
+    }
+
+    @Override
+    public String toString() {
+        return index.getOneBased() + ". " + question;
+    }
+}
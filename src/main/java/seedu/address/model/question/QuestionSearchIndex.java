@@ -0,0 +1,286 @@
+package seedu.address.model.question;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.ToIntFunction;
+
+import org.apache.commons.lang3.StringUtils;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.commons.util.FuzzyMatchUtil;
+
+/**
+ * An index over the text of the questions in a {@code QuestionBank}, kept in step with the order of its questions.
+ * Questions containing a search text are found through the character trigrams of their text, and questions similar
+ * to a search text are found through the length of their text, so a search only looks at likely matches.
+ * When there are many likely matches, they are checked in parallel on the common {@code ForkJoinPool}.
+ */
+public class QuestionSearchIndex {
+
+    public static final int DEFAULT_PARALLEL_THRESHOLD = 2048;
+
+    private static final int GRAM_LENGTH = 3;
+    private static final char PADDING = '\0';
+    private static final int NO_MATCH = -1;
+
+    private final int parallelThreshold;
+
+    private final List<Entry> entries = new ArrayList<>();
+    private final TreeMap<String, Set<Entry>> entriesByGram = new TreeMap<>();
+    private final TreeMap<Integer, Set<Entry>> entriesByLength = new TreeMap<>();
+
+    /**
+     * An indexed question and its current position in the question bank.
+     */
+    private static class Entry {
+        private final Question question;
+        private final Set<String> grams;
+        private int position;
+
+        private Entry(Question question, int position) {
+            this.question = question;
+            this.grams = getGrams(question.getQuestion());
+            this.position = position;
+        }
+
+        private int getLength() {
+            return question.getQuestion().length();
+        }
+    }
+
+    /**
+     * Checks a range of likely matches, splitting the range in half until it is no longer than the threshold.
+     */
+    private class MatchTask extends RecursiveTask<List<QuestionSearchHit>> {
+        private final List<Entry> candidates;
+        private final ToIntFunction<Entry> scorer;
+
+        private MatchTask(List<Entry> candidates, ToIntFunction<Entry> scorer) {
+            this.candidates = candidates;
+            this.scorer = scorer;
+        }
+
+        @Override
+        protected List<QuestionSearchHit> compute() {
+            if (candidates.size() <= parallelThreshold) {
+                return getHits(candidates, scorer);
+            }
+            int middle = candidates.size() / 2;
+            MatchTask firstHalf = new MatchTask(candidates.subList(0, middle), scorer);
+            firstHalf.fork();
+            MatchTask secondHalf = new MatchTask(candidates.subList(middle, candidates.size()), scorer);
+            List<QuestionSearchHit> hits = secondHalf.compute();
+            hits.addAll(firstHalf.join());
+            return hits;
+        }
+    }
+
+    public QuestionSearchIndex() {
+        this(DEFAULT_PARALLEL_THRESHOLD);
+    }
+
+    /**
+     * Creates an index that checks likely matches in parallel once there are more than {@code parallelThreshold}.
+     */
+    public QuestionSearchIndex(int parallelThreshold) {
+        checkArgument(parallelThreshold > 0, "parallelThreshold must be positive");
+        this.parallelThreshold = parallelThreshold;
+    }
+
+    /**
+     * Indexes {@code question} as the question at {@code position}, shifting later questions back.
+     */
+    public void add(int position, Question question) {
+        requireNonNull(question);
+        Entry entry = new Entry(question, position);
+        entries.add(position, entry);
+        updatePositionsFrom(position + 1);
+        addToMaps(entry);
+    }
+
+    /**
+     * Indexes {@code question} in place of the question at {@code position}.
+     */
+    public void set(int position, Question question) {
+        requireNonNull(question);
+        Entry entry = new Entry(question, position);
+        removeFromMaps(entries.set(position, entry));
+        addToMaps(entry);
+    }
+
+    /**
+     * Removes the question at {@code position} from the index, shifting later questions forward.
+     */
+    public void remove(int position) {
+        removeFromMaps(entries.remove(position));
+        updatePositionsFrom(position);
+    }
+
+    /**
+     * Replaces every indexed question with {@code questions}, in order.
+     */
+    public void setAll(List<Question> questions) {
+        requireNonNull(questions);
+        entries.clear();
+        entriesByGram.clear();
+        entriesByLength.clear();
+        for (Question question : questions) {
+            add(entries.size(), question);
+        }
+    }
+
+    /**
+     * Returns the questions whose text contains {@code textToFind}, ignoring case, in order.
+     * Every hit has a score of 0.
+     */
+    public List<QuestionSearchHit> findContaining(String textToFind) {
+        requireNonNull(textToFind);
+        return findMatches(getContainingCandidates(fold(textToFind)), entry ->
+            StringUtils.containsIgnoreCase(entry.question.getQuestion(), textToFind) ? 0 : NO_MATCH);
+    }
+
+    /**
+     * Returns the questions whose text does not contain {@code textToFind}, ignoring case, but is within
+     * {@code maxDistance} edits of it, in order.
+     * Every hit is scored with the number of edits between its text and {@code textToFind}.
+     */
+    public List<QuestionSearchHit> findSimilar(String textToFind, int maxDistance) {
+        requireNonNull(textToFind);
+        List<Entry> candidates = new ArrayList<>();
+        int textLength = textToFind.length();
+        for (Set<Entry> sameLengthEntries
+                : entriesByLength.subMap(textLength - maxDistance, true, textLength + maxDistance, true).values()) {
+            candidates.addAll(sameLengthEntries);
+        }
+        return findMatches(candidates, entry -> {
+            String questionText = entry.question.getQuestion();
+            if (StringUtils.containsIgnoreCase(questionText, textToFind)) {
+                return NO_MATCH;
+            }
+            int distance = FuzzyMatchUtil.getBoundedDistance(textToFind, questionText, maxDistance);
+            return distance == FuzzyMatchUtil.NOT_WITHIN_DISTANCE ? NO_MATCH : distance;
+        });
+    }
+
+    /**
+     * Returns a hit for each of the {@code candidates} that {@code scorer} does not reject, in order.
+     * The candidates are checked in parallel if there are more than the threshold, as {@code MatchTask} does not
+     * split a range that is no longer than the threshold.
+     */
+    private List<QuestionSearchHit> findMatches(Collection<Entry> candidates, ToIntFunction<Entry> scorer) {
+        List<QuestionSearchHit> hits = candidates.size() <= parallelThreshold
+            ? getHits(candidates, scorer)
+            : ForkJoinPool.commonPool().invoke(new MatchTask(new ArrayList<>(candidates), scorer));
+        hits.sort(Comparator.comparingInt(hit -> hit.getIndex().getZeroBased()));
+        return hits;
+    }
+
+    private static List<QuestionSearchHit> getHits(Collection<Entry> candidates, ToIntFunction<Entry> scorer) {
+        List<QuestionSearchHit> hits = new ArrayList<>();
+        for (Entry entry : candidates) {
+            int score = scorer.applyAsInt(entry);
+            if (score != NO_MATCH) {
+                hits.add(new QuestionSearchHit(Index.fromZeroBased(entry.position), entry.question, score));
+            }
+        }
+        return hits;
+    }
+
+    /**
+     * Returns the indexed questions that may contain {@code foldedText}.
+     * Every text is padded so that each of its characters starts a trigram, which lets a text shorter than a
+     * trigram be found through the trigrams it starts.
+     */
+    private Collection<Entry> getContainingCandidates(String foldedText) {
+        if (foldedText.isEmpty()) {
+            return entries;
+        }
+        if (foldedText.length() < GRAM_LENGTH) {
+            Set<Entry> candidates = new HashSet<>();
+            for (Set<Entry> gramEntries
+                    : entriesByGram.subMap(foldedText, true, foldedText + Character.MAX_VALUE, true).values()) {
+                candidates.addAll(gramEntries);
+            }
+            return candidates;
+        }
+
+        Set<Entry> smallestGramEntries = null;
+        for (int i = 0; i + GRAM_LENGTH <= foldedText.length(); i++) {
+            Set<Entry> gramEntries = entriesByGram.get(foldedText.substring(i, i + GRAM_LENGTH));
+            if (gramEntries == null) {
+                return Collections.emptySet();
+            }
+            if (smallestGramEntries == null || gramEntries.size() < smallestGramEntries.size()) {
+                smallestGramEntries = gramEntries;
+            }
+        }
+        return smallestGramEntries;
+    }
+
+    private void addToMaps(Entry entry) {
+        for (String gram : entry.grams) {
+            entriesByGram.computeIfAbsent(gram, unused -> new HashSet<>()).add(entry);
+        }
+        entriesByLength.computeIfAbsent(entry.getLength(), unused -> new HashSet<>()).add(entry);
+    }
+
+    private void removeFromMaps(Entry entry) {
+        for (String gram : entry.grams) {
+            removeFromMap(entriesByGram, gram, entry);
+        }
+        removeFromMap(entriesByLength, entry.getLength(), entry);
+    }
+
+    private static <K> void removeFromMap(Map<K, Set<Entry>> map, K key, Entry entry) {
+        Set<Entry> keyEntries = map.get(key);
+        keyEntries.remove(entry);
+        if (keyEntries.isEmpty()) {
+            map.remove(key);
+        }
+    }
+
+    private void updatePositionsFrom(int position) {
+        for (int i = position; i < entries.size(); i++) {
+            entries.get(i).position = i;
+        }
+    }
+
+    /**
+     * Returns the trigrams of the case-folded {@code text}, padded at the end.
+     */
+    private static Set<String> getGrams(String text) {
+        StringBuilder padded = new StringBuilder(fold(text));
+        for (int i = 1; i < GRAM_LENGTH; i++) {
+            padded.append(PADDING);
+        }
+        Set<String> grams = new HashSet<>();
+        for (int i = 0; i + GRAM_LENGTH <= padded.length(); i++) {
+            grams.add(padded.substring(i, i + GRAM_LENGTH));
+        }
+        return grams;
+    }
+
+    /**
+     * Returns {@code text} with every character mapped to the same case, so that texts which are equal ignoring case
+     * have equal trigrams.
+     */
+    private static String fold(String text) {
+        StringBuilder folded = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            folded.append(Character.toLowerCase(Character.toUpperCase(text.charAt(i))));
+        }
+        return folded.toString();
+    }
+}
@@ -1,11 +1,12 @@
 package seedu.address.model.question;
 
 import javafx.collections.ObservableList;
+import seedu.address.model.VersionedRecord;
 
 /**
  * Unmodifiable view of an student record
  */
-public interface ReadOnlyQuestions {
+public interface ReadOnlyQuestions extends VersionedRecord {
 
     /**
      * Returns an unmodifiable view of the questions list. This list will not contain any duplicate
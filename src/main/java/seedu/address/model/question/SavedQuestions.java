@@ -5,6 +5,7 @@ import static java.util.Objects.requireNonNull;
 import java.util.List;
 
 import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.index.Index;
 
@@ -15,6 +16,7 @@ public class SavedQuestions implements ReadOnlyQuestions {
 
     private final QuestionBank questions;
     private ObservableList<Question> slideshowQuestions = FXCollections.observableArrayList();
+    private long version;
 
     /*
      * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
@@ -28,6 +30,7 @@ public class SavedQuestions implements ReadOnlyQuestions {
     }
 
     public SavedQuestions() {
+        questions.asUnmodifiableObservableList().addListener((ListChangeListener<Question>) change -> version++);
     }
 
     /**
@@ -58,7 +61,7 @@ public class SavedQuestions implements ReadOnlyQuestions {
      * Returns all result of questions searched.
      * @return The searched questions list.
      */
-    public ObservableList<Question> getSearchQuestions() {
+    public ObservableList<QuestionSearchHit> getSearchQuestions() {
         return questions.getSearchQuestions();
     }
 
@@ -177,6 +180,11 @@ public class SavedQuestions implements ReadOnlyQuestions {
 
     //// util methods
 
+    @Override
+    public long getVersion() {
+        return version;
+    }
+
     @Override
     public String toString() {
         return questions.asUnmodifiableObservableList().size() + " Questions";
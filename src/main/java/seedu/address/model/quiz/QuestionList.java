@@ -1,23 +1,35 @@
 package seedu.address.model.quiz;
 
+import java.io.IOException;
 import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
 
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.commons.util.AppendableContent;
 import seedu.address.model.question.McqQuestion;
 import seedu.address.model.question.OpenEndedQuestion;
 import seedu.address.model.question.Question;
 
 /**
  * Represents a question list for a quiz.
+ * The questions are kept in a single observable list that is changed in place, so views of the list stay up to
+ * date. The texts of the questions are also kept in a set, so checking whether a question is in the list does not
+ * look through every question.
  */
 public class QuestionList {
 
-    private ArrayList<Question> questions;
+    private final ObservableList<Question> questions = FXCollections.observableArrayList();
+    private final ObservableList<Question> questionsUnmodifiableList =
+            FXCollections.unmodifiableObservableList(questions);
+    private final Set<String> questionTexts = new HashSet<>();
 
     /**
      * Creates a QuestionList instance with the appropriate attributes.
      */
     public QuestionList() {
-        this.questions = new ArrayList<>();
     }
 
     /**
@@ -26,7 +38,7 @@ public class QuestionList {
      * @return True if the question is not a repeat, else false.
      */
     public boolean addQuestion(Question question) {
-        if (!isRepeated(question)) {
+        if (questionTexts.add(question.getQuestion())) {
             questions.add(question);
             return true;
         }
@@ -40,24 +52,13 @@ public class QuestionList {
      * @return True if the question is not a repeat, else false.
      */
     public boolean addQuestion(int questionNumber, Question question) {
-        if (questionNumber <= 0) {
+        if (questionNumber <= 0 || !questionTexts.add(question.getQuestion())) {
             return false;
         }
 
-        int listSize = questions.size();
-        int questionIndex = questionNumber - 1;
-
-        if (questionNumber > listSize) {
-            if (!isRepeated(question)) {
-                questions.add(question);
-                return true;
-            }
-        }
-        if (!isRepeated(question)) {
-            questions.add(questionIndex, question);
-            return true;
-        }
-        return false;
+        int questionIndex = Math.min(questionNumber - 1, questions.size());
+        questions.add(questionIndex, question);
+        return true;
     }
 
     /**
@@ -68,22 +69,28 @@ public class QuestionList {
     public Question removeQuestion(int questionNumber) {
         int questionIndex = questionNumber - 1;
         Question removedQuestion = questions.remove(questionIndex);
+        questionTexts.remove(removedQuestion.getQuestion());
         return removedQuestion;
     }
 
     /**
-     * Returns the questions for a quiz.
-     * @return The questions for the quiz in an ArrayList.
+     * Returns the questions for a quiz as an unmodifiable {@code ObservableList}, which follows later changes
+     * to the question list.
+     * @return The questions for the quiz.
      */
-    public ArrayList<Question> getQuestions() {
-        return questions;
+    public ObservableList<Question> getQuestions() {
+        return questionsUnmodifiableList;
     }
 
     /**
-     * Sets the questions for a quiz.
+     * Sets the questions for a quiz, replacing the contents of the question list.
      */
-    public void setQuestions(ArrayList<Question> questions) {
-        this.questions = questions;
+    public void setQuestions(List<Question> questions) {
+        this.questions.setAll(questions);
+        questionTexts.clear();
+        for (Question question : questions) {
+            questionTexts.add(question.getQuestion());
+        }
     }
 
     /**
@@ -101,19 +108,25 @@ public class QuestionList {
     /**
      * Sets the String represented questions as the questions of a question list.
      * @param stringQuestions The questions in String representation.
+     * @throws IllegalArgumentException If a question is not in the String representation.
      */
     public void setStringQuestions(String stringQuestions) {
         String[] splitBySymbol = stringQuestions.split("//");
-        if (splitBySymbol.length == 1) {
-            return;
-        }
         for (String s : splitBySymbol) {
+            if (s.isEmpty()) {
+                // A quiz with no questions is represented by an empty String.
+                continue;
+            }
             String[] split = s.split(":");
-            if (split.length <= 2) {
+            if (split.length != 2 && split.length != 6) {
+                throw new IllegalArgumentException("Question is not in the expected format: " + s);
+            }
+            if (split.length == 2) {
                 String question = split[0];
                 String answer = split[1];
                 OpenEndedQuestion openEndedQuestion = new OpenEndedQuestion(question, answer);
                 questions.add(openEndedQuestion);
+                questionTexts.add(question);
             } else {
                 String question = split[0];
                 String answer = split[1];
@@ -124,6 +137,7 @@ public class QuestionList {
                 McqQuestion mcqQuestion = new McqQuestion(question, answer, optionA, optionB,
                                             optionC, optionD);
                 questions.add(mcqQuestion);
+                questionTexts.add(question);
             }
         }
     }
@@ -133,54 +147,35 @@ public class QuestionList {
      * @return The questions of the question list in String representation.
      */
     public String getStringQuestions() {
-        String returnQuestions = "";
-        if (questions.size() <= 0) {
-            return returnQuestions;
-        }
-        Question firstQuestion = questions.get(0);
-        if (firstQuestion instanceof OpenEndedQuestion) {
-            String question = firstQuestion.getQuestion();
-            String answer = firstQuestion.getAnswer();
-            returnQuestions += question + ":" + answer;
-        } else {
-            McqQuestion mcqQuestion = (McqQuestion) firstQuestion;
-            String question = firstQuestion.getQuestion();
-            String answer = firstQuestion.getAnswer();
-            returnQuestions += question + ":" + answer + ":"
-                                + mcqQuestion.getOptionA() + ":" + mcqQuestion.getOptionB() + ":"
-                                + mcqQuestion.getOptionC() + ":" + mcqQuestion.getOptionD();
-        }
-        for (int i = 1; i < questions.size(); i++) {
-            Question nextQuestion = questions.get(i);
-            if (nextQuestion instanceof OpenEndedQuestion) {
-                String question = nextQuestion.getQuestion();
-                String answer = nextQuestion.getAnswer();
-                returnQuestions += "//" + question + ":" + answer;
-            } else {
-                McqQuestion mcqQuestion = (McqQuestion) nextQuestion;
-                String question = nextQuestion.getQuestion();
-                String answer = nextQuestion.getAnswer();
-                returnQuestions += "//" + question + ":" + answer + ":"
-                        + mcqQuestion.getOptionA() + ":" + mcqQuestion.getOptionB() + ":"
-                        + mcqQuestion.getOptionC() + ":" + mcqQuestion.getOptionD();
+        return AppendableContent.toString(this::appendStringQuestions);
+    }
+
+    /**
+     * Appends the questions of a question list in String representation to an output.
+     * @param out The output to append the questions to.
+     * @throws IOException If the output could not be written to.
+     */
+    public void appendStringQuestions(Appendable out) throws IOException {
+        for (int i = 0; i < questions.size(); i++) {
+            Question question = questions.get(i);
+            if (i > 0) {
+                out.append("//");
+            }
+            out.append(question.getQuestion()).append(":").append(question.getAnswer());
+            if (!(question instanceof OpenEndedQuestion)) {
+                McqQuestion mcqQuestion = (McqQuestion) question;
+                out.append(":").append(mcqQuestion.getOptionA()).append(":").append(mcqQuestion.getOptionB())
+                        .append(":").append(mcqQuestion.getOptionC()).append(":").append(mcqQuestion.getOptionD());
             }
         }
-        return returnQuestions;
     }
 
     /**
-     * Returns true if a question is already in a question list, else false.
+     * Returns true if a question with the same text is already in a question list, else false.
      * @param question The question to be checked.
      * @return True if the question is already in the question list, else false.
      */
-    private boolean isRepeated(Question question) {
-        String otherQuestion = question.getQuestion();
-        for (Question q : questions) {
-            String currentQuestion = q.getQuestion();
-            if (currentQuestion.equals(otherQuestion)) {
-                return true;
-            }
-        }
-        return false;
+    public boolean contains(Question question) {
+        return questionTexts.contains(question.getQuestion());
     }
 }
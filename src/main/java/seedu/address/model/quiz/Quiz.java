@@ -2,10 +2,11 @@ package seedu.address.model.quiz;
 
 import static java.util.Objects.requireNonNull;
 
-import java.util.ArrayList;
+import java.io.IOException;
+import java.util.List;
 
-import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import seedu.address.commons.util.AppendableContent;
 import seedu.address.model.question.McqQuestion;
 import seedu.address.model.question.Question;
 
@@ -15,7 +16,7 @@ import seedu.address.model.question.Question;
 public class Quiz {
 
     private String quizId;
-    private QuestionList questionList;
+    private final QuestionList questionList;
 
     /**
      * Creates a Quiz instance with the appropriate attributes.
@@ -72,22 +73,32 @@ public class Quiz {
     }
 
     /**
-     * Sets a quiz's question list.
+     * Sets a quiz's questions to those of a question list. The quiz keeps its own question list, so views of
+     * its questions stay up to date.
      * @param questionList The question list to be set.
      */
     public void setQuestionList(QuestionList questionList) {
-        this.questionList = questionList;
+        this.questionList.setQuestions(questionList.getQuestions());
     }
 
-    public ObservableList<Question> getObservableListQuestions() {
-        ArrayList<Question> questions = questionList.getQuestions();
-        ObservableList<Question> questionObservableList = FXCollections.observableArrayList();
-
-        for (Question question : questions) {
-            questionObservableList.add(question);
-        }
+    /**
+     * Returns a copy of this quiz with its own question list, so that later changes to either quiz are not
+     * seen by the other.
+     * @return The copy of the quiz.
+     */
+    public Quiz duplicate() {
+        Quiz copy = new Quiz(quizId);
+        copy.questionList.setQuestions(questionList.getQuestions());
+        return copy;
+    }
 
-        return questionObservableList;
+    /**
+     * Returns the questions of a quiz as an unmodifiable {@code ObservableList}.
+     * The same list is returned every time, and it follows later changes to the quiz's questions.
+     * @return The questions of the quiz.
+     */
+    public ObservableList<Question> getObservableListQuestions() {
+        return questionList.getQuestions();
     }
 
     /**
@@ -95,29 +106,36 @@ public class Quiz {
      * @return The quiz questions, formatted in String representation for writing to the text file.
      */
     public String getFormattedQuestions() {
-        ArrayList<Question> questions = questionList.getQuestions();
-        String formattedQuestions = quizId + ".\n\n";
-        formattedQuestions += "Questions:\n";
+        return AppendableContent.toString(this::appendFormattedQuestions);
+    }
+
+    /**
+     * Appends the quiz questions, formatted for writing to a text file, to an output.
+     * @param out The output to append the formatted questions to.
+     * @throws IOException If the output could not be written to.
+     */
+    public void appendFormattedQuestions(Appendable out) throws IOException {
+        List<Question> questions = questionList.getQuestions();
+        out.append(quizId).append(".\n\n");
+        out.append("Questions:\n");
 
         int listSize = questions.size();
         for (int i = 0; i < listSize; i++) {
             int questionNumber = i + 1;
             Question question = questions.get(i);
             String questionText = question.getQuestion();
-            formattedQuestions += questionNumber + ". " + questionText + "\n";
+            out.append(String.valueOf(questionNumber)).append(". ").append(questionText).append("\n");
 
             if (isMcqQuestion(question)) {
                 McqQuestion mcqQuestion = (McqQuestion) question;
-                formattedQuestions += "A. " + mcqQuestion.getOptionA() + "\n";
-                formattedQuestions += "B. " + mcqQuestion.getOptionB() + "\n";
-                formattedQuestions += "C. " + mcqQuestion.getOptionC() + "\n";
-                formattedQuestions += "D. " + mcqQuestion.getOptionD() + "\n";
+                out.append("A. ").append(mcqQuestion.getOptionA()).append("\n");
+                out.append("B. ").append(mcqQuestion.getOptionB()).append("\n");
+                out.append("C. ").append(mcqQuestion.getOptionC()).append("\n");
+                out.append("D. ").append(mcqQuestion.getOptionD()).append("\n");
             }
 
-            formattedQuestions += "\n";
+            out.append("\n");
         }
-
-        return formattedQuestions;
     }
 
     /**
@@ -125,18 +143,25 @@ public class Quiz {
      * @return The quiz answers, formatted in String representation for writing to the text file.
      */
     public String getFormattedAnswers() {
-        ArrayList<String> answers = questionList.getAnswers();
-        String formattedAnswers = "Answers [Teacher's Copy]:\n";
+        return AppendableContent.toString(this::appendFormattedAnswers);
+    }
+
+    /**
+     * Appends the quiz answers, formatted for writing to a text file, to an output.
+     * @param out The output to append the formatted answers to.
+     * @throws IOException If the output could not be written to.
+     */
+    public void appendFormattedAnswers(Appendable out) throws IOException {
+        List<Question> questions = questionList.getQuestions();
+        out.append("Answers [Teacher's Copy]:\n");
 
-        int listSize = answers.size();
+        int listSize = questions.size();
         for (int i = 0; i < listSize; i++) {
             int questionNumber = i + 1;
-            String answer = answers.get(i);
-            formattedAnswers += questionNumber + ". " + answer + "\n";
-            formattedAnswers += "\n";
+            String answer = questions.get(i).getAnswer();
+            out.append(String.valueOf(questionNumber)).append(". ").append(answer).append("\n");
+            out.append("\n");
         }
-
-        return formattedAnswers;
     }
 
     /**
@@ -144,52 +169,65 @@ public class Quiz {
      * @return The String representation of the quiz's questions.
      */
     public String getQuestionsForExport() {
-        ArrayList<Question> questions = questionList.getQuestions();
-        String formattedQuestions = "<!DOCTYPE html>\n<html>\n<body>\n" + "<center><h2> ";
-        formattedQuestions += quizId + "</h2></center>\n";
+        return AppendableContent.toString(this::appendQuestionsForExport);
+    }
+
+    /**
+     * Appends a quiz's questions, formatted as a html page, to an output.
+     * @param out The output to append the html page to.
+     * @throws IOException If the output could not be written to.
+     */
+    public void appendQuestionsForExport(Appendable out) throws IOException {
+        List<Question> questions = questionList.getQuestions();
+        out.append("<!DOCTYPE html>\n<html>\n<body>\n" + "<center><h2> ");
+        out.append(quizId).append("</h2></center>\n");
 
         int listSize = questions.size();
         for (int i = 0; i < listSize; i++) {
             int questionNumber = i + 1;
             Question question = questions.get(i);
             String questionText = question.getQuestion();
-            formattedQuestions += "<font size=\"5\">" + questionNumber + ". " + questionText + "</font>\n";
+            out.append("<font size=\"5\">").append(String.valueOf(questionNumber)).append(". ")
+                    .append(questionText).append("</font>\n");
 
             if (isMcqQuestion(question)) {
                 McqQuestion mcqQuestion = (McqQuestion) question;
-                String optionA = mcqQuestion.getOptionA();
-                String optionB = mcqQuestion.getOptionB();
-                String optionC = mcqQuestion.getOptionC();
-                String optionD = mcqQuestion.getOptionD();
-                formattedQuestions += "<br><br>\n";
-                formattedQuestions += "<font size=\"4\">A) " + optionA
-                                        + "</font><input type=\"radio\" name =" + "\"" + questionText
-                                        + "\" value=\"" + optionA + "\"><br>\n";
-                formattedQuestions += "<font size=\"4\">B) " + optionB
-                                        + "</font><input type=\"radio\" name =" + "\"" + questionText
-                                        + "\" value=\"" + optionB + "\"><br>\n";
-                formattedQuestions += "<font size=\"4\">C) " + optionC
-                                        + "</font><input type=\"radio\" name =" + "\"" + questionText
-                                        + "\" value=\"" + optionC + "\"><br>\n";
-                formattedQuestions += "<font size=\"4\">D) " + optionD
-                                        + "</font><input type=\"radio\" name =" + "\"" + questionText
-                                        + "\" value=\"" + optionD + "\"><br><br>\n";
+                out.append("<br><br>\n");
+                appendExportOption(out, "A", questionText, mcqQuestion.getOptionA(), "<br>\n");
+                appendExportOption(out, "B", questionText, mcqQuestion.getOptionB(), "<br>\n");
+                appendExportOption(out, "C", questionText, mcqQuestion.getOptionC(), "<br>\n");
+                appendExportOption(out, "D", questionText, mcqQuestion.getOptionD(), "<br><br>\n");
             } else {
-                formattedQuestions += "<form>\n"
+                out.append("<form>\n"
                         + "  <br><font size=\"4\">Answer:</font>"
                         + " <input type=\"text\" name=\"answer\" size=\"100\"><br><br>\n"
-                        + "</form>";
+                        + "</form>");
             }
         }
 
-        formattedQuestions += "</body>\n" + "</html>";
+        out.append("</body>\n" + "</html>");
+    }
 
-        return formattedQuestions;
+    /**
+     * Appends an option of an mcq question, as a html radio button, to an output.
+     * @param out The output to append the option to.
+     * @param label The label of the option.
+     * @param questionText The text of the question the option belongs to.
+     * @param option The option.
+     * @param lineEnd The html ending the line of the option.
+     * @throws IOException If the output could not be written to.
+     */
+    private static void appendExportOption(Appendable out, String label, String questionText, String option,
+                                           String lineEnd) throws IOException {
+        out.append("<font size=\"4\">").append(label).append(") ").append(option)
+                .append("</font><input type=\"radio\" name =" + "\"").append(questionText)
+                .append("\" value=\"").append(option).append("\">").append(lineEnd);
     }
 
     /**
      * Sets the String represented questions as the questions of a question list.
      * @param questions The questions in String representation.
+     * @throws IllegalArgumentException If a question is not in the String representation.
      */
     public void setStringQuestions(String questions) {
         questionList.setStringQuestions(questions);
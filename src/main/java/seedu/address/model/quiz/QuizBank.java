@@ -2,14 +2,20 @@ package seedu.address.model.quiz;
 
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 
 /**
  * Represents a storage class which holds all the quizzes created up to date.
+ * Quizzes are also kept by their identifiers, so finding, adding and removing a quiz by its identifier does not
+ * look through every quiz.
  */
 public class QuizBank implements Iterable<Quiz> {
 
@@ -18,14 +24,24 @@ public class QuizBank implements Iterable<Quiz> {
     private final ObservableList<Quiz> quizzes = FXCollections.observableArrayList();
     private final ObservableList<Quiz> quizzesUnmodifiableList =
             FXCollections.unmodifiableObservableList(quizzes);
+    private final Map<String, Quiz> quizzesById = new HashMap<>();
 
     /**
      * Replaces the contents of this list with {@code Quizzes}. {@code Quizzes} must not contain
-     * duplicate Quizzes.
+     * duplicate Quizzes; any quiz with the same identifier as an earlier one is left out.
      */
     public void setQuizzes(List<Quiz> quizzes) {
         requireAllNonNull(quizzes);
-        this.quizzes.setAll(quizzes);
+        Map<String, Quiz> replacementById = new HashMap<>();
+        List<Quiz> replacement = new ArrayList<>();
+        for (Quiz quiz : quizzes) {
+            if (replacementById.putIfAbsent(quiz.getQuizId(), quiz) == null) {
+                replacement.add(quiz);
+            }
+        }
+        quizzesById.clear();
+        quizzesById.putAll(replacementById);
+        this.quizzes.setAll(replacement);
     }
 
     /**
@@ -33,36 +49,54 @@ public class QuizBank implements Iterable<Quiz> {
      * @param quiz The quiz to be added to the quiz bank.
      */
     public void addQuiz(Quiz quiz) {
-        if (!isRepeated(quiz)) {
+        if (quizzesById.putIfAbsent(quiz.getQuizId(), quiz) == null) {
             quizzes.add(quiz);
         }
     }
 
+    /**
+     * Adds quizzes to a quiz bank in a single change to the quiz list.
+     * Quizzes whose identifiers are already in the quiz bank, or earlier in {@code quizzes}, are not added.
+     * @param quizzes The quizzes to be added to the quiz bank.
+     */
+    public void addQuizzes(List<Quiz> quizzes) {
+        requireAllNonNull(quizzes);
+        List<Quiz> quizzesToAdd = new ArrayList<>();
+        for (Quiz quiz : quizzes) {
+            if (quizzesById.putIfAbsent(quiz.getQuizId(), quiz) == null) {
+                quizzesToAdd.add(quiz);
+            }
+        }
+        this.quizzes.addAll(quizzesToAdd);
+    }
+
     /**
      * Removes a quiz from a quiz bank.
      * @param quizId The quiz to be removed from the quiz bank.
      */
     public void removeQuiz(String quizId) {
-        for (Quiz q : quizzes) {
-            if (q.getQuizId().equals(quizId)) {
-                quizzes.remove(q);
-            }
+        Quiz removedQuiz = quizzesById.remove(quizId);
+        if (removedQuiz != null) {
+            quizzes.remove(removedQuiz);
         }
     }
 
     /**
-     * Returns the quizIndex of a quiz if found, else -1.
+     * Returns the quiz with an identifier, if it is in the quiz bank.
      * @param quizId The quiz identifier of the quiz.
-     * @return The quizIndex of the quiz.
+     * @return The quiz, or an empty Optional if there is no quiz with the identifier.
      */
-    public int getQuizIndex(String quizId) {
-        for (int i = 0; i < quizzes.size(); i++) {
-            Quiz currentQuiz = quizzes.get(i);
-            if (currentQuiz.getQuizId().equals(quizId)) {
-                return i;
-            }
-        }
-        return -1;
+    public Optional<Quiz> findQuiz(String quizId) {
+        return Optional.ofNullable(quizzesById.get(quizId));
+    }
+
+    /**
+     * Returns true if a quiz with an identifier is in the quiz bank, else false.
+     * @param quizId The quiz identifier of the quiz.
+     * @return True if the quiz is in the quiz bank, else false.
+     */
+    public boolean hasQuiz(String quizId) {
+        return quizzesById.containsKey(quizId);
     }
 
     /**
@@ -98,23 +132,7 @@ public class QuizBank implements Iterable<Quiz> {
 
     @Override
     public Iterator<Quiz> iterator() {
-        return quizzes.iterator();
-    }
-
-    /**
-     * Checks if a quiz has been repeated, i.e same quizIds.
-     * @param quiz The quiz to be checked.
-     * @return True if the quiz is repeated, else false.
-     */
-    private boolean isRepeated(Quiz quiz) {
-        for (Quiz q : quizzes) {
-            String thisQuizId = q.getQuizId();
-            String otherQuizId = quiz.getQuizId();
-            if (thisQuizId.equals(otherQuizId)) {
-                return true;
-            }
-        }
-        return false;
+        return quizzesUnmodifiableList.iterator();
     }
 
     @Override
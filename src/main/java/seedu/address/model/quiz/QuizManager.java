@@ -1,11 +1,29 @@
 package seedu.address.model.quiz;
 
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
 import java.io.IOException;
+import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.function.Predicate;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.core.index.Index;
+import seedu.address.commons.util.AppendableContent;
 import seedu.address.model.question.Question;
 import seedu.address.model.question.QuestionBank;
 import seedu.address.model.question.SavedQuestions;
@@ -16,6 +34,10 @@ import seedu.address.storage.export.HtmlExporter;
  */
 public class QuizManager {
 
+    public static final int MAX_VARIANT_ATTEMPTS = 100;
+
+    private static final Logger logger = LogsCenter.getLogger(QuizManager.class);
+
     /**
      * Creates a QuizManager instance with the appropriate attributes.
      */
@@ -63,23 +85,29 @@ public class QuizManager {
      */
     public static boolean createQuizAutomatically(String quizId, int numQuestions, String type,
                                             SavedQuestions savedQuestions, QuizBank quizBank) {
-        Quiz quiz = new Quiz(quizId);
-        QuestionBank questionBank = savedQuestions.getQuestionBank();
+        long seed = new SplittableRandom().nextLong();
+        logger.info("Creating quiz " + quizId + " automatically with seed " + seed);
+        return createQuizAutomatically(quizId, numQuestions, type, savedQuestions, quizBank,
+                new SplittableRandom(seed));
+    }
 
-        ObservableList<Question> relevantQuestions = FXCollections.observableArrayList();
-        switch (type) {
-        case "mcq":
-            relevantQuestions = questionBank.getMcqQuestions();
-            break;
-        case "open":
-            relevantQuestions = questionBank.getOpenEndedQuestions();
-            break;
-        case "all":
-            relevantQuestions = questionBank.getAllQuestions();
-            break;
-        default:
-            break;
-        }
+    /**
+     * Creates a quiz automatically, picking its questions with {@code random}.
+     * The same questions are picked in the same order for a question bank whenever {@code random} is created
+     * with the same seed.
+     * @param quizId The identifier of the quiz to be created.
+     * @param numQuestions The number of questions to be added to the quiz.
+     * @param type The type of questions to be added to the quiz.
+     * @param savedQuestions The saved questions.
+     * @param quizBank The quiz bank.
+     * @param random The source of randomness for picking questions.
+     * @return True if the quiz has been created, false if not.
+     */
+    public static boolean createQuizAutomatically(String quizId, int numQuestions, String type,
+                                            SavedQuestions savedQuestions, QuizBank quizBank,
+                                            SplittableRandom random) {
+        Quiz quiz = new Quiz(quizId);
+        ObservableList<Question> relevantQuestions = getQuestionsOfType(type, savedQuestions.getQuestionBank());
 
         int listSize = relevantQuestions.size();
 
@@ -88,15 +116,8 @@ public class QuizManager {
         }
 
         if (listSize > numQuestions) {
-            for (int i = 0; i < numQuestions; i++) {
-                int randomQuestionIndex = getRandomQuestionIndex(listSize);
-                Question randomQuestion = relevantQuestions.get(randomQuestionIndex);
-                boolean isSuccess = quiz.addQuestion(randomQuestion);
-                while (!isSuccess) {
-                    randomQuestionIndex = getRandomQuestionIndex(listSize);
-                    randomQuestion = relevantQuestions.get(randomQuestionIndex);
-                    isSuccess = quiz.addQuestion(randomQuestion);
-                }
+            for (Question q : sampleQuestions(relevantQuestions, numQuestions, random)) {
+                quiz.addQuestion(q);
             }
         } else {
             for (Question q : relevantQuestions) {
@@ -107,6 +128,181 @@ public class QuizManager {
         return true;
     }
 
+    /**
+     * Creates variants of a quiz automatically, each with its own random selection and order of questions.
+     * The variants are named by {@link #getVariantQuizId(String, int)} and added to the quiz bank together.
+     * @param quizId The identifier that the variants are named after.
+     * @param numVariants The number of variants to be created.
+     * @param numQuestions The number of questions to be added to each variant.
+     * @param type The type of questions to be added to the variants.
+     * @param maxOverlap The most questions that any two variants can have in common.
+     * @param savedQuestions The saved questions.
+     * @param quizBank The quiz bank.
+     * @return True if the variants have been created, false if not.
+     */
+    public static boolean createQuizVariants(String quizId, int numVariants, int numQuestions, String type,
+                                             int maxOverlap, SavedQuestions savedQuestions, QuizBank quizBank) {
+        long seed = new SplittableRandom().nextLong();
+        logger.info("Creating " + numVariants + " variants of quiz " + quizId + " with seed " + seed);
+        return createQuizVariants(quizId, numVariants, numQuestions, type, maxOverlap, savedQuestions, quizBank,
+                new SplittableRandom(seed));
+    }
+
+    /**
+     * Creates variants of a quiz automatically, picking their questions with {@code random}.
+     * The variants are first picked in parallel, each with a generator split from {@code random}. A variant that
+     * has more than {@code maxOverlap} questions in common with an earlier variant is then picked again, up to
+     * {@code MAX_VARIANT_ATTEMPTS} times.
+     * @param quizId The identifier that the variants are named after.
+     * @param numVariants The number of variants to be created.
+     * @param numQuestions The number of questions to be added to each variant.
+     * @param type The type of questions to be added to the variants.
+     * @param maxOverlap The most questions that any two variants can have in common.
+     * @param savedQuestions The saved questions.
+     * @param quizBank The quiz bank.
+     * @param random The source of randomness for picking questions.
+     * @return True if the variants have been created, false if not.
+     */
+    public static boolean createQuizVariants(String quizId, int numVariants, int numQuestions, String type,
+                                             int maxOverlap, SavedQuestions savedQuestions, QuizBank quizBank,
+                                             SplittableRandom random) {
+        ObservableList<Question> relevantQuestions = getQuestionsOfType(type, savedQuestions.getQuestionBank());
+        if (relevantQuestions.size() < numQuestions) {
+            return false;
+        }
+
+        List<SplittableRandom> variantRandoms = new ArrayList<>();
+        for (int i = 0; i < numVariants; i++) {
+            variantRandoms.add(random.split());
+        }
+        List<List<Question>> variants = variantRandoms.parallelStream()
+                .map(variantRandom -> sampleQuestions(relevantQuestions, numQuestions, variantRandom))
+                .collect(Collectors.toList());
+
+        List<Set<Question>> acceptedVariants = new ArrayList<>();
+        for (int i = 0; i < numVariants; i++) {
+            List<Question> variant = variants.get(i);
+            int attempts = 1;
+            while (hasOverlapAbove(variant, acceptedVariants, maxOverlap)) {
+                if (attempts == MAX_VARIANT_ATTEMPTS) {
+                    return false;
+                }
+                variant = sampleQuestions(relevantQuestions, numQuestions, variantRandoms.get(i));
+                attempts++;
+            }
+            variants.set(i, variant);
+            Set<Question> variantQuestions = Collections.newSetFromMap(new IdentityHashMap<>());
+            variantQuestions.addAll(variant);
+            acceptedVariants.add(variantQuestions);
+        }
+
+        List<Quiz> quizzes = new ArrayList<>();
+        for (int i = 0; i < numVariants; i++) {
+            Quiz quiz = new Quiz(getVariantQuizId(quizId, i + 1));
+            for (Question q : variants.get(i)) {
+                quiz.addQuestion(q);
+            }
+            quizzes.add(quiz);
+        }
+        quizBank.addQuizzes(quizzes);
+        return true;
+    }
+
+    /**
+     * Creates a quiz automatically with a number of questions of each type, leaving out questions that are in
+     * any of the most recently created quizzes.
+     * @param quizId The identifier of the quiz to be created.
+     * @param numMcqQuestions The number of mcq questions to be added to the quiz.
+     * @param numOpenEndedQuestions The number of open ended questions to be added to the quiz.
+     * @param numRecentQuizzes The number of most recently created quizzes whose questions are left out.
+     * @param savedQuestions The saved questions.
+     * @param quizBank The quiz bank.
+     * @return The time taken to pick the questions if the quiz has been created, else an empty Optional.
+     */
+    public static Optional<Duration> createQuizByQuotas(String quizId, int numMcqQuestions,
+                                                        int numOpenEndedQuestions, int numRecentQuizzes,
+                                                        SavedQuestions savedQuestions, QuizBank quizBank) {
+        long seed = new SplittableRandom().nextLong();
+        logger.info("Creating quiz " + quizId + " by quotas with seed " + seed);
+        return createQuizByQuotas(quizId, numMcqQuestions, numOpenEndedQuestions, numRecentQuizzes,
+                savedQuestions, quizBank, new SplittableRandom(seed));
+    }
+
+    /**
+     * Creates a quiz automatically with a number of questions of each type, picking its questions with
+     * {@code random}.
+     * Questions are picked from the question bank's views of each type of question, skipping those whose text is
+     * in any of the {@code numRecentQuizzes} most recently created quizzes. The picked questions are then put in a
+     * random order.
+     * @param quizId The identifier of the quiz to be created.
+     * @param numMcqQuestions The number of mcq questions to be added to the quiz.
+     * @param numOpenEndedQuestions The number of open ended questions to be added to the quiz.
+     * @param numRecentQuizzes The number of most recently created quizzes whose questions are left out.
+     * @param savedQuestions The saved questions.
+     * @param quizBank The quiz bank.
+     * @param random The source of randomness for picking questions.
+     * @return The time taken to pick the questions if the quiz has been created, else an empty Optional.
+     */
+    public static Optional<Duration> createQuizByQuotas(String quizId, int numMcqQuestions,
+                                                        int numOpenEndedQuestions, int numRecentQuizzes,
+                                                        SavedQuestions savedQuestions, QuizBank quizBank,
+                                                        SplittableRandom random) {
+        long startTime = System.nanoTime();
+        QuestionBank questionBank = savedQuestions.getQuestionBank();
+        Set<String> recentQuestionTexts = getRecentQuestionTexts(quizBank, numRecentQuizzes);
+        Predicate<Question> isRecent = question -> recentQuestionTexts.contains(question.getQuestion());
+        if (questionBank.getMcqQuestions().size() < numMcqQuestions
+                || questionBank.getOpenEndedQuestions().size() < numOpenEndedQuestions) {
+            logger.info("Not enough questions in the question bank for quiz " + quizId);
+            return Optional.empty();
+        }
+
+        List<Question> questions =
+                sampleQuestions(questionBank.getMcqQuestions(), numMcqQuestions, random, isRecent);
+        List<Question> openEndedQuestions =
+                sampleQuestions(questionBank.getOpenEndedQuestions(), numOpenEndedQuestions, random, isRecent);
+        Duration solveTime = Duration.ofNanos(System.nanoTime() - startTime);
+        if (questions.size() < numMcqQuestions || openEndedQuestions.size() < numOpenEndedQuestions) {
+            logger.info("Not enough questions for quiz " + quizId + ", found in " + solveTime.toMillis() + " ms");
+            return Optional.empty();
+        }
+        questions.addAll(openEndedQuestions);
+
+        Quiz quiz = new Quiz(quizId);
+        for (Question q : sampleQuestions(questions, questions.size(), random)) {
+            quiz.addQuestion(q);
+        }
+        quizBank.addQuiz(quiz);
+        solveTime = Duration.ofNanos(System.nanoTime() - startTime);
+        logger.info("Picked the questions for quiz " + quizId + " in " + solveTime.toMillis() + " ms");
+        return Optional.of(solveTime);
+    }
+
+    /**
+     * Returns the text of every question in the {@code numRecentQuizzes} most recently created quizzes.
+     * Questions of saved quizzes are read back as new questions, so they are matched by their text.
+     */
+    private static Set<String> getRecentQuestionTexts(QuizBank quizBank, int numRecentQuizzes) {
+        List<Quiz> quizzes = quizBank.asUnmodifiableObservableList();
+        Set<String> recentQuestionTexts = new HashSet<>();
+        for (Quiz quiz : quizzes.subList(Math.max(0, quizzes.size() - numRecentQuizzes), quizzes.size())) {
+            for (Question question : quiz.getQuestionList().getQuestions()) {
+                recentQuestionTexts.add(question.getQuestion());
+            }
+        }
+        return recentQuestionTexts;
+    }
+
+    /**
+     * Returns the identifier of a variant of a quiz.
+     * @param quizId The identifier that the variants are named after.
+     * @param variantNumber The number of the variant, starting from 1.
+     * @return The identifier of the variant.
+     */
+    public static String getVariantQuizId(String quizId, int variantNumber) {
+        return quizId + " " + variantNumber;
+    }
+
     /**
      * Adds a question to a quiz.
      * @param quizId The identifier of the quiz to be handled.
@@ -123,8 +319,7 @@ public class QuizManager {
         int questionIndex = questionNumber - 1;
         Question question = questionBank.getQuestion(Index.fromZeroBased(questionIndex));
 
-        int quizIndex = quizBank.getQuizIndex(quizId);
-        Quiz quiz = quizBank.getQuiz(quizIndex);
+        Quiz quiz = quizBank.findQuiz(quizId).orElseThrow();
         return quiz.addQuestion(quizQuestionNumber, question);
     }
 
@@ -136,8 +331,7 @@ public class QuizManager {
      * @return True if the question can be removed, else false.
      */
     public static boolean deleteQuizQuestion(String quizId, int questionNumber, QuizBank quizBank) {
-        int quizIndex = quizBank.getQuizIndex(quizId);
-        Quiz quiz = quizBank.getQuiz(quizIndex);
+        Quiz quiz = quizBank.findQuiz(quizId).orElseThrow();
         int numQuestions = quiz.getQuestionList().getQuestions().size();
         if (questionNumber < 0 || questionNumber > numQuestions + 1) {
             return false;
@@ -153,15 +347,14 @@ public class QuizManager {
      * @return The String representation of the quiz's questions and answers.
      */
     public static String getQuestionsAndAnswers(String quizId, QuizBank quizBank) {
-        String questions = "";
-        String answers = "";
-        int quizIndex = quizBank.getQuizIndex(quizId);
-        if (quizIndex != -1) {
-            Quiz quiz = quizBank.getQuiz(quizIndex);
-            questions = quiz.getFormattedQuestions();
-            answers = quiz.getFormattedAnswers();
+        Optional<Quiz> quiz = quizBank.findQuiz(quizId);
+        if (!quiz.isPresent()) {
+            return "";
         }
-        return questions + answers;
+        return AppendableContent.toString(out -> {
+            quiz.get().appendFormattedQuestions(out);
+            quiz.get().appendFormattedAnswers(out);
+        });
     }
 
     /**
@@ -171,13 +364,7 @@ public class QuizManager {
      */
     public static ObservableList<Question> getObservableListQuestionsFromQuiz(QuizBank quizBank) {
         String quizId = QuizBank.getCurrentlyQueriedQuiz();
-        int quizIndex = quizBank.getQuizIndex(quizId);
-        ObservableList<Question> questionList = null;
-        if (quizIndex != -1) {
-            Quiz quiz = quizBank.getQuiz(quizIndex);
-            questionList = quiz.getObservableListQuestions();
-        }
-        return questionList;
+        return quizBank.findQuiz(quizId).map(Quiz::getObservableListQuestions).orElse(null);
     }
 
     /**
@@ -187,8 +374,7 @@ public class QuizManager {
      * @return True if the quiz exists, else false.
      */
     public static boolean checkQuizExists(String quizId, QuizBank quizBank) {
-        int quizIndex = quizBank.getQuizIndex(quizId);
-        return quizIndex != -1;
+        return quizBank.hasQuiz(quizId);
     }
 
     /**
@@ -199,21 +385,89 @@ public class QuizManager {
      * @throws IOException The exception to be thrown.
      */
     public static boolean exportQuiz(String quizId, QuizBank quizBank) throws IOException {
-        String quizInfo = "";
-        int quizIndex = quizBank.getQuizIndex(quizId);
-        if (quizIndex != -1) {
-            Quiz quiz = quizBank.getQuiz(quizIndex);
-            quizInfo = quiz.getQuestionsForExport();
+        AppendableContent quizInfo = out -> { };
+        Optional<Quiz> quiz = quizBank.findQuiz(quizId);
+        if (quiz.isPresent()) {
+            quizInfo = quiz.get()::appendQuestionsForExport;
         }
         return HtmlExporter.export(quizId, quizInfo);
     }
 
     /**
-     * Returns a random question index.
-     * @param listSize The upper limit for the random value.
-     * @return The random question index.
+     * Returns the questions of the given type in a question bank.
+     * @param type The type of questions: mcq, open or all.
+     * @param questionBank The question bank.
+     * @return The questions of the type, or an empty list if the type is not known.
+     */
+    private static ObservableList<Question> getQuestionsOfType(String type, QuestionBank questionBank) {
+        switch (type) {
+        case "mcq":
+            return questionBank.getMcqQuestions();
+        case "open":
+            return questionBank.getOpenEndedQuestions();
+        case "all":
+            return questionBank.getAllQuestions();
+        default:
+            return FXCollections.observableArrayList();
+        }
+    }
+
+    /**
+     * Returns true if {@code variant} has more than {@code maxOverlap} questions in common with any of
+     * {@code otherVariants}.
      */
-    private static int getRandomQuestionIndex(int listSize) {
-        return (int) Math.floor(Math.random() * listSize);
+    private static boolean hasOverlapAbove(List<Question> variant, List<Set<Question>> otherVariants,
+                                           int maxOverlap) {
+        for (Set<Question> otherVariant : otherVariants) {
+            int overlap = 0;
+            for (Question question : variant) {
+                if (otherVariant.contains(question)) {
+                    overlap++;
+                }
+            }
+            if (overlap > maxOverlap) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns {@code sampleSize} different questions from {@code questions} in a random order, each chosen with
+     * equal probability.
+     * This is the first {@code sampleSize} steps of a Fisher-Yates shuffle, in which only the positions that have
+     * been swapped are recorded, so the questions themselves are neither copied nor retried.
+     * @param questions The questions to choose from.
+     * @param sampleSize The number of questions to choose, at most the number of questions.
+     * @param random The source of randomness.
+     * @return The chosen questions.
+     */
+    public static List<Question> sampleQuestions(List<Question> questions, int sampleSize, SplittableRandom random) {
+        requireAllNonNull(questions, random);
+        checkArgument(sampleSize >= 0 && sampleSize <= questions.size(), "sampleSize must be within the questions");
+
+        return sampleQuestions(questions, sampleSize, random, question -> false);
+    }
+
+    /**
+     * Returns up to {@code sampleSize} different questions from {@code questions} that are not excluded, in a random
+     * order, each chosen with equal probability.
+     * The shuffle goes on past excluded questions, so fewer than {@code sampleSize} questions are returned only if
+     * there are not enough questions that are not excluded.
+     */
+    private static List<Question> sampleQuestions(List<Question> questions, int sampleSize, SplittableRandom random,
+                                                  Predicate<Question> isExcluded) {
+        Map<Integer, Integer> swappedPositions = new HashMap<>();
+        List<Question> sample = new ArrayList<>(Math.min(sampleSize, questions.size()));
+        for (int i = 0; i < questions.size() && sample.size() < sampleSize; i++) {
+            int randomPosition = random.nextInt(i, questions.size());
+            int pickedPosition = swappedPositions.getOrDefault(randomPosition, randomPosition);
+            swappedPositions.put(randomPosition, swappedPositions.getOrDefault(i, i));
+            Question pickedQuestion = questions.get(pickedPosition);
+            if (!isExcluded.test(pickedQuestion)) {
+                sample.add(pickedQuestion);
+            }
+        }
+        return sample;
     }
 }
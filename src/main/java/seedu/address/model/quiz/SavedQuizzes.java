@@ -3,19 +3,23 @@ package seedu.address.model.quiz;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import seedu.address.model.question.Question;
 import seedu.address.model.question.SavedQuestions;
 
 /**
- * Wraps all data at the questions level Duplicates are not allowed (by .isRepeated comparison)
+ * Wraps all data at the questions level Duplicates are not allowed (by quiz identifier comparison)
  */
 public class SavedQuizzes implements ReadOnlyQuizzes {
 
     private final QuizBank quizzes;
+    private long version;
 
     /*
      * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
@@ -29,6 +33,7 @@ public class SavedQuizzes implements ReadOnlyQuizzes {
     }
 
     public SavedQuizzes() {
+        quizzes.asUnmodifiableObservableList().addListener((ListChangeListener<Quiz>) change -> version++);
     }
 
     /**
@@ -93,6 +98,38 @@ public class SavedQuizzes implements ReadOnlyQuizzes {
         return QuizManager.createQuizAutomatically(quizId, numQuestions, type, savedQuestions, quizzes);
     }
 
+    /**
+     * Creates a quiz automatically with a number of questions of each type, leaving out questions that are in
+     * any of the most recently created quizzes.
+     * @param quizId The identifier of the quiz to be created.
+     * @param numMcqQuestions The number of mcq questions to be added to the quiz.
+     * @param numOpenEndedQuestions The number of open ended questions to be added to the quiz.
+     * @param numRecentQuizzes The number of most recently created quizzes whose questions are left out.
+     * @param savedQuestions The saved questions.
+     * @return The time taken to pick the questions if the quiz has been created, else an empty Optional.
+     */
+    public Optional<Duration> createQuizByQuotas(String quizId, int numMcqQuestions, int numOpenEndedQuestions,
+                                                 int numRecentQuizzes, SavedQuestions savedQuestions) {
+        return QuizManager.createQuizByQuotas(quizId, numMcqQuestions, numOpenEndedQuestions, numRecentQuizzes,
+                savedQuestions, quizzes);
+    }
+
+    /**
+     * Creates variants of a quiz automatically, adding them to the quiz bank in a single change.
+     * @param quizId The identifier that the variants are named after.
+     * @param numVariants The number of variants to be created.
+     * @param numQuestions The number of questions to be added to each variant.
+     * @param type The type of questions to be added to the variants.
+     * @param maxOverlap The most questions that any two variants can have in common.
+     * @param savedQuestions The saved questions.
+     * @return True if the variants have been created, false if not.
+     */
+    public boolean createQuizVariants(String quizId, int numVariants, int numQuestions, String type,
+                                      int maxOverlap, SavedQuestions savedQuestions) {
+        return QuizManager.createQuizVariants(quizId, numVariants, numQuestions, type, maxOverlap,
+                savedQuestions, quizzes);
+    }
+
     /**
      * Adds a question to a quiz.
      * @param quizId The identifier of the quiz to be handled.
@@ -103,8 +140,13 @@ public class SavedQuizzes implements ReadOnlyQuizzes {
      */
     public boolean addQuizQuestion(String quizId, int questionNumber, int quizQuestionNumber,
                                    SavedQuestions savedQuestions) {
-        return QuizManager.addQuizQuestion(quizId, questionNumber, quizQuestionNumber, savedQuestions,
-                                        quizzes);
+        boolean isAdded = QuizManager.addQuizQuestion(quizId, questionNumber, quizQuestionNumber,
+                                        savedQuestions, quizzes);
+        if (isAdded) {
+            // Quizzes are edited in place, which is not visible to listeners of the quiz list.
+            version++;
+        }
+        return isAdded;
     }
 
     /**
@@ -114,7 +156,11 @@ public class SavedQuizzes implements ReadOnlyQuizzes {
      * @return True if the question can be removed, else false.
      */
     public boolean deleteQuizQuestion(String quizId, int questionNumber) {
-        return QuizManager.deleteQuizQuestion(quizId, questionNumber, quizzes);
+        boolean isDeleted = QuizManager.deleteQuizQuestion(quizId, questionNumber, quizzes);
+        if (isDeleted) {
+            version++;
+        }
+        return isDeleted;
     }
 
     /**
@@ -152,6 +198,11 @@ public class SavedQuizzes implements ReadOnlyQuizzes {
 
     //// util methods
 
+    @Override
+    public long getVersion() {
+        return version;
+    }
+
     @Override
     public String toString() {
         return quizzes.asUnmodifiableObservableList().size() + " Quizzes";
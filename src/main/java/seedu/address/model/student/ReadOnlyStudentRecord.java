@@ -1,11 +1,12 @@
 package seedu.address.model.student;
 
 import javafx.collections.ObservableList;
+import seedu.address.model.VersionedRecord;
 
 /**
  * Unmodifiable view of an student record
  */
-public interface ReadOnlyStudentRecord {
+public interface ReadOnlyStudentRecord extends VersionedRecord {
 
     /**
      * Returns an unmodifiable view of the students list.
@@ -3,9 +3,11 @@ package seedu.address.model.student;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.index.Index;
 
@@ -16,12 +18,14 @@ import seedu.address.commons.core.index.Index;
 public class StudentRecord implements ReadOnlyStudentRecord {
 
     private final UniqueStudentList students;
+    private long version;
 
     {
         students = new UniqueStudentList();
     }
 
     public StudentRecord() {
+        students.asUnmodifiableObservableList().addListener((ListChangeListener<Student>) change -> version++);
     }
 
     /**
@@ -69,6 +73,17 @@ public class StudentRecord implements ReadOnlyStudentRecord {
         students.add(p);
     }
 
+    /**
+     * Adds Students to the end of the student list, in a single update of the list.
+     * The Students must be distinct and must not already exist in the student list.
+     */
+    public void addStudents(List<Student> toAdd) {
+        requireNonNull(toAdd);
+        List<Student> combined = new ArrayList<>(students.asUnmodifiableObservableList());
+        combined.addAll(toAdd);
+        students.setStudents(combined);
+    }
+
     /**
      * Replaces the given Student {@code target} in the list with {@code editedStudent}.
      * {@code target} must exist in the student list.
@@ -101,6 +116,11 @@ public class StudentRecord implements ReadOnlyStudentRecord {
 
     //// util methods
 
+    @Override
+    public long getVersion() {
+        return version;
+    }
+
     @Override
     public String toString() {
         return students.asUnmodifiableObservableList().size() + " Students";
@@ -3,8 +3,10 @@ package seedu.address.model.student;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import javafx.collections.FXCollections;
@@ -21,6 +23,11 @@ import seedu.address.model.tag.Tag;
  * Student being added or updated is unique in terms of identity in the UniqueStudentList. However, the removal of
  * a Student uses Student#equals(Object) so as to ensure that the Student with exactly the same fields will be removed.
  * <p>
+ * The position of every Student is indexed by name, so that checking for, finding and adding a Student take
+ * constant time, and replacing the whole list takes linear time. Finding, replacing or removing a given Student
+ * looks up the position by name, and then checks that the Student there is equal to the given one, so a
+ * Student whose other fields are out of date is not found.
+ * <p>
  * Supports a minimal set of list operations.
  *
  * @see Student#isSameStudent(Student)
@@ -30,13 +37,14 @@ public class UniqueStudentList implements Iterable<Student> {
     private final ObservableList<Student> internalList = FXCollections.observableArrayList();
     private final ObservableList<Student> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final Map<Name, Integer> positionsByName = new HashMap<>();
 
     /**
      * Returns true if the list contains an equivalent Student as the given argument.
      */
     public boolean contains(Student toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameStudent);
+        return positionsByName.containsKey(toCheck.getName());
     }
 
     /**
@@ -48,6 +56,7 @@ public class UniqueStudentList implements Iterable<Student> {
         if (contains(toAdd)) {
             throw new DuplicateStudentException();
         }
+        positionsByName.put(toAdd.getName(), internalList.size());
         internalList.add(toAdd);
         return true;
     }
@@ -65,6 +74,7 @@ public class UniqueStudentList implements Iterable<Student> {
             throw new DuplicateStudentException();
         }
         internalList.add(indexNumber, toAdd);
+        updatePositionsFrom(indexNumber);
         return true;
     }
 
@@ -76,7 +86,7 @@ public class UniqueStudentList implements Iterable<Student> {
     public void setStudent(Student target, Student editedStudent) {
         requireAllNonNull(target, editedStudent);
 
-        int index = internalList.indexOf(target);
+        int index = indexOf(target);
         if (index == -1) {
             throw new StudentNotFoundException();
         }
@@ -85,17 +95,24 @@ public class UniqueStudentList implements Iterable<Student> {
             throw new DuplicateStudentException();
         }
 
-        internalList.set(index, editedStudent);
+        replace(index, editedStudent);
     }
 
     /**
-     * Adds student to student list, with the specified index.
+     * Replaces the student at the specified index with {@code student}.
+     * The Student identity of {@code student} must not be the same as another existing Student in the list.
      *
      * @param index   Index that was specified.
      * @param student Student to be added.
+     * @throws DuplicateStudentException if another student in the list has the same identity as {@code student}.
      */
     public void setStudent(Index index, Student student) {
-        internalList.set(index.getZeroBased(), student);
+        requireAllNonNull(index, student);
+        Integer existingPosition = positionsByName.get(student.getName());
+        if (existingPosition != null && existingPosition != index.getZeroBased()) {
+            throw new DuplicateStudentException();
+        }
+        replace(index.getZeroBased(), student);
     }
 
     /**
@@ -114,7 +131,7 @@ public class UniqueStudentList implements Iterable<Student> {
      * @return Student that was removed.
      */
     public Student remove(Index index) {
-        return internalList.remove(index.getZeroBased());
+        return remove(index.getZeroBased());
     }
 
     /**
@@ -124,7 +141,10 @@ public class UniqueStudentList implements Iterable<Student> {
      * @return Student that was removed.
      */
     public Student remove(int index) {
-        return internalList.remove(index);
+        Student removed = internalList.remove(index);
+        positionsByName.remove(removed.getName());
+        updatePositionsFrom(index);
+        return removed;
     }
 
 
@@ -134,9 +154,11 @@ public class UniqueStudentList implements Iterable<Student> {
      */
     public void remove(Student toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = indexOf(toRemove);
+        if (index == -1) {
             throw new StudentNotFoundException();
         }
+        remove(index);
     }
 
     /**
@@ -146,6 +168,8 @@ public class UniqueStudentList implements Iterable<Student> {
      */
     public void setStudents(UniqueStudentList replacement) {
         requireNonNull(replacement);
+        positionsByName.clear();
+        positionsByName.putAll(replacement.positionsByName);
         internalList.setAll(replacement.internalList);
     }
 
@@ -155,10 +179,15 @@ public class UniqueStudentList implements Iterable<Student> {
      */
     public void setStudents(List<Student> students) {
         requireAllNonNull(students);
-        if (!studentsAreUnique(students)) {
-            throw new DuplicateStudentException();
+        Map<Name, Integer> replacementPositions = new HashMap<>();
+        for (int i = 0; i < students.size(); i++) {
+            if (replacementPositions.put(students.get(i).getName(), i) != null) {
+                throw new DuplicateStudentException();
+            }
         }
 
+        positionsByName.clear();
+        positionsByName.putAll(replacementPositions);
         internalList.setAll(students);
     }
 
@@ -170,12 +199,8 @@ public class UniqueStudentList implements Iterable<Student> {
      */
     public Optional<Index> getIndex(Student student) {
         requireNonNull(student);
-        for (int i = 0; i < internalList.size(); i++) {
-            if (student.equals(internalList.get(i))) {
-                return Optional.of(Index.fromZeroBased(i));
-            }
-        }
-        return Optional.empty();
+        int index = indexOf(student);
+        return index == -1 ? Optional.empty() : Optional.of(Index.fromZeroBased(index));
     }
 
     /**
@@ -230,16 +255,31 @@ public class UniqueStudentList implements Iterable<Student> {
     }
 
     /**
-     * Returns true if {@code Students} contains only unique Students.
+     * Returns the position of the Student equal to {@code student}, or -1 if there is none.
      */
-    private boolean studentsAreUnique(List<Student> students) {
-        for (int i = 0; i < students.size() - 1; i++) {
-            for (int j = i + 1; j < students.size(); j++) {
-                if (students.get(i).isSameStudent(students.get(j))) {
-                    return false;
-                }
-            }
+    private int indexOf(Student student) {
+        Integer index = positionsByName.get(student.getName());
+        if (index == null || !internalList.get(index).equals(student)) {
+            return -1;
+        }
+        return index;
+    }
+
+    /**
+     * Replaces the Student at {@code index} with {@code student}, moving the index entry to the new name.
+     */
+    private void replace(int index, Student student) {
+        Student replaced = internalList.set(index, student);
+        positionsByName.remove(replaced.getName());
+        positionsByName.put(student.getName(), index);
+    }
+
+    /**
+     * Records the position of every Student from {@code index} onwards, after Students have been shifted.
+     */
+    private void updatePositionsFrom(int index) {
+        for (int i = index; i < internalList.size(); i++) {
+            positionsByName.put(internalList.get(i).getName(), i);
         }
-        return true;
     }
 }
@@ -0,0 +1,60 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.question.ReadOnlyQuestions;
+import seedu.address.model.student.ReadOnlyStudentRecord;
+import seedu.address.storage.question.QuestionStorage;
+import seedu.address.storage.student.StudentRecordStorage;
+
+/**
+ * Converts data files from one file format to another, by reading them with the storage for one format and
+ * saving them with the storage for the other.
+ */
+public class DataFileConverter {
+
+    /**
+     * Returns true if the data file at {@code sourceFilePath} holds changes that the data file at
+     * {@code targetFilePath} does not, because it is newer or the target file does not exist.
+     */
+    public static boolean isConversionNeeded(Path sourceFilePath, Path targetFilePath) throws IOException {
+        if (!FileUtil.isFileExists(sourceFilePath)) {
+            return false;
+        }
+        return !FileUtil.isFileExists(targetFilePath)
+                || Files.getLastModifiedTime(sourceFilePath).compareTo(Files.getLastModifiedTime(targetFilePath)) > 0;
+    }
+
+    /**
+     * Copies the student record in {@code source} to {@code target}.
+     * @return true if there was a student record to copy.
+     */
+    public static boolean convertStudentRecord(StudentRecordStorage source, StudentRecordStorage target)
+            throws DataConversionException, IOException {
+        Optional<ReadOnlyStudentRecord> studentRecord = source.readStudentRecord();
+        if (!studentRecord.isPresent()) {
+            return false;
+        }
+        target.saveStudentRecord(studentRecord.get());
+        return true;
+    }
+
+    /**
+     * Copies the questions in {@code source} to {@code target}.
+     * @return true if there were questions to copy.
+     */
+    public static boolean convertQuestions(QuestionStorage source, QuestionStorage target)
+            throws DataConversionException, IOException {
+        Optional<ReadOnlyQuestions> questions = source.readQuestions();
+        if (!questions.isPresent()) {
+            return false;
+        }
+        target.saveQuestions(questions.get());
+        return true;
+    }
+}
@@ -2,6 +2,7 @@ package seedu.address.storage;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Optional;
 
 import seedu.address.commons.exceptions.DataConversionException;
@@ -9,12 +10,14 @@ import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.event.ReadOnlyEvents;
 import seedu.address.model.event.ReadOnlyVEvents;
+import seedu.address.model.group.ReadOnlyGroups;
 import seedu.address.model.note.ReadOnlyNotesRecord;
 import seedu.address.model.question.ReadOnlyQuestions;
 import seedu.address.model.quiz.ReadOnlyQuizzes;
 import seedu.address.model.student.ReadOnlyStudentRecord;
 import seedu.address.storage.event.EventExport;
 import seedu.address.storage.event.EventStorage;
+import seedu.address.storage.group.GroupStorage;
 import seedu.address.storage.note.NotesRecordStorage;
 import seedu.address.storage.printable.NjoyPrintable;
 import seedu.address.storage.question.QuestionStorage;
@@ -22,10 +25,12 @@ import seedu.address.storage.quiz.QuizStorage;
 import seedu.address.storage.student.StudentRecordStorage;
 
 /**
- * API of the Storage component
+ * API of the Storage component.
+ * The save methods that do not take a file path may skip writing a record that has not been modified since it
+ * was last saved to its default file.
  */
 public interface Storage extends UserPrefsStorage, StudentRecordStorage,
-        QuestionStorage, QuizStorage, NotesRecordStorage, EventStorage, EventExport {
+        QuestionStorage, QuizStorage, NotesRecordStorage, EventStorage, EventExport, GroupStorage {
 
     @Override
     Optional<UserPrefs> readUserPrefs() throws DataConversionException, IOException;
@@ -96,5 +101,61 @@ public interface Storage extends UserPrefsStorage, StudentRecordStorage,
     void saveNotesRecord(ReadOnlyNotesRecord notesRecord) throws IOException;
     //endregion
 
+    //region Group methods
+    @Override
+    Path getGroupsFilePath();
+
+    @Override
+    Optional<ReadOnlyGroups> readGroups(ReadOnlyStudentRecord studentRecord) throws DataConversionException,
+            IOException;
+
+    @Override
+    void saveGroups(ReadOnlyGroups groups) throws IOException;
+    //endregion
+
     void savePrintable(NjoyPrintable printable) throws IOException;
+
+    /**
+     * Returns the number of writes that were skipped because the record was unchanged since it was last saved.
+     */
+    long getSkippedWriteCount();
+
+    /**
+     * Blocks until every save requested so far has been written to its file.
+     * @throws IOException if a write failed and the failure has not been reported yet.
+     */
+    void flush() throws IOException;
+
+    /**
+     * Returns the earliest failure of a save that was written in the background and has not been reported yet.
+     */
+    Optional<IOException> takeWriteFailure();
+
+    //region Command journal
+    /**
+     * Returns true if changes to the data are journaled as commands between saves.
+     */
+    boolean isCommandJournalEnabled();
+
+    /**
+     * Returns the journaled commands, oldest first, or an empty list if the command journal is not enabled.
+     */
+    List<String> readCommandJournal() throws IOException;
+
+    /**
+     * Appends {@code commandText} to the command journal.
+     * The command journal must be enabled.
+     */
+    void appendToCommandJournal(String commandText) throws IOException;
+
+    /**
+     * Returns the number of journaled commands.
+     */
+    int getCommandJournalSize();
+
+    /**
+     * Removes every journaled command, once the data they changed has been saved.
+     */
+    void clearCommandJournal() throws IOException;
+    //endregion
 }
@@ -2,22 +2,38 @@ package seedu.address.storage;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.logging.Logger;
+import java.util.stream.Collectors;
 
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.VersionedRecord;
+import seedu.address.model.event.EventRecord;
 import seedu.address.model.event.ReadOnlyEvents;
 import seedu.address.model.event.ReadOnlyVEvents;
+import seedu.address.model.group.ListOfGroups;
+import seedu.address.model.group.ReadOnlyGroups;
+import seedu.address.model.note.NotesRecord;
 import seedu.address.model.note.ReadOnlyNotesRecord;
 import seedu.address.model.question.ReadOnlyQuestions;
+import seedu.address.model.question.SavedQuestions;
+import seedu.address.model.quiz.Quiz;
 import seedu.address.model.quiz.ReadOnlyQuizzes;
+import seedu.address.model.quiz.SavedQuizzes;
 import seedu.address.model.student.ReadOnlyStudentRecord;
+import seedu.address.model.student.StudentRecord;
 import seedu.address.storage.event.EventExport;
 import seedu.address.storage.event.EventStorage;
 import seedu.address.storage.event.IcsEventExport;
+import seedu.address.storage.group.GroupStorage;
+import seedu.address.storage.journal.CommandJournalStorage;
 import seedu.address.storage.note.NotesRecordStorage;
 import seedu.address.storage.printable.NjoyPrintable;
 import seedu.address.storage.question.QuestionStorage;
@@ -26,6 +42,9 @@ import seedu.address.storage.student.StudentRecordStorage;
 
 /**
  * Manages storage of AddressBook data in local storage.
+ * Keeps track of the version of each record last written to each file, so that unchanged records are not
+ * rewritten after every command.
+ * In write-behind mode, records are copied and written on a background thread instead of the calling thread.
  */
 public class StorageManager implements Storage {
 
@@ -37,10 +56,16 @@ public class StorageManager implements Storage {
     private UserPrefsStorage userPrefsStorage;
     private EventStorage eventStorage;
     private EventExport eventExport;
+    private GroupStorage groupStorage;
+    private final Map<Path, SavedVersion> savedVersions = new ConcurrentHashMap<>();
+    private long skippedWriteCount;
+    private WriteBehindQueue writeBehindQueue;
+    private CommandJournalStorage commandJournalStorage;
 
     public StorageManager(UserPrefsStorage userPrefsStorage,
                           StudentRecordStorage studentRecordStorage, QuestionStorage questionStorage,
-                          QuizStorage quizStorage, NotesRecordStorage notesStorage, EventStorage eventStorage) {
+                          QuizStorage quizStorage, NotesRecordStorage notesStorage, EventStorage eventStorage,
+                          GroupStorage groupStorage) {
         super();
         this.userPrefsStorage = userPrefsStorage;
         this.studentRecordStorage = studentRecordStorage;
@@ -49,6 +74,7 @@ public class StorageManager implements Storage {
         this.quizStorage = quizStorage;
         this.notesRecordStorage = notesStorage;
         this.eventExport = new IcsEventExport();
+        this.groupStorage = groupStorage;
     }
 
     //region UserPrefs
@@ -89,14 +115,20 @@ public class StorageManager implements Storage {
 
     @Override
     public void saveStudentRecord(ReadOnlyStudentRecord studentRecord) throws IOException {
-        saveStudentRecord(studentRecord, studentRecordStorage.getStudentRecordFilePath());
+        Path filePath = studentRecordStorage.getStudentRecordFilePath();
+        if (isSavedVersion(studentRecord, filePath)) {
+            return;
+        }
+        saveStudentRecord(studentRecord, filePath);
     }
 
     @Override
     public void saveStudentRecord(ReadOnlyStudentRecord studentRecord, Path filePath)
         throws IOException {
         logger.fine("Attempting to write to student data file: " + filePath);
-        studentRecordStorage.saveStudentRecord(studentRecord, filePath);
+        savedVersions.put(filePath, new SavedVersion(studentRecord, studentRecord.getVersion()));
+        ReadOnlyStudentRecord toWrite = isWriteBehindEnabled() ? new StudentRecord(studentRecord) : studentRecord;
+        write(filePath, () -> studentRecordStorage.saveStudentRecord(toWrite, filePath));
     }
     //endregion
 
@@ -120,13 +152,19 @@ public class StorageManager implements Storage {
 
     @Override
     public void saveQuestions(ReadOnlyQuestions questions) throws IOException {
-        saveQuestions(questions, questionStorage.getSavedQuestionsFilePath());
+        Path filePath = questionStorage.getSavedQuestionsFilePath();
+        if (isSavedVersion(questions, filePath)) {
+            return;
+        }
+        saveQuestions(questions, filePath);
     }
 
     @Override
     public void saveQuestions(ReadOnlyQuestions questions, Path filePath) throws IOException {
         logger.fine("Attempting to write to questions data file: " + filePath);
-        questionStorage.saveQuestions(questions, filePath);
+        savedVersions.put(filePath, new SavedVersion(questions, questions.getVersion()));
+        ReadOnlyQuestions toWrite = isWriteBehindEnabled() ? new SavedQuestions(questions) : questions;
+        write(filePath, () -> questionStorage.saveQuestions(toWrite, filePath));
     }
     //endregion
 
@@ -150,13 +188,19 @@ public class StorageManager implements Storage {
 
     @Override
     public void saveQuizzes(ReadOnlyQuizzes quizzes) throws IOException {
-        saveQuizzes(quizzes, quizStorage.getSavedQuizzesFilePath());
+        Path filePath = quizStorage.getSavedQuizzesFilePath();
+        if (isSavedVersion(quizzes, filePath)) {
+            return;
+        }
+        saveQuizzes(quizzes, filePath);
     }
 
     @Override
     public void saveQuizzes(ReadOnlyQuizzes quizzes, Path filePath) throws IOException {
         logger.fine("Attempting to write to quiz file: " + filePath);
-        quizStorage.saveQuizzes(quizzes, filePath);
+        savedVersions.put(filePath, new SavedVersion(quizzes, quizzes.getVersion()));
+        ReadOnlyQuizzes toWrite = isWriteBehindEnabled() ? copyOf(quizzes) : quizzes;
+        write(filePath, () -> quizStorage.saveQuizzes(toWrite, filePath));
     }
     //endregion
 
@@ -180,13 +224,56 @@ public class StorageManager implements Storage {
 
     @Override
     public void saveNotesRecord(ReadOnlyNotesRecord notesRecord) throws IOException {
-        saveNotesRecord(notesRecord, notesRecordStorage.getNotesRecordFilePath());
+        Path filePath = notesRecordStorage.getNotesRecordFilePath();
+        if (isSavedVersion(notesRecord, filePath)) {
+            return;
+        }
+        saveNotesRecord(notesRecord, filePath);
     }
 
     @Override
     public void saveNotesRecord(ReadOnlyNotesRecord notesRecord, Path filePath) throws IOException {
-        logger.fine("Attempting to write to student data file: " + filePath);
-        notesRecordStorage.saveNotesRecord(notesRecord, filePath);
+        logger.fine("Attempting to write to notes data file: " + filePath);
+        savedVersions.put(filePath, new SavedVersion(notesRecord, notesRecord.getVersion()));
+        ReadOnlyNotesRecord toWrite = isWriteBehindEnabled() ? new NotesRecord(notesRecord) : notesRecord;
+        write(filePath, () -> notesRecordStorage.saveNotesRecord(toWrite, filePath));
+    }
+    //endregion
+
+    //region Group methods
+    @Override
+    public Path getGroupsFilePath() {
+        return groupStorage.getGroupsFilePath();
+    }
+
+    @Override
+    public Optional<ReadOnlyGroups> readGroups(ReadOnlyStudentRecord studentRecord)
+            throws DataConversionException, IOException {
+        return readGroups(studentRecord, groupStorage.getGroupsFilePath());
+    }
+
+    @Override
+    public Optional<ReadOnlyGroups> readGroups(ReadOnlyStudentRecord studentRecord, Path filePath)
+            throws DataConversionException, IOException {
+        logger.fine("Attempting to read groups data from file: " + filePath);
+        return groupStorage.readGroups(studentRecord, filePath);
+    }
+
+    @Override
+    public void saveGroups(ReadOnlyGroups groups) throws IOException {
+        Path filePath = groupStorage.getGroupsFilePath();
+        if (isSavedVersion(groups, filePath)) {
+            return;
+        }
+        saveGroups(groups, filePath);
+    }
+
+    @Override
+    public void saveGroups(ReadOnlyGroups groups, Path filePath) throws IOException {
+        logger.fine("Attempting to write to groups data file: " + filePath);
+        savedVersions.put(filePath, new SavedVersion(groups, groups.getVersion()));
+        ReadOnlyGroups toWrite = isWriteBehindEnabled() ? new ListOfGroups(groups) : groups;
+        write(filePath, () -> groupStorage.saveGroups(toWrite, filePath));
     }
     //endregion
 
@@ -210,13 +297,19 @@ public class StorageManager implements Storage {
 
     @Override
     public void saveEvents(ReadOnlyEvents events) throws IOException {
-        saveEvents(events, eventStorage.getEventRecordFilePath());
+        Path filePath = eventStorage.getEventRecordFilePath();
+        if (isSavedVersion(events, filePath)) {
+            return;
+        }
+        saveEvents(events, filePath);
     }
 
     @Override
     public void saveEvents(ReadOnlyEvents events, Path filePath) throws IOException {
         logger.fine("Attempting to write to events data file: " + filePath);
-        eventStorage.saveEvents(events, filePath);
+        savedVersions.put(filePath, new SavedVersion(events, events.getVersion()));
+        ReadOnlyEvents toWrite = isWriteBehindEnabled() ? new EventRecord(events) : events;
+        write(filePath, () -> eventStorage.saveEvents(toWrite, filePath));
     }
 
     @Override
@@ -229,4 +322,142 @@ public class StorageManager implements Storage {
     public void savePrintable(NjoyPrintable printable) throws IOException {
         printable.savePrintable();
     }
+
+    //region Write-behind
+    /**
+     * Makes every later save return once the record has been copied, leaving the write to a background thread.
+     */
+    public void enableWriteBehind() {
+        if (writeBehindQueue == null) {
+            writeBehindQueue = new WriteBehindQueue();
+        }
+    }
+
+    private boolean isWriteBehindEnabled() {
+        return writeBehindQueue != null;
+    }
+
+    @Override
+    public void flush() throws IOException {
+        if (isWriteBehindEnabled()) {
+            writeBehindQueue.flush();
+        }
+    }
+
+    @Override
+    public Optional<IOException> takeWriteFailure() {
+        if (!isWriteBehindEnabled()) {
+            return Optional.empty();
+        }
+        return writeBehindQueue.takeFailure();
+    }
+
+    /**
+     * Performs {@code fileWrite} now, or queues it in write-behind mode.
+     * If the write fails, the file is no longer considered to hold the saved version of its record.
+     */
+    private void write(Path filePath, WriteBehindQueue.FileWrite fileWrite) throws IOException {
+        WriteBehindQueue.FileWrite trackedWrite = () -> {
+            try {
+                fileWrite.write();
+            } catch (IOException e) {
+                savedVersions.remove(filePath);
+                throw e;
+            }
+        };
+        if (isWriteBehindEnabled()) {
+            writeBehindQueue.submit(filePath, trackedWrite);
+        } else {
+            trackedWrite.write();
+        }
+    }
+
+    /**
+     * Returns a copy of {@code quizzes} that shares no quiz with it, since quizzes are edited in place.
+     */
+    private static ReadOnlyQuizzes copyOf(ReadOnlyQuizzes quizzes) {
+        SavedQuizzes copy = new SavedQuizzes();
+        copy.setQuizzes(quizzes.getSavedQuizzes().stream().map(Quiz::duplicate).collect(Collectors.toList()));
+        return copy;
+    }
+    //endregion
+
+    //region Command journal
+    /**
+     * Makes the data changed by each command journaled in {@code commandJournalStorage} between saves.
+     */
+    public void enableCommandJournal(CommandJournalStorage commandJournalStorage) {
+        this.commandJournalStorage = commandJournalStorage;
+    }
+
+    @Override
+    public boolean isCommandJournalEnabled() {
+        return commandJournalStorage != null;
+    }
+
+    @Override
+    public List<String> readCommandJournal() throws IOException {
+        if (!isCommandJournalEnabled()) {
+            return new ArrayList<>();
+        }
+        logger.fine("Attempting to read command journal: " + commandJournalStorage.getCommandJournalFilePath());
+        return commandJournalStorage.readCommandJournal();
+    }
+
+    @Override
+    public void appendToCommandJournal(String commandText) throws IOException {
+        assert isCommandJournalEnabled() : "Command journal should be enabled before commands are journaled.";
+        commandJournalStorage.appendToCommandJournal(commandText);
+    }
+
+    @Override
+    public int getCommandJournalSize() {
+        return isCommandJournalEnabled() ? commandJournalStorage.getCommandJournalSize() : 0;
+    }
+
+    @Override
+    public void clearCommandJournal() throws IOException {
+        if (isCommandJournalEnabled()) {
+            commandJournalStorage.clearCommandJournal();
+        }
+    }
+    //endregion
+
+    //region Modification tracking
+    @Override
+    public long getSkippedWriteCount() {
+        return skippedWriteCount;
+    }
+
+    /**
+     * Returns true if the current version of {@code record} is the one last written to {@code filePath}.
+     * Every such write that is found to be unnecessary is counted as skipped.
+     */
+    private boolean isSavedVersion(VersionedRecord record, Path filePath) {
+        SavedVersion savedVersion = savedVersions.get(filePath);
+        if (savedVersion == null || !savedVersion.isCurrentVersionOf(record)) {
+            return false;
+        }
+        skippedWriteCount++;
+        logger.fine("Skipping write to unchanged data file: " + filePath);
+        return true;
+    }
+
+    /**
+     * The version of a record at the time it was written to a file.
+     */
+    private static class SavedVersion {
+        private final VersionedRecord record;
+        private final long version;
+
+        SavedVersion(VersionedRecord record, long version) {
+            this.record = record;
+            this.version = version;
+        }
+
+        boolean isCurrentVersionOf(VersionedRecord otherRecord) {
+            return record == otherRecord && version == otherRecord.getVersion();
+        }
+    }
+    //endregion
 }
@@ -0,0 +1,108 @@
+package seedu.address.storage;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+
+/**
+ * Writes data files on a single background thread.
+ * A write that is submitted while an earlier write to the same file is still waiting replaces that earlier write,
+ * so only the latest data submitted for each file is written.
+ */
+public class WriteBehindQueue {
+
+    private static final Logger logger = LogsCenter.getLogger(WriteBehindQueue.class);
+
+    private final Map<Path, FileWrite> pendingWrites = new HashMap<>();
+    private final ExecutorService writer = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "storage-writer");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private IOException failure;
+    private long coalescedWriteCount;
+
+    /**
+     * A write of data to a file.
+     */
+    @FunctionalInterface
+    public interface FileWrite {
+        void write() throws IOException;
+    }
+
+    /**
+     * Schedules {@code fileWrite} to be performed on the background thread.
+     * Replaces any write to {@code filePath} that has not started yet.
+     */
+    public synchronized void submit(Path filePath, FileWrite fileWrite) {
+        requireAllNonNull(filePath, fileWrite);
+        if (pendingWrites.put(filePath, fileWrite) != null) {
+            coalescedWriteCount++;
+            logger.fine("Replaced pending write to data file: " + filePath);
+            return;
+        }
+        writer.execute(() -> performPendingWrite(filePath));
+    }
+
+    /**
+     * Blocks until every write submitted so far has been performed.
+     * @throws IOException if a write failed and the failure has not been reported yet.
+     */
+    public void flush() throws IOException {
+        try {
+            writer.submit(() -> { }).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while waiting for data files to be written", e);
+        } catch (ExecutionException e) {
+            throw new IOException(e.getCause());
+        }
+        Optional<IOException> unreportedFailure = takeFailure();
+        if (unreportedFailure.isPresent()) {
+            throw unreportedFailure.get();
+        }
+    }
+
+    /**
+     * Returns the earliest write failure that has not been reported yet, and marks it as reported.
+     */
+    public synchronized Optional<IOException> takeFailure() {
+        Optional<IOException> unreportedFailure = Optional.ofNullable(failure);
+        failure = null;
+        return unreportedFailure;
+    }
+
+    /**
+     * Returns the number of writes that were replaced by a later write to the same file before they started.
+     */
+    public synchronized long getCoalescedWriteCount() {
+        return coalescedWriteCount;
+    }
+
+    private void performPendingWrite(Path filePath) {
+        FileWrite fileWrite;
+        synchronized (this) {
+            fileWrite = pendingWrites.remove(filePath);
+        }
+        try {
+            fileWrite.write();
+        } catch (IOException e) {
+            logger.warning("Failed to write data file: " + filePath + " " + e);
+            synchronized (this) {
+                if (failure == null) {
+                    failure = e;
+                }
+            }
+        }
+    }
+}
@@ -1,8 +1,13 @@
 package seedu.address.storage.export;
 
+import java.io.BufferedWriter;
 import java.io.File;
 import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+
+import seedu.address.commons.util.AppendableContent;
 
 /**
  * Simulates a class which handles the exporting of Strings to HTML.
@@ -17,6 +22,17 @@ public class HtmlExporter extends Exporter {
      * @throws IOException The exception to be thrown.
      */
     public static boolean export(String fileId, String formattedString) throws IOException {
+        return export(fileId, out -> out.append(formattedString));
+    }
+
+    /**
+     * Exports content to a HTML file, writing it to the file as it is produced.
+     * @param fileId The identifier of the file.
+     * @param content The formatted content.
+     * @return True if the file does not exist, false if the file already exists.
+     * @throws IOException The exception to be thrown.
+     */
+    public static boolean export(String fileId, AppendableContent content) throws IOException {
         File dir = new File(EXPORT_DIRECTORY_PATH);
         dir.mkdir();
 
@@ -28,11 +44,9 @@ public class HtmlExporter extends Exporter {
             return false;
         }
 
-
-        FileOutputStream fos = new FileOutputStream(file);
-        fos.write(formattedString.getBytes());
-        fos.flush();
-        fos.close();
+        try (Writer writer = new BufferedWriter(new OutputStreamWriter(new FileOutputStream(file)))) {
+            content.appendTo(writer);
+        }
 
         return true;
     }
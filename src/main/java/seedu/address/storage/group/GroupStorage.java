@@ -0,0 +1,50 @@
+package seedu.address.storage.group;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Optional;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.group.ListOfGroups;
+import seedu.address.model.group.ReadOnlyGroups;
+import seedu.address.model.student.ReadOnlyStudentRecord;
+
+/**
+ * Represents a storage for {@link ListOfGroups}.
+ * The students in each group are stored by name, and are looked up in the student record when the groups are read.
+ */
+public interface GroupStorage {
+
+    /**
+     * Returns the file path of the data file.
+     */
+    Path getGroupsFilePath();
+
+    /**
+     * Returns the groups as a {@link ReadOnlyGroups}, with the students in {@code studentRecord}.
+     *   Returns {@code Optional.empty()} if storage file is not found.
+     * @throws DataConversionException if the data in storage is not in the expected format.
+     * @throws IOException if there was any problem when reading from the storage.
+     */
+    Optional<ReadOnlyGroups> readGroups(ReadOnlyStudentRecord studentRecord) throws DataConversionException,
+            IOException;
+
+    /**
+     * @see #getGroupsFilePath()
+     */
+    Optional<ReadOnlyGroups> readGroups(ReadOnlyStudentRecord studentRecord, Path filePath)
+            throws DataConversionException, IOException;
+
+    /**
+     * Saves the given {@link ReadOnlyGroups} to the storage.
+     * @param groups cannot be null.
+     * @throws IOException if there was any problem writing to the file.
+     */
+    void saveGroups(ReadOnlyGroups groups) throws IOException;
+
+    /**
+     * @see #saveGroups(ReadOnlyGroups)
+     */
+    void saveGroups(ReadOnlyGroups groups, Path filePath) throws IOException;
+
+}
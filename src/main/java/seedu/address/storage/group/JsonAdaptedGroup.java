@@ -0,0 +1,80 @@
+package seedu.address.storage.group;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.group.Group;
+import seedu.address.model.student.Name;
+import seedu.address.model.student.Student;
+
+/**
+ * Jackson-friendly version of {@link Group}.
+ * The students in the group are stored by name, as the students themselves are stored in the student record.
+ */
+class JsonAdaptedGroup {
+
+    public static final String MISSING_FIELD_MESSAGE_FORMAT = "group's %s field is missing!";
+    public static final String MESSAGE_DUPLICATE_STUDENT = "Group %s contains duplicate student(s).";
+
+    private final String groupId;
+    private final List<String> studentNames = new ArrayList<>();
+
+    /**
+     * Constructs a {@code JsonAdaptedGroup} with the given group details.
+     */
+    @JsonCreator
+    public JsonAdaptedGroup(@JsonProperty("groupId") String groupId,
+                            @JsonProperty("studentNames") List<String> studentNames) {
+        this.groupId = groupId;
+        if (studentNames != null) {
+            this.studentNames.addAll(studentNames);
+        }
+    }
+
+    /**
+     * Converts a given {@code Group} into this class for Jackson use.
+     */
+    public JsonAdaptedGroup(Group source) {
+        groupId = source.getGroupId();
+        studentNames.addAll(source.getObservableListStudents().stream()
+                .map(student -> student.getName().fullName)
+                .collect(Collectors.toList()));
+    }
+
+    /**
+     * Converts this Jackson-friendly adapted group object into the model's {@code Group} object, with the
+     * students in {@code studentsByName}.
+     * Students that are not in {@code studentsByName} are left out of the group, as they have been deleted
+     * from the student record since the group was saved.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted group.
+     */
+    public Group toModelType(Map<Name, Student> studentsByName) throws IllegalValueException {
+        if (groupId == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "groupId"));
+        }
+
+        Group group = new Group(groupId);
+        for (String studentName : studentNames) {
+            if (studentName == null || !Name.isValidName(studentName)) {
+                throw new IllegalValueException(Name.MESSAGE_CONSTRAINTS);
+            }
+            Student student = studentsByName.get(new Name(studentName));
+            if (student == null) {
+                continue;
+            }
+            if (group.checkStudentExist(student)) {
+                throw new IllegalValueException(String.format(MESSAGE_DUPLICATE_STUDENT, groupId));
+            }
+            group.addStudent(student);
+        }
+        return group;
+    }
+
+}
@@ -0,0 +1,82 @@
+package seedu.address.storage.group;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.group.ReadOnlyGroups;
+import seedu.address.model.student.ReadOnlyStudentRecord;
+
+/**
+ * A class to access groups stored as a json file on the hard disk.
+ */
+public class JsonGroupStorage implements GroupStorage {
+
+    private static final Logger logger = LogsCenter.getLogger(JsonGroupStorage.class);
+
+    private Path filePath;
+
+    public JsonGroupStorage(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    public Path getGroupsFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyGroups> readGroups(ReadOnlyStudentRecord studentRecord) throws DataConversionException {
+        return readGroups(studentRecord, filePath);
+    }
+
+    /**
+     * Similar to {@link #readGroups(ReadOnlyStudentRecord)}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataConversionException if the file is not in the correct format.
+     */
+    public Optional<ReadOnlyGroups> readGroups(ReadOnlyStudentRecord studentRecord, Path filePath)
+            throws DataConversionException {
+        requireNonNull(studentRecord);
+        requireNonNull(filePath);
+
+        Optional<JsonSerializableGroups> jsonGroups = JsonUtil.readJsonFile(filePath, JsonSerializableGroups.class);
+        if (!jsonGroups.isPresent()) {
+            return Optional.empty();
+        }
+
+        try {
+            return Optional.of(jsonGroups.get().toModelType(studentRecord));
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+    }
+
+    @Override
+    public void saveGroups(ReadOnlyGroups groups) throws IOException {
+        saveGroups(groups, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveGroups(ReadOnlyGroups)}.
+     *
+     * @param filePath location of the data.
+     */
+    public void saveGroups(ReadOnlyGroups groups, Path filePath) throws IOException {
+        requireNonNull(groups);
+        requireNonNull(filePath);
+
+        FileUtil.createIfMissing(filePath);
+        JsonUtil.saveJsonFile(new JsonSerializableGroups(groups), filePath);
+    }
+
+}
@@ -0,0 +1,71 @@
+package seedu.address.storage.group;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonRootName;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.group.Group;
+import seedu.address.model.group.ListOfGroups;
+import seedu.address.model.group.ReadOnlyGroups;
+import seedu.address.model.student.Name;
+import seedu.address.model.student.ReadOnlyStudentRecord;
+import seedu.address.model.student.Student;
+
+/**
+ * An Immutable list of groups that is serializable to JSON format.
+ */
+@JsonRootName(value = "groups")
+class JsonSerializableGroups {
+
+    public static final String MESSAGE_DUPLICATE_GROUP = "Groups list contains duplicate group(s).";
+
+    private final List<JsonAdaptedGroup> groups = new ArrayList<>();
+
+    /**
+     * Constructs a {@code JsonSerializableGroups} with the given groups.
+     */
+    @JsonCreator
+    public JsonSerializableGroups(@JsonProperty("groups") List<JsonAdaptedGroup> groups) {
+        this.groups.addAll(groups);
+    }
+
+    /**
+     * Converts a given {@code ReadOnlyGroups} into this class for Jackson use.
+     *
+     * @param source future changes to this will not affect the created {@code JsonSerializableGroups}.
+     */
+    public JsonSerializableGroups(ReadOnlyGroups source) {
+        groups.addAll(source.getGroupList().stream().map(JsonAdaptedGroup::new).collect(Collectors.toList()));
+    }
+
+    /**
+     * Converts these groups into the model's {@code ListOfGroups} object, with the students in
+     * {@code studentRecord}.
+     *
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    public ListOfGroups toModelType(ReadOnlyStudentRecord studentRecord) throws IllegalValueException {
+        Map<Name, Student> studentsByName = new HashMap<>();
+        for (Student student : studentRecord.getStudentList()) {
+            studentsByName.put(student.getName(), student);
+        }
+
+        ListOfGroups listOfGroups = new ListOfGroups();
+        for (JsonAdaptedGroup jsonAdaptedGroup : groups) {
+            Group group = jsonAdaptedGroup.toModelType(studentsByName);
+            if (listOfGroups.contains(group)) {
+                throw new IllegalValueException(MESSAGE_DUPLICATE_GROUP);
+            }
+            listOfGroups.addGroup(group);
+        }
+        return listOfGroups;
+    }
+
+}
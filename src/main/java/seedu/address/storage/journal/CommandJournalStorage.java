@@ -0,0 +1,41 @@
+package seedu.address.storage.journal;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * Represents a storage for the commands that changed the data since the data files were last saved.
+ */
+public interface CommandJournalStorage {
+
+    /**
+     * Returns the file path of the journal file.
+     */
+    Path getCommandJournalFilePath();
+
+    /**
+     * Returns the journaled commands, oldest first.
+     * Returns an empty list if the journal file is not found.
+     * @throws IOException if there was any problem when reading from the storage.
+     */
+    List<String> readCommandJournal() throws IOException;
+
+    /**
+     * Appends {@code commandText} to the end of the journal.
+     * @param commandText cannot be null or span more than one line.
+     * @throws IOException if there was any problem writing to the file.
+     */
+    void appendToCommandJournal(String commandText) throws IOException;
+
+    /**
+     * Returns the number of commands in the journal.
+     */
+    int getCommandJournalSize();
+
+    /**
+     * Removes every command from the journal.
+     * @throws IOException if there was any problem deleting the file.
+     */
+    void clearCommandJournal() throws IOException;
+}
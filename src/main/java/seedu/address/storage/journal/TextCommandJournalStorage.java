@@ -0,0 +1,68 @@
+package seedu.address.storage.journal;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.util.FileUtil;
+
+/**
+ * A class to access the command journal stored as a text file with one command per line.
+ */
+public class TextCommandJournalStorage implements CommandJournalStorage {
+
+    public static final String MESSAGE_CONSTRAINTS = "Journaled commands cannot span more than one line";
+
+    private Path filePath;
+    private int size;
+
+    public TextCommandJournalStorage(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    @Override
+    public Path getCommandJournalFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public List<String> readCommandJournal() throws IOException {
+        if (!FileUtil.isFileExists(filePath)) {
+            size = 0;
+            return new ArrayList<>();
+        }
+
+        List<String> commandTexts = FileUtil.readFromFile(filePath).lines()
+                .filter(line -> !line.isBlank())
+                .collect(Collectors.toList());
+        size = commandTexts.size();
+        return commandTexts;
+    }
+
+    @Override
+    public void appendToCommandJournal(String commandText) throws IOException {
+        requireNonNull(commandText);
+        checkArgument(commandText.lines().count() <= 1, MESSAGE_CONSTRAINTS);
+
+        FileUtil.createParentDirsOfFile(filePath);
+        FileUtil.appendToFile(filePath, commandText + System.lineSeparator());
+        size++;
+    }
+
+    @Override
+    public int getCommandJournalSize() {
+        return size;
+    }
+
+    @Override
+    public void clearCommandJournal() throws IOException {
+        Files.deleteIfExists(filePath);
+        size = 0;
+    }
+}
@@ -0,0 +1,88 @@
+package seedu.address.storage.question;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.BinaryUtil;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.question.ReadOnlyQuestions;
+
+/**
+ * A class to access SavedQuestions data stored as a binary file on the hard disk.
+ * Holds the same fields as {@link JsonQuestionStorage}, so data can be moved between the two without loss.
+ */
+public class BinaryQuestionStorage implements QuestionStorage {
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryQuestionStorage.class);
+
+    private Path filePath;
+
+    public BinaryQuestionStorage(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    public Path getSavedQuestionsFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyQuestions> readQuestions() throws DataConversionException {
+        return readQuestions(filePath);
+    }
+
+    /**
+     * Similar to {@link #readQuestions()}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataConversionException if the file is not in the correct format.
+     */
+    public Optional<ReadOnlyQuestions> readQuestions(Path filePath) throws DataConversionException {
+        requireNonNull(filePath);
+
+        Optional<List<String[]>> rows = BinaryUtil.readBinaryFile(filePath, JsonAdaptedQuestion.FIELD_COUNT);
+        if (!rows.isPresent()) {
+            return Optional.empty();
+        }
+
+        List<JsonAdaptedQuestion> questions = rows.get().stream()
+            .map(JsonAdaptedQuestion::fromFields)
+            .collect(Collectors.toList());
+        try {
+            return Optional.of(new JsonSerializableQuestions(questions).toModelType());
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+    }
+
+    @Override
+    public void saveQuestions(ReadOnlyQuestions questions) throws IOException {
+        saveQuestions(questions, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveQuestions(ReadOnlyQuestions)}.
+     *
+     * @param filePath location of the data.
+     */
+    public void saveQuestions(ReadOnlyQuestions questions, Path filePath) throws IOException {
+        requireNonNull(questions);
+        requireNonNull(filePath);
+
+        List<String[]> rows = questions.getSavedQuestions().stream()
+            .map(question -> new JsonAdaptedQuestion(question).toFields())
+            .collect(Collectors.toList());
+        FileUtil.createParentDirsOfFile(filePath);
+        BinaryUtil.saveBinaryFile(rows, JsonAdaptedQuestion.FIELD_COUNT, filePath);
+    }
+
+}
@@ -13,9 +13,10 @@ import seedu.address.model.question.Question;
 /**
  * Jackson-friendly version of {@link Question}.
  */
-class JsonAdaptedQuestion {
+public class JsonAdaptedQuestion {
 
     public static final String MISSING_FIELD_MESSAGE_FORMAT = "question %s field is missing!";
+    public static final int FIELD_COUNT = 7;
 
     private final String question;
     private final String answer;
@@ -67,6 +68,20 @@ class JsonAdaptedQuestion {
         }
     }
 
+    /**
+     * Constructs a {@code JsonAdaptedQuestion} from fields in the order returned by {@link #toFields()}.
+     */
+    static JsonAdaptedQuestion fromFields(String[] fields) {
+        return new JsonAdaptedQuestion(fields[0], fields[1], fields[2], fields[3], fields[4], fields[5], fields[6]);
+    }
+
+    /**
+     * Returns the fields of this question in a fixed order, for storage formats without field names.
+     */
+    public String[] toFields() {
+        return new String[] {question, answer, type, optionA, optionB, optionC, optionD};
+    }
+
     /**
      * Converts this Jackson-friendly adapted question object into the model's {@code Question}
      * object.
@@ -1,21 +1,34 @@
 package seedu.address.storage.quiz;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
 import org.apache.commons.lang3.StringUtils;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
 import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.question.Question;
 import seedu.address.model.quiz.Quiz;
 
 /**
  * Jackson-friendly version of {@link Quiz}.
+ * The questions of the quiz are stored as the IDs of questions kept once per file by
+ * {@link JsonSerializableQuizzes}. Quizzes saved in the older format, with every question embedded as
+ * {@code //} and {@code :} delimited text, are still read.
  */
 class JsonAdaptedQuiz {
 
     public static final String MISSING_FIELD_MESSAGE_FORMAT = "quiz's %s field is missing!";
+    public static final String MISSING_QUESTION_MESSAGE_FORMAT = "quiz's question %s is missing!";
 
     private final String quizId;
+    private final List<String> questionIds = new ArrayList<>();
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
     private final String questions;
 
     /**
@@ -23,42 +36,74 @@ class JsonAdaptedQuiz {
      */
     @JsonCreator
     public JsonAdaptedQuiz(@JsonProperty("quizId") String quizId,
+                           @JsonProperty("questionIds") List<String> questionIds,
                            @JsonProperty("questions") String questions) {
         this.quizId = quizId;
+        if (questionIds != null) {
+            this.questionIds.addAll(questionIds);
+        }
         this.questions = questions;
     }
 
+    /**
+     * Constructs a {@code JsonAdaptedQuiz} in the older format, with its questions embedded as text.
+     */
+    public JsonAdaptedQuiz(String quizId, String questions) {
+        this(quizId, null, questions);
+    }
+
     /**
      * Converts a given {@code Quiz} into this class for Jackson use.
+     *
+     * @param questionIds the IDs of the questions of {@code source}, in order.
      */
-    public JsonAdaptedQuiz(Quiz source) {
+    public JsonAdaptedQuiz(Quiz source, List<String> questionIds) {
         quizId = source.getQuizId();
-        questions = source.getStringQuestions();
+        this.questionIds.addAll(questionIds);
+        questions = null;
     }
 
     /**
      * Converts this Jackson-friendly adapted quiz object into the model's {@code Quiz} object.
      *
+     * @param questionsById the questions that the question IDs of this quiz refer to.
      * @throws IllegalValueException if there were any data constraints violated in the adapted quiz.
      */
-    public Quiz toModelType() throws IllegalValueException {
+    public Quiz toModelType(Map<String, Question> questionsById) throws IllegalValueException {
         if (StringUtils.isBlank(quizId)) {
             throw new IllegalValueException(
                 String.format(MISSING_FIELD_MESSAGE_FORMAT, "QUIZ"));
         }
-        if (StringUtils.isBlank(questions)) {
-            throw new IllegalValueException(
-                String.format(MISSING_FIELD_MESSAGE_FORMAT, "QUIZ"));
-        }
-
-        if (quizId == null) {
-            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "QUIZ_ID"));
-        }
 
         Quiz quiz = new Quiz(quizId);
-        quiz.setStringQuestions(questions);
+        if (questions != null) {
+            if (StringUtils.isBlank(questions)) {
+                throw new IllegalValueException(
+                    String.format(MISSING_FIELD_MESSAGE_FORMAT, "QUIZ"));
+            }
+            try {
+                quiz.setStringQuestions(questions);
+            } catch (IllegalArgumentException iae) {
+                throw new IllegalValueException(iae.getMessage());
+            }
+            return quiz;
+        }
 
+        for (String questionId : questionIds) {
+            Question question = questionsById.get(questionId);
+            if (question == null) {
+                throw new IllegalValueException(String.format(MISSING_QUESTION_MESSAGE_FORMAT, questionId));
+            }
+            quiz.addQuestion(question);
+        }
         return quiz;
     }
 
+    /**
+     * Returns true if this quiz is stored in the older format, with its questions embedded as text.
+     */
+    boolean isLegacyFormat() {
+        return questions != null;
+    }
+
 }
@@ -51,12 +51,31 @@ public class JsonQuizStorage implements QuizStorage {
             return Optional.empty();
         }
 
+        ReadOnlyQuizzes quizzes;
         try {
-            return Optional.of(jsonQuizzes.get().toModelType());
+            quizzes = jsonQuizzes.get().toModelType();
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataConversionException(ive);
         }
+
+        if (jsonQuizzes.get().hasLegacyQuizzes()) {
+            migrateQuizzes(quizzes, filePath);
+        }
+        return Optional.of(quizzes);
+    }
+
+    /**
+     * Rewrites the quizzes read from {@code filePath} in the older format, with every question embedded as
+     * text, in the current format. The quizzes can still be read if this fails.
+     */
+    private void migrateQuizzes(ReadOnlyQuizzes quizzes, Path filePath) {
+        logger.info("Migrating quizzes in " + filePath + " to question IDs.");
+        try {
+            saveQuizzes(quizzes, filePath);
+        } catch (IOException ioe) {
+            logger.warning("Unable to migrate quizzes in " + filePath + ": " + ioe.getMessage());
+        }
     }
 
     @Override
@@ -1,34 +1,52 @@
 package seedu.address.storage.quiz;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonRootName;
 
 import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.question.Question;
 import seedu.address.model.quiz.Quiz;
 import seedu.address.model.quiz.ReadOnlyQuizzes;
 import seedu.address.model.quiz.SavedQuizzes;
+import seedu.address.storage.question.JsonAdaptedQuestion;
 
 /**
  * An Immutable savedQuestions that is serializable to JSON format.
+ * Each question is stored once under an ID derived from its contents, and quizzes refer to their questions
+ * by these IDs. A question keeps its ID across saves, and shares it with the same question in other quizzes.
  */
 @JsonRootName(value = "savedQuizzes")
 class JsonSerializableQuizzes {
 
     public static final String MESSAGE_DUPLICATE_QUESTION = "Quizzes list contains duplicate quizzes.";
 
+    private static final int QUESTION_ID_BYTES = 8;
+
+    private final Map<String, JsonAdaptedQuestion> questions = new LinkedHashMap<>();
     private final List<JsonAdaptedQuiz> quizzes = new ArrayList<>();
 
     /**
-     * Constructs a {@code JsonSerializableQuizzes} with the given questions.
+     * Constructs a {@code JsonSerializableQuizzes} with the given questions and quizzes.
+     * Files in the older format have no {@code questions}.
      */
     @JsonCreator
     public JsonSerializableQuizzes(
+        @JsonProperty("questions") Map<String, JsonAdaptedQuestion> questions,
         @JsonProperty("quizzes") List<JsonAdaptedQuiz> quizzes) {
+        if (questions != null) {
+            this.questions.putAll(questions);
+        }
         this.quizzes.addAll(quizzes);
     }
 
@@ -39,19 +57,76 @@ class JsonSerializableQuizzes {
      *               JsonSerializableQuizzes}.
      */
     public JsonSerializableQuizzes(ReadOnlyQuizzes source) {
-        quizzes.addAll(source.getSavedQuizzes().stream().map(JsonAdaptedQuiz::new)
-            .collect(Collectors.toList()));
+        for (Quiz quiz : source.getSavedQuizzes()) {
+            List<String> questionIds = new ArrayList<>();
+            for (Question question : quiz.getQuestionList().getQuestions()) {
+                questionIds.add(addQuestion(new JsonAdaptedQuestion(question)));
+            }
+            quizzes.add(new JsonAdaptedQuiz(quiz, questionIds));
+        }
+    }
+
+    /**
+     * Adds {@code question} to the stored questions unless it is already stored, and returns its ID.
+     */
+    private String addQuestion(JsonAdaptedQuestion question) {
+        String[] fields = question.toFields();
+        String baseId = getQuestionId(fields);
+        String id = baseId;
+        int suffix = 2;
+        // Different questions whose contents hash to the same ID are told apart by a suffix.
+        while (questions.containsKey(id) && !Arrays.equals(questions.get(id).toFields(), fields)) {
+            id = baseId + "-" + suffix++;
+        }
+        questions.putIfAbsent(id, question);
+        return id;
+    }
+
+    /**
+     * Returns an ID for the question with the given {@code fields}, which is the same whenever the fields are.
+     */
+    static String getQuestionId(String[] fields) {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new AssertionError("Every Java platform supports SHA-256.", e);
+        }
+        for (String field : fields) {
+            digest.update(String.valueOf(field).getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+        }
+
+        byte[] hash = digest.digest();
+        StringBuilder id = new StringBuilder();
+        for (int i = 0; i < QUESTION_ID_BYTES; i++) {
+            id.append(String.format("%02x", hash[i]));
+        }
+        return id.toString();
+    }
+
+    /**
+     * Returns true if any quiz is stored in the older format, with its questions embedded as text.
+     */
+    public boolean hasLegacyQuizzes() {
+        return quizzes.stream().anyMatch(JsonAdaptedQuiz::isLegacyFormat);
     }
 
     /**
      * Converts the saved quizzes into the model's {@code savedQuizzes} object.
+     * Quizzes that refer to the same question share a single {@code Question}.
      *
      * @throws IllegalValueException if there were any data constraints violated.
      */
     public SavedQuizzes toModelType() throws IllegalValueException {
+        Map<String, Question> questionsById = new HashMap<>();
+        for (Map.Entry<String, JsonAdaptedQuestion> entry : questions.entrySet()) {
+            questionsById.put(entry.getKey(), entry.getValue().toModelType());
+        }
+
         SavedQuizzes savedQuizzes = new SavedQuizzes();
         for (JsonAdaptedQuiz jsonAdaptedQuiz : quizzes) {
-            Quiz quiz = jsonAdaptedQuiz.toModelType();
+            Quiz quiz = jsonAdaptedQuiz.toModelType(questionsById);
             savedQuizzes.addQuiz(quiz);
         }
         return savedQuizzes;
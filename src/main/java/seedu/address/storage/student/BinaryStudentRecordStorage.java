@@ -0,0 +1,88 @@
+package seedu.address.storage.student;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.BinaryUtil;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.student.ReadOnlyStudentRecord;
+
+/**
+ * A class to access StudentRecord data stored as a binary file on the hard disk.
+ * Holds the same fields as {@link JsonStudentRecordStorage}, so data can be moved between the two without loss.
+ */
+public class BinaryStudentRecordStorage implements StudentRecordStorage {
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryStudentRecordStorage.class);
+
+    private Path filePath;
+
+    public BinaryStudentRecordStorage(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    public Path getStudentRecordFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyStudentRecord> readStudentRecord() throws DataConversionException {
+        return readStudentRecord(filePath);
+    }
+
+    /**
+     * Similar to {@link #readStudentRecord()}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataConversionException if the file is not in the correct format.
+     */
+    public Optional<ReadOnlyStudentRecord> readStudentRecord(Path filePath) throws DataConversionException {
+        requireNonNull(filePath);
+
+        Optional<List<String[]>> rows = BinaryUtil.readBinaryFile(filePath, JsonAdaptedStudent.FIELD_COUNT);
+        if (!rows.isPresent()) {
+            return Optional.empty();
+        }
+
+        List<JsonAdaptedStudent> students = rows.get().stream()
+                .map(JsonAdaptedStudent::fromFields)
+                .collect(Collectors.toList());
+        try {
+            return Optional.of(new JsonSerializableStudentRecord(students).toModelType());
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+    }
+
+    @Override
+    public void saveStudentRecord(ReadOnlyStudentRecord studentRecord) throws IOException {
+        saveStudentRecord(studentRecord, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveStudentRecord(ReadOnlyStudentRecord)}.
+     *
+     * @param filePath location of the data.
+     */
+    public void saveStudentRecord(ReadOnlyStudentRecord studentRecord, Path filePath) throws IOException {
+        requireNonNull(studentRecord);
+        requireNonNull(filePath);
+
+        List<String[]> rows = studentRecord.getStudentList().stream()
+                .map(student -> new JsonAdaptedStudent(student).toFields())
+                .collect(Collectors.toList());
+        FileUtil.createParentDirsOfFile(filePath);
+        BinaryUtil.saveBinaryFile(rows, JsonAdaptedStudent.FIELD_COUNT, filePath);
+    }
+
+}
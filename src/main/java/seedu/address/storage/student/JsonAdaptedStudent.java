@@ -20,6 +20,7 @@ import seedu.address.storage.tag.JsonAdaptedTag;
 class JsonAdaptedStudent {
 
     public static final String MISSING_FIELD_MESSAGE_FORMAT = "student's %s field is missing!";
+    public static final int FIELD_COUNT = 1;
 
     private final String name;
     private final List<JsonAdaptedTag> tagged = new ArrayList<>();
@@ -39,6 +40,20 @@ class JsonAdaptedStudent {
         name = source.getName().fullName;
     }
 
+    /**
+     * Constructs a {@code JsonAdaptedStudent} from fields in the order returned by {@link #toFields()}.
+     */
+    static JsonAdaptedStudent fromFields(String[] fields) {
+        return new JsonAdaptedStudent(fields[0]);
+    }
+
+    /**
+     * Returns the fields of this student in a fixed order, for storage formats without field names.
+     */
+    String[] toFields() {
+        return new String[] {name};
+    }
+
     /**
      * Converts this Jackson-friendly adapted student object into the model's {@code Student} object.
      *
@@ -3,6 +3,7 @@ package seedu.address.ui;
 import java.io.IOException;
 import java.util.logging.Logger;
 
+import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
@@ -46,7 +47,7 @@ public class MainWindow extends UiPart<Stage> {
     //private PersonListPanel personListPanel;
     private StudentListPanel studentListPanel;
     private QuestionListPanel questionListPanel;
-    private QuestionListPanel searchQuestionListPanel;
+    private QuestionSearchListPanel searchQuestionListPanel;
     private QuizQuestionListPanel quizQuestionListPanel;
     private ResultDisplay resultDisplay;
     private HelpWindow helpWindow;
@@ -137,12 +138,15 @@ public class MainWindow extends UiPart<Stage> {
         studentListPanel = new StudentListPanel(logic.getFilteredStudentList());
         mainPanelPlaceholder.getChildren().add(studentListPanel.getRoot());
 
-        questionListPanel = new QuestionListPanel(logic.getAllQuestions(), false);
+        questionListPanel = new QuestionListPanel(logic.getAllQuestions());
         mainPanelPlaceholder.getChildren().add(questionListPanel.getRoot());
 
-        searchQuestionListPanel = new QuestionListPanel(logic.getSearchQuestions(), true);
+        searchQuestionListPanel = new QuestionSearchListPanel(logic.getSearchQuestions());
         mainPanelPlaceholder.getChildren().add(searchQuestionListPanel.getRoot());
 
+        quizQuestionListPanel = new QuizQuestionListPanel(FXCollections.emptyObservableList(), DisplayType.ALL);
+        mainPanelPlaceholder.getChildren().add(quizQuestionListPanel.getRoot());
+
         notesListPanel = new NotesListPanel(logic.getFilteredNotesList());
         notesListPanelPlaceholder.getChildren().add(notesListPanel.getRoot());
         notesListPanelPlaceholder.setAlignment(Pos.BOTTOM_RIGHT);
@@ -205,8 +209,7 @@ public class MainWindow extends UiPart<Stage> {
      */
     @FXML
     public void handleQuizQuestions() {
-        quizQuestionListPanel = new QuizQuestionListPanel(logic.getQuestionsInQuiz(), DisplayType.QUESTIONS);
-        mainPanelPlaceholder.getChildren().add(quizQuestionListPanel.getRoot());
+        quizQuestionListPanel.showQuestions(logic.getQuestionsInQuiz(), DisplayType.QUESTIONS);
         quizQuestionListPanel.getRoot().toFront();
     }
 
@@ -215,8 +218,7 @@ public class MainWindow extends UiPart<Stage> {
      */
     @FXML
     public void handleQuizAnswers() {
-        quizQuestionListPanel = new QuizQuestionListPanel(logic.getQuestionsInQuiz(), DisplayType.ANSWERS);
-        mainPanelPlaceholder.getChildren().add(quizQuestionListPanel.getRoot());
+        quizQuestionListPanel.showQuestions(logic.getAnswersInQuiz(), DisplayType.ANSWERS);
         quizQuestionListPanel.getRoot().toFront();
     }
 
@@ -225,8 +227,7 @@ public class MainWindow extends UiPart<Stage> {
      */
     @FXML
     public void handleQuizAll() {
-        quizQuestionListPanel = new QuizQuestionListPanel(logic.getQuestionsInQuiz(), DisplayType.ALL);
-        mainPanelPlaceholder.getChildren().add(quizQuestionListPanel.getRoot());
+        quizQuestionListPanel.showQuestions(logic.getQuestionsAndAnswersInQuiz(), DisplayType.ALL);
         quizQuestionListPanel.getRoot().toFront();
     }
 
@@ -49,15 +49,6 @@ public class QuestionCard extends UiPart<Region> {
     @FXML
     private Label optionDLabel;
 
-    public QuestionCard(Question question) {
-        super(FXML);
-
-        this.question = question;
-        id.setVisible(false);
-        id.setManaged(true);
-        initialiseCard(question);
-    }
-
     public QuestionCard(Question question, int displayedIndex) {
         super(FXML);
 
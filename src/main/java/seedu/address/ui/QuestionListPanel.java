@@ -21,11 +21,8 @@ public class QuestionListPanel extends UiPart<Region> {
     @FXML
     private ListView<Question> listView;
 
-    private boolean isSearch;
-
-    public QuestionListPanel(ObservableList<Question> questionList, boolean isSearch) {
+    public QuestionListPanel(ObservableList<Question> questionList) {
         super(FXML);
-        this.isSearch = isSearch;
         listView.setItems(questionList);
         listView.setCellFactory(listView -> new QuestionListViewCell());
     }
@@ -44,13 +41,7 @@ public class QuestionListPanel extends UiPart<Region> {
                 setGraphic(null);
                 setText(null);
             } else {
-                Region region;
-                if (isSearch) {
-                    region = new QuestionCard(question).getRoot();
-                } else {
-                    region = new QuestionCard(question, getIndex() + 1).getRoot();
-                }
-                setGraphic(region);
+                setGraphic(new QuestionCard(question, getIndex() + 1).getRoot());
             }
         }
     }
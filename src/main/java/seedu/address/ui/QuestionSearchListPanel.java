@@ -0,0 +1,48 @@
+package seedu.address.ui;
+
+import java.util.logging.Logger;
+
+import javafx.collections.ObservableList;
+import javafx.fxml.FXML;
+import javafx.scene.control.ListCell;
+import javafx.scene.control.ListView;
+import javafx.scene.layout.Region;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.question.QuestionSearchHit;
+
+/**
+ * Panel containing the hits of a question search.
+ */
+public class QuestionSearchListPanel extends UiPart<Region> {
+
+    private static final String FXML = "ListPanel.fxml";
+    private final Logger logger = LogsCenter.getLogger(QuestionSearchListPanel.class);
+
+    @FXML
+    private ListView<QuestionSearchHit> listView;
+
+    public QuestionSearchListPanel(ObservableList<QuestionSearchHit> hitList) {
+        super(FXML);
+        listView.setItems(hitList);
+        listView.setCellFactory(listView -> new QuestionSearchHitViewCell());
+    }
+
+    /**
+     * Custom {@code ListCell} that displays the graphics of the question of a {@code QuestionSearchHit} using a
+     * {@code QuestionCard}, numbered by its index in the question bank.
+     */
+    class QuestionSearchHitViewCell extends ListCell<QuestionSearchHit> {
+
+        @Override
+        protected void updateItem(QuestionSearchHit hit, boolean empty) {
+            super.updateItem(hit, empty);
+
+            if (empty || hit == null) {
+                setGraphic(null);
+                setText(null);
+            } else {
+                setGraphic(new QuestionCard(hit.getQuestion(), hit.getIndex().getOneBased()).getRoot());
+            }
+        }
+    }
+}
@@ -31,6 +31,21 @@ public class QuizQuestionListPanel extends UiPart<Region> {
         listView.setCellFactory(listView -> new QuestionListViewCell());
     }
 
+    /**
+     * Shows {@code questionList} in this panel in the way given by {@code displayType}.
+     * The cells are only rebuilt if the list or the display type has changed, since the panel already follows
+     * changes to the list it shows.
+     */
+    public void showQuestions(ObservableList<Question> questionList, DisplayType displayType) {
+        boolean isSameDisplayType = this.displayType == displayType;
+        this.displayType = displayType;
+        if (listView.getItems() != questionList) {
+            listView.setItems(questionList);
+        } else if (!isSameDisplayType) {
+            listView.refresh();
+        }
+    }
+
     /**
      * Custom {@code ListCell} that displays the graphics of a {@code Question} using a {@code
      * QuestionCard}.
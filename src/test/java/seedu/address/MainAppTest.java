@@ -0,0 +1,75 @@
+package seedu.address;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.question.TypicalQuestions.getTypicalSavedQuestions;
+import static seedu.address.testutil.student.TypicalStudents.getTypicalStudentRecord;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.Model;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.question.SavedQuestions;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.StorageManager;
+import seedu.address.storage.event.JsonEventStorage;
+import seedu.address.storage.group.JsonGroupStorage;
+import seedu.address.storage.note.JsonNotesRecordStorage;
+import seedu.address.storage.question.JsonQuestionStorage;
+import seedu.address.storage.quiz.JsonQuizStorage;
+import seedu.address.storage.student.JsonStudentRecordStorage;
+
+public class MainAppTest {
+
+    private static final Path GROUP_TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonGroupStorageTest");
+
+    @TempDir
+    public Path testFolder;
+
+    private StorageManager storageManager;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        storageManager = new StorageManager(new JsonUserPrefsStorage(getTempFilePath("prefs")),
+                new JsonStudentRecordStorage(getTempFilePath("students")),
+                new JsonQuestionStorage(getTempFilePath("questions")),
+                new JsonQuizStorage(getTempFilePath("quizzes")),
+                new JsonNotesRecordStorage(getTempFilePath("notes")),
+                new JsonEventStorage(getTempFilePath("events")),
+                new JsonGroupStorage(getTempFilePath("groups")));
+        storageManager.saveStudentRecord(getTypicalStudentRecord());
+        storageManager.saveQuestions(getTypicalSavedQuestions());
+    }
+
+    private Path getTempFilePath(String fileName) {
+        return testFolder.resolve(fileName);
+    }
+
+    @Test
+    public void initModelManager_duplicateStudentInGroup_otherDataLoaded() throws Exception {
+        Files.copy(GROUP_TEST_DATA_FOLDER.resolve("duplicateStudentInGroup.json"), getTempFilePath("groups"));
+        assertOnlyGroupsLeftOut(new MainApp().initModelManager(storageManager, new UserPrefs()));
+    }
+
+    @Test
+    public void initModelManager_invalidStudentNameInGroup_otherDataLoaded() throws Exception {
+        Files.writeString(getTempFilePath("groups"),
+                "{ \"groups\" : [ { \"groupId\" : \"G1\", \"studentNames\" : [ \"J@ne\" ] } ] }");
+        assertOnlyGroupsLeftOut(new MainApp().initModelManager(storageManager, new UserPrefs()));
+    }
+
+    /**
+     * Asserts that {@code model} has the saved students and questions, and no groups.
+     */
+    private void assertOnlyGroupsLeftOut(Model model) {
+        assertEquals(getTypicalStudentRecord(), model.getStudentRecord());
+        assertEquals(getTypicalSavedQuestions(), new SavedQuestions(model.getSavedQuestions()));
+        assertTrue(model.getGroups().getGroupList().isEmpty());
+    }
+}
@@ -0,0 +1,66 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataConversionException;
+
+public class BinaryUtilTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readBinaryFile_missingFile_emptyResult() throws Exception {
+        assertFalse(BinaryUtil.readBinaryFile(testFolder.resolve("missing.bin"), 2).isPresent());
+    }
+
+    @Test
+    public void saveAndReadBinaryFile_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("data.bin");
+        List<String[]> rows = List.of(new String[] {"What is 1 + 1?", null}, new String[] {"", "été"});
+
+        BinaryUtil.saveBinaryFile(rows, 2, filePath);
+        List<String[]> readBack = BinaryUtil.readBinaryFile(filePath, 2).get();
+
+        assertEquals(rows.size(), readBack.size());
+        for (int i = 0; i < rows.size(); i++) {
+            assertArrayEquals(rows.get(i), readBack.get(i));
+        }
+    }
+
+    @Test
+    public void saveBinaryFile_wrongFieldCount_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () ->
+                BinaryUtil.saveBinaryFile(Collections.singletonList(new String[] {"a"}), 2,
+                        testFolder.resolve("data.bin")));
+    }
+
+    @Test
+    public void readBinaryFile_wrongFieldCount_throwsDataConversionException() throws Exception {
+        Path filePath = testFolder.resolve("data.bin");
+        BinaryUtil.saveBinaryFile(Collections.singletonList(new String[] {"a", "b"}), 2, filePath);
+        assertThrows(DataConversionException.class, () -> BinaryUtil.readBinaryFile(filePath, 1));
+    }
+
+    @Test
+    public void readBinaryFile_truncatedFile_throwsDataConversionException() throws Exception {
+        Path filePath = testFolder.resolve("data.bin");
+        BinaryUtil.saveBinaryFile(Collections.singletonList(new String[] {"some text"}), 1, filePath);
+        byte[] bytes = Files.readAllBytes(filePath);
+        Files.write(filePath, Arrays.copyOf(bytes, bytes.length - 3));
+
+        assertThrows(DataConversionException.class, () -> BinaryUtil.readBinaryFile(filePath, 1));
+    }
+}
@@ -1,13 +1,33 @@
 package seedu.address.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFileAttributeView;
+import java.nio.file.attribute.PosixFilePermission;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 public class FileUtilTest {
 
+    @TempDir
+    public Path testFolder;
+
+    @AfterEach
+    public void tearDown() {
+        FileUtil.setSyncPolicy(FileUtil.SyncPolicy.ALWAYS, 1000);
+    }
+
     @Test
     public void isValidPath() {
         // valid path
@@ -20,4 +40,55 @@ public class FileUtilTest {
         assertThrows(NullPointerException.class, () -> FileUtil.isValidPath(null));
     }
 
+    @Test
+    public void writeToFile_existingFile_replacesContentWithoutLeavingTempFiles() throws IOException {
+        Path file = testFolder.resolve("data.json");
+        FileUtil.writeToFile(file, "old content that is longer");
+        FileUtil.writeToFile(file, "new");
+
+        assertEquals("new", FileUtil.readFromFile(file));
+        try (Stream<Path> files = Files.list(testFolder)) {
+            assertEquals(1, files.count());
+        }
+    }
+
+    @Test
+    public void writeToFile_existingFile_keepsPermissions() throws IOException {
+        if (!Files.getFileStore(testFolder).supportsFileAttributeView(PosixFileAttributeView.class)) {
+            return;
+        }
+        Path file = testFolder.resolve("data.json");
+        FileUtil.writeToFile(file, "old");
+        Set<PosixFilePermission> permissions = PosixFilePermissions.fromString("rw-r-----");
+        Files.setPosixFilePermissions(file, permissions);
+        FileUtil.writeToFile(file, "new");
+
+        assertEquals(permissions, Files.getPosixFilePermissions(file));
+    }
+
+    @Test
+    public void writeToFile_batchedSync_contentWritten() throws IOException {
+        FileUtil.setSyncPolicy(FileUtil.SyncPolicy.BATCHED, 10);
+        Path file = testFolder.resolve("data.json");
+        FileUtil.writeToFile(file, "content");
+        FileUtil.syncPendingFiles();
+
+        assertEquals("content", FileUtil.readFromFile(file));
+    }
+
+    @Test
+    public void appendToFile_missingFile_createsFile() throws IOException {
+        FileUtil.setSyncPolicy(FileUtil.SyncPolicy.NEVER, 1000);
+        Path file = testFolder.resolve("journal.txt");
+        FileUtil.appendToFile(file, "a");
+        FileUtil.appendToFile(file, "b");
+
+        assertEquals("ab", FileUtil.readFromFile(file));
+    }
+
+    @Test
+    public void setSyncPolicy_invalidInterval_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> FileUtil.setSyncPolicy(FileUtil.SyncPolicy.BATCHED, 0));
+    }
+
 }
@@ -0,0 +1,104 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.commons.util.FuzzyMatchUtil.NOT_WITHIN_DISTANCE;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Function;
+
+import org.apache.commons.text.similarity.LevenshteinDistance;
+import org.junit.jupiter.api.Test;
+
+public class FuzzyMatchUtilTest {
+
+    //---------------- Tests for getBoundedDistance --------------------------------------
+
+    @Test
+    public void getBoundedDistance_withinDistance_returnsDistance() {
+        assertEquals(0, FuzzyMatchUtil.getBoundedDistance("", "", 0));
+        assertEquals(3, FuzzyMatchUtil.getBoundedDistance("kitten", "sitting", 3));
+        assertEquals(3, FuzzyMatchUtil.getBoundedDistance("sitting", "kitten", 10));
+        assertEquals(4, FuzzyMatchUtil.getBoundedDistance("", "quiz", 4));
+    }
+
+    @Test
+    public void getBoundedDistance_beyondDistance_returnsNotWithinDistance() {
+        assertEquals(NOT_WITHIN_DISTANCE, FuzzyMatchUtil.getBoundedDistance("kitten", "sitting", 2));
+        assertEquals(NOT_WITHIN_DISTANCE, FuzzyMatchUtil.getBoundedDistance("a", "abcd", 2));
+        assertEquals(NOT_WITHIN_DISTANCE, FuzzyMatchUtil.getBoundedDistance("abcd", "dcba", 0));
+    }
+
+    @Test
+    public void getBoundedDistance_invalidArguments_throwsException() {
+        assertThrows(NullPointerException.class, () -> FuzzyMatchUtil.getBoundedDistance(null, "a", 1));
+        assertThrows(IllegalArgumentException.class, () -> FuzzyMatchUtil.getBoundedDistance("a", "a", -1));
+    }
+
+    @Test
+    public void getBoundedDistance_randomStrings_sameAsUnboundedDistance() {
+        Random random = new Random(2103);
+        for (int i = 0; i < 2000; i++) {
+            String string1 = randomText(random, random.nextInt(10));
+            String string2 = randomText(random, random.nextInt(10));
+            int maxDistance = random.nextInt(8);
+            int distance = LevenshteinDistance.getDefaultInstance().apply(string1, string2);
+            int expected = distance <= maxDistance ? distance : NOT_WITHIN_DISTANCE;
+            assertEquals(expected, FuzzyMatchUtil.getBoundedDistance(string1, string2, maxDistance));
+        }
+    }
+
+    //---------------- Tests for findMostSimilar --------------------------------------
+
+    @Test
+    public void findMostSimilar_tiedCandidates_returnsFirst() {
+        List<String> candidates = Arrays.asList("Lecture", "Tutorial", "Tutorail", "Tutorial");
+        assertEquals(1, FuzzyMatchUtil.findMostSimilar(candidates, Function.identity(), "tutorial"));
+    }
+
+    @Test
+    public void findMostSimilar_invalidArguments_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () ->
+                FuzzyMatchUtil.findMostSimilar(Collections.<String>emptyList(), Function.identity(), "a"));
+        assertThrows(IllegalArgumentException.class, () ->
+                FuzzyMatchUtil.findMostSimilar(Collections.singletonList("a"), Function.identity(), " "));
+    }
+
+    @Test
+    public void findMostSimilar_randomCandidates_sameAsComparingEveryCandidate() {
+        Random random = new Random(2103);
+        for (int i = 0; i < 200; i++) {
+            List<String> candidates = new ArrayList<>();
+            for (int j = 0; j < 1 + random.nextInt(30); j++) {
+                candidates.add("x" + randomText(random, random.nextInt(8)));
+            }
+            String target = "x" + randomText(random, random.nextInt(8));
+
+            int expected = 0;
+            double highestSimilarity = -1;
+            for (int j = 0; j < candidates.size(); j++) {
+                String candidate = candidates.get(j);
+                int longerLength = Math.max(candidate.length(), target.length());
+                double similarity = (longerLength - LevenshteinDistance.getDefaultInstance().apply(candidate, target))
+                        / (double) longerLength;
+                if (similarity > highestSimilarity) {
+                    expected = j;
+                    highestSimilarity = similarity;
+                }
+            }
+            assertEquals(expected, FuzzyMatchUtil.findMostSimilar(candidates, Function.identity(), target));
+        }
+    }
+
+    private static String randomText(Random random, int length) {
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < length; i++) {
+            text.append("abcd".charAt(random.nextInt(4)));
+        }
+        return text.toString();
+    }
+}
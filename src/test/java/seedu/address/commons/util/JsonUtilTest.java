@@ -1,6 +1,7 @@
 package seedu.address.commons.util;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 
 import java.io.IOException;
 import java.nio.file.Path;
@@ -39,6 +40,23 @@ public class JsonUtilTest {
         assertEquals(serializableTestClass.getMapOfIntegerToString(), SerializableTestClass.getHashMapTestValues());
     }
 
+    @Test
+    public void serializeObjectToJsonFile_compact_noLineBreaks() throws IOException {
+        SerializableTestClass serializableTestClass = new SerializableTestClass();
+        serializableTestClass.setTestValues();
+
+        JsonUtil.setPrettyPrinted(false);
+        try {
+            JsonUtil.serializeObjectToJsonFile(SERIALIZATION_FILE, serializableTestClass);
+        } finally {
+            JsonUtil.setPrettyPrinted(true);
+        }
+
+        assertFalse(FileUtil.readFromFile(SERIALIZATION_FILE).contains("\n"));
+        assertEquals(SerializableTestClass.getNameTestValue(), JsonUtil
+                .deserializeObjectFromJsonFile(SERIALIZATION_FILE, SerializableTestClass.class).getName());
+    }
+
     //TODO: @Test jsonUtil_readJsonStringToObjectInstance_correctObject()
 
     //TODO: @Test jsonUtil_writeThenReadObjectToJson_correctObject()
@@ -25,6 +25,7 @@ import seedu.address.model.student.ReadOnlyStudentRecord;
 import seedu.address.storage.JsonUserPrefsStorage;
 import seedu.address.storage.StorageManager;
 import seedu.address.storage.event.JsonEventStorage;
+import seedu.address.storage.group.JsonGroupStorage;
 import seedu.address.storage.note.JsonNotesRecordStorage;
 import seedu.address.storage.question.JsonQuestionStorage;
 import seedu.address.storage.quiz.JsonQuizStorage;
@@ -50,8 +51,9 @@ public class LogicManagerTest {
         JsonNotesRecordStorage notesRecordStorage =
                 new JsonNotesRecordStorage(temporaryFolder.resolve("notesRecord.json"));
         JsonEventStorage eventStorage = new JsonEventStorage(temporaryFolder.resolve("events.json"));
+        JsonGroupStorage groupStorage = new JsonGroupStorage(temporaryFolder.resolve("groups.json"));
         StorageManager storage = new StorageManager(userPrefsStorage, studentRecordStorage,
-                questionStorage, quizStorage, notesRecordStorage, eventStorage);
+                questionStorage, quizStorage, notesRecordStorage, eventStorage, groupStorage);
         logic = new LogicManager(model, storage);
     }
 
@@ -0,0 +1,122 @@
+package seedu.address.logic.commands.quiz;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.quiz.QuizCommand.QUIZ_ALREADY_EXISTS;
+import static seedu.address.logic.commands.quiz.QuizCreateByQuotasCommand.INVALID_QUOTAS;
+import static seedu.address.logic.commands.quiz.QuizCreateByQuotasCommand.QUOTAS_NOT_MET;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.question.SavedQuestions;
+import seedu.address.model.quiz.SavedQuizzes;
+import seedu.address.testutil.model.ModelStub;
+import seedu.address.testutil.question.TypicalQuestions;
+import seedu.address.testutil.quiz.QuizBuilder;
+
+public class QuizCreateByQuotasCommandTest {
+
+    /**
+     * Checks if two QuizCreateByQuotasCommands are equal.
+     */
+    @Test
+    public void equals() {
+        QuizCreateByQuotasCommand createByQuotasCommand = new QuizCreateByQuotasCommand("quiz", 1, 2, 0);
+
+        // same values -> returns true
+        assertTrue(createByQuotasCommand.equals(new QuizCreateByQuotasCommand("quiz", 1, 2, 0)));
+
+        // null -> returns false
+        assertFalse(createByQuotasCommand.equals(null));
+
+        // different quotas -> returns false
+        assertFalse(createByQuotasCommand.equals(new QuizCreateByQuotasCommand("quiz", 2, 1, 0)));
+
+        // different number of recent quizzes -> returns false
+        assertFalse(createByQuotasCommand.equals(new QuizCreateByQuotasCommand("quiz", 1, 2, 1)));
+    }
+
+    /**
+     * Test for creating a quiz from quotas successfully.
+     */
+    @Test
+    public void execute_createQuiz_success() throws Exception {
+        ModelStubWithQuestions modelStub = new ModelStubWithQuestions();
+        CommandResult commandResult = new QuizCreateByQuotasCommand("quiz", 1, 2, 0).execute(modelStub);
+
+        assertTrue(commandResult.getFeedbackToUser()
+                .startsWith("Created quiz: quiz with 1 mcq and 2 open ended questions in "));
+        assertTrue(modelStub.checkQuizExists("quiz"));
+    }
+
+    /**
+     * Test for creating a quiz unsuccessfully, due to duplicate quiz ID.
+     */
+    @Test
+    public void execute_createDuplicateQuiz_throwsCommandException() {
+        ModelStubWithQuestions modelStub = new ModelStubWithQuestions();
+        modelStub.savedQuizzes.addQuiz(new QuizBuilder().withQuizId("quiz").build());
+        assertThrows(CommandException.class, String.format(QUIZ_ALREADY_EXISTS, "quiz"), () ->
+                new QuizCreateByQuotasCommand("quiz", 1, 1, 0).execute(modelStub));
+    }
+
+    /**
+     * Test for creating a quiz unsuccessfully, due to asking for no questions.
+     */
+    @Test
+    public void execute_noQuestions_throwsCommandException() {
+        assertThrows(CommandException.class, INVALID_QUOTAS, () ->
+                new QuizCreateByQuotasCommand("quiz", 0, 0, 0).execute(new ModelStubWithQuestions()));
+    }
+
+    /**
+     * Test for creating a quiz unsuccessfully, due to too few questions of a type.
+     */
+    @Test
+    public void execute_notEnoughQuestions_throwsCommandException() {
+        ModelStubWithQuestions modelStub = new ModelStubWithQuestions();
+        assertThrows(CommandException.class, String.format(QUOTAS_NOT_MET, 0), () ->
+                new QuizCreateByQuotasCommand("quiz", 3, 0, 0).execute(modelStub));
+        assertFalse(modelStub.checkQuizExists("quiz"));
+    }
+
+    /**
+     * Test for creating a quiz unsuccessfully, due to asking for far more questions than there are.
+     */
+    @Test
+    public void execute_oversizedQuota_throwsCommandException() {
+        ModelStubWithQuestions modelStub = new ModelStubWithQuestions();
+        assertThrows(CommandException.class, String.format(QUOTAS_NOT_MET, 0), () ->
+                new QuizCreateByQuotasCommand("quiz", 2000000000, 0, 0).execute(modelStub));
+        assertThrows(CommandException.class, String.format(QUOTAS_NOT_MET, 0), () ->
+                new QuizCreateByQuotasCommand("quiz", 1, Integer.MAX_VALUE, 0).execute(modelStub));
+        assertFalse(modelStub.checkQuizExists("quiz"));
+    }
+
+    /**
+     * A Model stub that contains the typical questions for quizzes and no quizzes.
+     */
+    private class ModelStubWithQuestions extends ModelStub {
+        private final SavedQuizzes savedQuizzes = new SavedQuizzes();
+        private final SavedQuestions savedQuestions =
+                new SavedQuestions(TypicalQuestions.getTypicalSavedQuestionsForQuiz());
+
+        @Override
+        public boolean checkQuizExists(String quizId) {
+            return savedQuizzes.checkQuizExists(quizId);
+        }
+
+        @Override
+        public Optional<Duration> createQuizByQuotas(String quizId, int numMcqQuestions, int numOpenEndedQuestions,
+                                                     int numRecentQuizzes) {
+            return savedQuizzes.createQuizByQuotas(quizId, numMcqQuestions, numOpenEndedQuestions, numRecentQuizzes,
+                    savedQuestions);
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package seedu.address.logic.commands.quiz;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.quiz.QuizCommand.QUIZ_ALREADY_EXISTS;
+import static seedu.address.logic.commands.quiz.QuizCreateVariantsCommand.INVALID_NUM_VARIANTS;
+import static seedu.address.logic.commands.quiz.QuizCreateVariantsCommand.NO_MAX_OVERLAP;
+import static seedu.address.logic.commands.quiz.QuizCreateVariantsCommand.VARIANTS_NOT_CREATED;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.question.SavedQuestions;
+import seedu.address.model.quiz.SavedQuizzes;
+import seedu.address.testutil.model.ModelStub;
+import seedu.address.testutil.question.TypicalQuestions;
+import seedu.address.testutil.quiz.QuizBuilder;
+
+public class QuizCreateVariantsCommandTest {
+
+    /**
+     * Checks if two QuizCreateVariantsCommands are equal.
+     */
+    @Test
+    public void equals() {
+        QuizCreateVariantsCommand createVariantsCommand =
+                new QuizCreateVariantsCommand("Finals", 2, "all", 3, NO_MAX_OVERLAP);
+
+        // same values -> returns true
+        assertTrue(createVariantsCommand.equals(
+                new QuizCreateVariantsCommand("Finals", 2, "all", 3, NO_MAX_OVERLAP)));
+
+        // null -> returns false
+        assertFalse(createVariantsCommand.equals(null));
+
+        // different number of variants -> returns false
+        assertFalse(createVariantsCommand.equals(
+                new QuizCreateVariantsCommand("Finals", 2, "all", 4, NO_MAX_OVERLAP)));
+
+        // different maximum overlap -> returns false
+        assertFalse(createVariantsCommand.equals(new QuizCreateVariantsCommand("Finals", 2, "all", 3, 1)));
+    }
+
+    /**
+     * Test for creating variants of a quiz successfully.
+     */
+    @Test
+    public void execute_createVariants_success() throws Exception {
+        ModelStubWithQuestions modelStub = new ModelStubWithQuestions();
+        CommandResult commandResult =
+                new QuizCreateVariantsCommand("Finals", 2, "all", 3, NO_MAX_OVERLAP).execute(modelStub);
+
+        assertEquals("Created quizzes: Finals 1 to Finals 3 with 2 questions each.",
+                commandResult.getFeedbackToUser());
+        assertTrue(modelStub.checkQuizExists("Finals 1"));
+        assertTrue(modelStub.checkQuizExists("Finals 3"));
+        assertFalse(modelStub.checkQuizExists("Finals 4"));
+    }
+
+    /**
+     * Test for creating variants unsuccessfully, due to an existing quiz with the ID of a variant.
+     */
+    @Test
+    public void execute_variantQuizIdExists_throwsCommandException() {
+        ModelStubWithQuestions modelStub = new ModelStubWithQuestions();
+        modelStub.savedQuizzes.addQuiz(new QuizBuilder().withQuizId("Finals 2").build());
+        QuizCreateVariantsCommand createVariantsCommand =
+                new QuizCreateVariantsCommand("Finals", 2, "all", 3, NO_MAX_OVERLAP);
+
+        assertThrows(CommandException.class, String.format(QUIZ_ALREADY_EXISTS, "Finals 2"), () ->
+                createVariantsCommand.execute(modelStub));
+        assertFalse(modelStub.checkQuizExists("Finals 1"));
+    }
+
+    /**
+     * Test for creating variants unsuccessfully, due to too few questions for the maximum overlap.
+     */
+    @Test
+    public void execute_overlapCannotBeMet_throwsCommandException() {
+        ModelStubWithQuestions modelStub = new ModelStubWithQuestions();
+        QuizCreateVariantsCommand createVariantsCommand = new QuizCreateVariantsCommand("Finals", 3, "all", 2, 1);
+
+        assertThrows(CommandException.class, String.format(VARIANTS_NOT_CREATED, 2, 3, 1), () ->
+                createVariantsCommand.execute(modelStub));
+        assertFalse(modelStub.checkQuizExists("Finals 1"));
+    }
+
+    /**
+     * Test for creating variants unsuccessfully, due to an invalid number of variants.
+     */
+    @Test
+    public void execute_invalidNumVariants_throwsCommandException() {
+        QuizCreateVariantsCommand createVariantsCommand =
+                new QuizCreateVariantsCommand("Finals", 2, "all", -1, NO_MAX_OVERLAP);
+        assertThrows(CommandException.class, INVALID_NUM_VARIANTS, () ->
+                createVariantsCommand.execute(new ModelStubWithQuestions()));
+    }
+
+    /**
+     * Test for creating variants unsuccessfully, due to asking for more variants than the limit.
+     */
+    @Test
+    public void execute_numVariantsAboveLimit_throwsCommandException() {
+        QuizCreateVariantsCommand createVariantsCommand =
+                new QuizCreateVariantsCommand("Finals", 2, "all", 1000000000, NO_MAX_OVERLAP);
+        assertThrows(CommandException.class, INVALID_NUM_VARIANTS, () ->
+                createVariantsCommand.execute(new ModelStubWithQuestions()));
+    }
+
+    /**
+     * A Model stub that contains the typical questions for quizzes and no quizzes.
+     */
+    private class ModelStubWithQuestions extends ModelStub {
+        private final SavedQuizzes savedQuizzes = new SavedQuizzes();
+        private final SavedQuestions savedQuestions =
+                new SavedQuestions(TypicalQuestions.getTypicalSavedQuestionsForQuiz());
+
+        @Override
+        public boolean checkQuizExists(String quizId) {
+            return savedQuizzes.checkQuizExists(quizId);
+        }
+
+        @Override
+        public boolean createQuizVariants(String quizId, int numVariants, int numQuestions, String type,
+                                          int maxOverlap) {
+            return savedQuizzes.createQuizVariants(quizId, numVariants, numQuestions, type, maxOverlap,
+                    savedQuestions);
+        }
+    }
+}
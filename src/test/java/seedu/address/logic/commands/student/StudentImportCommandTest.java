@@ -0,0 +1,133 @@
+package seedu.address.logic.commands.student;
+
+import static java.util.Objects.requireNonNull;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.core.Messages;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.student.Name;
+import seedu.address.model.student.Student;
+import seedu.address.testutil.model.ModelStub;
+import seedu.address.testutil.student.TypicalStudents;
+
+/**
+ * Test for StudentImportCommand.
+ */
+public class StudentImportCommandTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void constructor_nullFilePath_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new StudentImportCommand(null));
+    }
+
+    /**
+     * Test for adding every student in a single update of the model.
+     */
+    @Test
+    public void execute_newStudents_addedTogether() throws Exception {
+        ModelStubAcceptingStudentsAdded modelStub = new ModelStubAcceptingStudentsAdded();
+        Path filePath = writeCsv(TypicalStudents.STUDENT_ONE.getName() + "\n" + TypicalStudents.STUDENT_TWO.getName());
+
+        CommandResult commandResult = new StudentImportCommand(filePath).execute(modelStub);
+
+        assertEquals(String.format(StudentImportCommand.MESSAGE_SUCCESS, 2), commandResult.getFeedbackToUser());
+        assertEquals(Collections.singletonList(Arrays.asList(TypicalStudents.STUDENT_ONE, TypicalStudents.STUDENT_TWO)),
+                modelStub.batchesAdded);
+    }
+
+    /**
+     * Test for adding no students when one of them already exists.
+     */
+    @Test
+    public void execute_existingStudent_throwsCommandException() throws Exception {
+        ModelStubAcceptingStudentsAdded modelStub = new ModelStubAcceptingStudentsAdded();
+        modelStub.batchesAdded.add(Collections.singletonList(TypicalStudents.STUDENT_TWO));
+        StudentImportCommand importCommand = new StudentImportCommand(
+                writeCsv(TypicalStudents.STUDENT_ONE.getName() + "\n" + TypicalStudents.STUDENT_TWO.getName()));
+
+        assertThrows(CommandException.class, String.format(
+                StudentImportCommand.MESSAGE_DUPLICATE_IMPORTED_STUDENT, TypicalStudents.STUDENT_TWO), () ->
+                        importCommand.execute(modelStub));
+        assertEquals(1, modelStub.batchesAdded.size());
+    }
+
+    /**
+     * Test for the file being read when the command is executed, not when it is created.
+     */
+    @Test
+    public void execute_missingFile_throwsCommandException() {
+        ModelStubAcceptingStudentsAdded modelStub = new ModelStubAcceptingStudentsAdded();
+        StudentImportCommand importCommand = new StudentImportCommand(testFolder.resolve("missing.csv"));
+
+        assertThrows(CommandException.class, Messages.STUDENT_FILE_NOT_FOUND, () -> importCommand.execute(modelStub));
+        assertTrue(modelStub.batchesAdded.isEmpty());
+    }
+
+    @Test
+    public void execute_invalidStudent_throwsCommandException() throws Exception {
+        ModelStubAcceptingStudentsAdded modelStub = new ModelStubAcceptingStudentsAdded();
+        StudentImportCommand importCommand = new StudentImportCommand(writeCsv("Jane Fam\n ,Math"));
+
+        assertThrows(CommandException.class,
+                String.format(Messages.STUDENT_FILE_ILLEGAL_INPUT, 2, Name.MESSAGE_CONSTRAINTS), () ->
+                        importCommand.execute(modelStub));
+        assertTrue(modelStub.batchesAdded.isEmpty());
+    }
+
+    @Test
+    public void isReplayable_returnsFalse() {
+        assertFalse(new StudentImportCommand(testFolder.resolve("students.csv")).isReplayable());
+    }
+
+    @Test
+    public void equals() {
+        StudentImportCommand importCommand = new StudentImportCommand(testFolder.resolve("students.csv"));
+
+        assertTrue(importCommand.equals(importCommand));
+        assertTrue(importCommand.equals(new StudentImportCommand(testFolder.resolve("students.csv"))));
+        assertFalse(importCommand.equals(null));
+        assertFalse(importCommand.equals(new StudentImportCommand(testFolder.resolve("others.csv"))));
+    }
+
+    private Path writeCsv(String content) throws Exception {
+        Path filePath = testFolder.resolve("students.csv");
+        Files.writeString(filePath, content);
+        return filePath;
+    }
+
+    /**
+     * A Model stub that records every batch of students added.
+     */
+    private class ModelStubAcceptingStudentsAdded extends ModelStub {
+        final List<List<Student>> batchesAdded = new ArrayList<>();
+
+        @Override
+        public boolean hasStudent(Student student) {
+            requireNonNull(student);
+            return batchesAdded.stream().flatMap(List::stream).anyMatch(student::isSameStudent);
+        }
+
+        @Override
+        public void addStudents(List<Student> students) {
+            requireNonNull(students);
+            batchesAdded.add(new ArrayList<>(students));
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package seedu.address.logic.parser.quiz;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import org.junit.jupiter.api.Test;
@@ -7,7 +8,9 @@ import org.junit.jupiter.api.Test;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.quiz.QuizAddQuestionCommand;
 import seedu.address.logic.commands.quiz.QuizCreateAutomaticallyCommand;
+import seedu.address.logic.commands.quiz.QuizCreateByQuotasCommand;
 import seedu.address.logic.commands.quiz.QuizCreateManuallyCommand;
+import seedu.address.logic.commands.quiz.QuizCreateVariantsCommand;
 import seedu.address.logic.commands.quiz.QuizDeleteQuestionCommand;
 import seedu.address.logic.commands.quiz.QuizExportCommand;
 import seedu.address.logic.commands.quiz.QuizListQuestionsAndAnswersCommand;
@@ -38,6 +41,46 @@ public class QuizCommandParserTest {
         assertTrue(command instanceof QuizCreateAutomaticallyCommand);
     }
 
+    /**
+     * Tests for successfully creating a QuizCreateVariantsCommand.
+     */
+    @Test
+    public void parseCommand_createQuizVariantsValidCommand_success() throws Exception {
+        Command command = parser.parse(" auto/ quizID/Finals numQuestions/2 type/all numVariants/30 maxOverlap/1");
+        assertEquals(new QuizCreateVariantsCommand("Finals", 2, "all", 30, 1), command);
+
+        command = parser.parse(" auto/ quizID/Finals numQuestions/2 type/all numVariants/30");
+        assertEquals(new QuizCreateVariantsCommand("Finals", 2, "all", 30, QuizCreateVariantsCommand.NO_MAX_OVERLAP),
+                command);
+    }
+
+    /**
+     * Tests for a number of variants above the limit being passed on as an invalid number of variants.
+     */
+    @Test
+    public void parseCommand_createQuizVariantsAboveLimit_invalidNumVariants() throws Exception {
+        Command command = parser.parse(" auto/ quizID/Finals numQuestions/2 type/all numVariants/1000000000");
+        assertEquals(new QuizCreateVariantsCommand("Finals", 2, "all", -1, QuizCreateVariantsCommand.NO_MAX_OVERLAP),
+                command);
+
+        command = parser.parse(" auto/ quizID/Finals numQuestions/2 type/all numVariants/"
+                + QuizCreateVariantsCommand.MAX_VARIANTS);
+        assertEquals(new QuizCreateVariantsCommand("Finals", 2, "all", QuizCreateVariantsCommand.MAX_VARIANTS,
+                QuizCreateVariantsCommand.NO_MAX_OVERLAP), command);
+    }
+
+    /**
+     * Tests for successfully creating a QuizCreateByQuotasCommand.
+     */
+    @Test
+    public void parseCommand_createQuizByQuotasValidCommand_success() throws Exception {
+        Command command = parser.parse(" auto/ quizID/Week 6 numMcq/5 numOpen/3 excludeRecent/1");
+        assertEquals(new QuizCreateByQuotasCommand("Week 6", 5, 3, 1), command);
+
+        command = parser.parse(" auto/ quizID/Week 6 numOpen/3");
+        assertEquals(new QuizCreateByQuotasCommand("Week 6", 0, 3, 0), command);
+    }
+
     /**
      * Tests for successfully creating a QuizAddQuestionCommand.
      */
@@ -3,6 +3,7 @@ package seedu.address.logic.parser.student;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.commons.core.Messages.MESSAGE_INVALID_STUDENT_DISPLAYED_INDEX;
+import static seedu.address.commons.core.Messages.STUDENT_FILE_TYPE_ISSUE;
 import static seedu.address.testutil.Assert.assertThrows;
 
 import org.junit.jupiter.api.Test;
@@ -124,4 +125,13 @@ public class StudentCommandParserTest {
                 String.format(MESSAGE_INVALID_COMMAND_FORMAT, StudentAddCommand.MESSAGE_USAGE), () ->
                         parser.parse(" "));
     }
+
+    /**
+     * Test for unsuccessfully creating StudentImportCommand, as the file is not a .csv file.
+     */
+    @Test
+    public void parseCommand_importNotCsvFile_failure() {
+        assertThrows(ParseException.class, STUDENT_FILE_TYPE_ISSUE, () ->
+                parser.parse(" file/students.xlsx"));
+    }
 }
@@ -0,0 +1,104 @@
+package seedu.address.logic.parser.student;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.core.Messages;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.student.Name;
+import seedu.address.model.student.Student;
+import seedu.address.model.tag.Tag;
+import seedu.address.testutil.student.StudentBuilder;
+
+/**
+ * Test for StudentCsvParser.
+ */
+public class StudentCsvParserTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private final StudentCsvParser parser = new StudentCsvParser();
+
+    @Test
+    public void parseFile_validFile_returnsStudentsInOrder() throws Exception {
+        Path filePath = writeCsv("Jane Fam,Math,Physics\n\nJonathan Dee\n");
+        List<Student> students = parser.parseFile(filePath);
+
+        Student expectedFirst = new StudentBuilder().withName(new Name("Jane Fam")).build();
+        assertEquals(Arrays.asList(expectedFirst, new StudentBuilder().withName(new Name("Jonathan Dee")).build()),
+                students);
+        assertEquals(2, students.get(0).getTags().size());
+        assertEquals(true, students.get(0).getTags().contains(new Tag("Math")));
+    }
+
+    @Test
+    public void parseFile_invalidName_throwsParseException() throws Exception {
+        Path filePath = writeCsv("Jane Fam\n ,Math\n");
+        assertThrows(ParseException.class,
+                String.format(Messages.STUDENT_FILE_ILLEGAL_INPUT, 2, Name.MESSAGE_CONSTRAINTS), () ->
+                        parser.parseFile(filePath));
+    }
+
+    @Test
+    public void parseFile_repeatedStudent_throwsParseException() throws Exception {
+        Path filePath = writeCsv("Jane Fam\nJonathan Dee\nJane Fam,Math\n");
+        assertThrows(ParseException.class,
+                String.format(Messages.STUDENT_FILE_DUPLICATE_STUDENT, 3, "Jane Fam"), () ->
+                        parser.parseFile(filePath));
+    }
+
+    @Test
+    public void parseFile_quotedValues_returnsUnquotedValues() throws Exception {
+        Path filePath = writeCsv("\"Jane Fam\",\"Math\"\n\"Jonathan Dee\",Physics,\"\"\n");
+        List<Student> students = parser.parseFile(filePath);
+
+        assertEquals(new Name("Jane Fam"), students.get(0).getName());
+        assertEquals(true, students.get(0).getTags().contains(new Tag("Math")));
+        assertEquals(new Name("Jonathan Dee"), students.get(1).getName());
+        assertEquals(Collections.singleton(new Tag("Physics")), students.get(1).getTags());
+    }
+
+    @Test
+    public void parseFile_commaInQuotedName_throwsParseExceptionForName() throws Exception {
+        Path filePath = writeCsv("\"Fam, Jane\",Math\n");
+        assertThrows(ParseException.class,
+                String.format(Messages.STUDENT_FILE_ILLEGAL_INPUT, 1, Name.MESSAGE_CONSTRAINTS), () ->
+                        parser.parseFile(filePath));
+    }
+
+    @Test
+    public void parseFile_unclosedQuote_throwsParseException() throws Exception {
+        Path filePath = writeCsv("Jane Fam\n\"Jonathan Dee,Math\n");
+        assertThrows(ParseException.class,
+                String.format(Messages.STUDENT_FILE_ILLEGAL_INPUT, 2, StudentCsvParser.MESSAGE_UNCLOSED_QUOTE), () ->
+                        parser.parseFile(filePath));
+    }
+
+    @Test
+    public void parseFilePath_notCsvFile_throwsParseException() {
+        assertThrows(ParseException.class, Messages.STUDENT_FILE_TYPE_ISSUE, () ->
+                parser.parseFilePath(testFolder.resolve("students.txt").toString()));
+    }
+
+    @Test
+    public void parseFilePath_missingFile_returnsPath() throws Exception {
+        Path filePath = testFolder.resolve("missing.csv");
+        assertEquals(filePath, parser.parseFilePath(filePath.toString()));
+    }
+
+    private Path writeCsv(String content) throws Exception {
+        Path filePath = testFolder.resolve("students.csv");
+        Files.writeString(filePath, content);
+        return filePath;
+    }
+}
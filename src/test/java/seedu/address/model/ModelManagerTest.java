@@ -5,23 +5,35 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.commons.util.EventUtil.eventToVEventMapper;
 import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.group.TypicalGroups.GROUP_ONE;
+import static seedu.address.testutil.group.TypicalGroups.getListOfGroups;
+import static seedu.address.testutil.student.TypicalStudents.getTypicalStudentRecord;
 
+import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.Collections;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 import jfxtras.icalendarfx.components.VEvent;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.index.Index;
+import seedu.address.model.event.EventRecord;
+import seedu.address.model.group.ListOfGroups;
 import seedu.address.model.group.exceptions.GroupNotFoundException;
 import seedu.address.model.note.Note;
 import seedu.address.model.note.NotesRecord;
 import seedu.address.model.question.Question;
 import seedu.address.model.question.SavedQuestions;
+import seedu.address.model.quiz.SavedQuizzes;
 import seedu.address.model.statistics.StatisticsRecord;
+import seedu.address.model.student.Name;
 import seedu.address.model.student.Student;
 import seedu.address.model.student.StudentRecord;
 import seedu.address.model.student.exceptions.StudentNotFoundException;
+import seedu.address.storage.group.JsonGroupStorage;
 import seedu.address.testutil.event.EventBuilder;
 import seedu.address.testutil.note.NoteBuilder;
 import seedu.address.testutil.question.QuestionBuilder;
@@ -30,6 +42,9 @@ import seedu.address.testutil.student.TypicalStudents;
 
 public class ModelManagerTest {
 
+    @TempDir
+    public Path testFolder;
+
     private ModelManager modelManager = new ModelManager();
 
     @Test
@@ -221,6 +236,33 @@ public class ModelManagerTest {
         assertEquals(initialSize + 1, modelManager.getStudentRecord().getStudentList().size());
     }
 
+    @Test
+    public void setStudent_studentInGroup_stillInGroupAfterReload() throws Exception {
+        ModelManager model = new ModelManager(getTypicalStudentRecord(), new SavedQuestions(), new SavedQuizzes(),
+                new NotesRecord(), new EventRecord(), new StatisticsRecord(), getListOfGroups(), new UserPrefs());
+        Student renamedStudent = new StudentBuilder(TypicalStudents.STUDENT_ONE).withName(new Name("Jon Dee")).build();
+        model.setStudent(TypicalStudents.STUDENT_ONE, renamedStudent);
+
+        JsonGroupStorage groupStorage = new JsonGroupStorage(testFolder.resolve("groups.json"));
+        groupStorage.saveGroups(model.getGroups());
+        ListOfGroups readBack = new ListOfGroups(groupStorage.readGroups(model.getStudentRecord()).get());
+
+        assertTrue(readBack.isStudentInGroup(GROUP_ONE.getGroupId(), renamedStudent));
+        assertEquals(Arrays.asList(renamedStudent, TypicalStudents.STUDENT_TWO),
+                readBack.getGroup(GROUP_ONE.getGroupId()).getObservableListStudents());
+    }
+
+    @Test
+    public void deleteStudent_studentInGroup_removedFromGroup() {
+        ModelManager model = new ModelManager(getTypicalStudentRecord(), new SavedQuestions(), new SavedQuizzes(),
+                new NotesRecord(), new EventRecord(), new StatisticsRecord(), getListOfGroups(), new UserPrefs());
+        model.deleteStudent(TypicalStudents.STUDENT_ONE);
+
+        assertFalse(model.checkStudentExistInGroup(GROUP_ONE.getGroupId(), TypicalStudents.STUDENT_ONE));
+        assertEquals(Collections.singletonList(TypicalStudents.STUDENT_TWO),
+                model.getGroups().getGroupList().get(0).getObservableListStudents());
+    }
+
     @Test
     public void checkGroupExist_groupDoesNotExist_returnsFalse() {
         assertFalse(modelManager.checkGroupExists("Test group"));
@@ -296,5 +296,10 @@ public class EventRecordTest {
         public ObservableList<Event> getAllEvents() {
             return events;
         }
+
+        @Override
+        public long getVersion() {
+            return 0;
+        }
     }
 }
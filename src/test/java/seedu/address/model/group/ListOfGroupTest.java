@@ -5,6 +5,7 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
@@ -13,7 +14,12 @@ import org.junit.jupiter.api.Test;
 
 import seedu.address.model.group.exceptions.DuplicateGroupException;
 import seedu.address.model.group.exceptions.GroupNotFoundException;
+import seedu.address.model.student.Name;
+import seedu.address.model.student.Student;
+import seedu.address.testutil.group.GroupBuilder;
 import seedu.address.testutil.group.TypicalGroups;
+import seedu.address.testutil.student.StudentBuilder;
+import seedu.address.testutil.student.TypicalStudents;
 
 /**
  * Test for the ListOfGroups Model.
@@ -98,4 +104,79 @@ public class ListOfGroupTest {
                 .asList(TypicalGroups.GROUP_ONE, TypicalGroups.GROUP_ONE);
         assertThrows(DuplicateGroupException.class, () -> listOfGroups.setGroups(listWithDuplicateGroups));
     }
+
+    @Test
+    public void getGroup_groupInList_returnsGroup() {
+        listOfGroups.setGroups(TypicalGroups.getTypicalGroups());
+        assertEquals(TypicalGroups.GROUP_THREE, listOfGroups.getGroup(TypicalGroups.GROUP_THREE.getGroupId()));
+        assertEquals(2, listOfGroups.getGroupIndex(TypicalGroups.GROUP_THREE.getGroupId()));
+        assertTrue(listOfGroups.hasGroup(TypicalGroups.GROUP_THREE.getGroupId()));
+        assertThrows(GroupNotFoundException.class, () -> listOfGroups.getGroup("TestGROUP_FIVE"));
+    }
+
+    @Test
+    public void setGroups_listWithDuplicateGroups_listUnchanged() {
+        listOfGroups.addGroup(TypicalGroups.GROUP_THREE);
+        List<Group> listWithDuplicateGroups = Arrays.asList(TypicalGroups.GROUP_ONE, TypicalGroups.GROUP_ONE);
+        assertThrows(DuplicateGroupException.class, () -> listOfGroups.setGroups(listWithDuplicateGroups));
+
+        assertTrue(listOfGroups.hasGroup(TypicalGroups.GROUP_THREE.getGroupId()));
+        assertFalse(listOfGroups.hasGroup(TypicalGroups.GROUP_ONE.getGroupId()));
+    }
+
+    @Test
+    public void getGroupIdsOf_studentsInGroups_returnsTheirGroups() {
+        listOfGroups.setGroups(TypicalGroups.getTypicalGroups());
+        assertEquals(Arrays.asList(TypicalGroups.GROUP_ONE.getGroupId(), TypicalGroups.GROUP_THREE.getGroupId()),
+                new ArrayList<>(listOfGroups.getGroupIdsOf(TypicalStudents.STUDENT_ONE)));
+        assertTrue(listOfGroups.isStudentInGroup(TypicalGroups.GROUP_TWO.getGroupId(), TypicalStudents.STUDENT_FOUR));
+        assertFalse(listOfGroups.isStudentInGroup(TypicalGroups.GROUP_ONE.getGroupId(), TypicalStudents.STUDENT_FOUR));
+
+        listOfGroups.removeGroup(TypicalGroups.GROUP_ONE.getGroupId());
+        assertEquals(Collections.singleton(TypicalGroups.GROUP_THREE.getGroupId()),
+                listOfGroups.getGroupIdsOf(TypicalStudents.STUDENT_ONE));
+    }
+
+    @Test
+    public void addAndRemoveStudent_groupInList_updatesGroupsOfStudent() {
+        Group group = new GroupBuilder().withGroupId("Tutorial")
+                .withStudentList(Arrays.asList(TypicalStudents.STUDENT_ONE)).build();
+        listOfGroups.addGroup(group);
+
+        assertTrue(listOfGroups.addStudentToGroup("Tutorial", 1, TypicalStudents.STUDENT_TWO));
+        assertTrue(listOfGroups.isStudentInGroup("Tutorial", TypicalStudents.STUDENT_TWO));
+        assertEquals(TypicalStudents.STUDENT_TWO, group.getObservableListStudents().get(0));
+
+        assertEquals(TypicalStudents.STUDENT_TWO, listOfGroups.removeStudentFromGroup("Tutorial", 0));
+        assertFalse(listOfGroups.isStudentInGroup("Tutorial", TypicalStudents.STUDENT_TWO));
+        assertTrue(listOfGroups.getGroupIdsOf(TypicalStudents.STUDENT_TWO).isEmpty());
+        assertTrue(listOfGroups.isStudentInGroup("Tutorial", TypicalStudents.STUDENT_ONE));
+    }
+
+    @Test
+    public void setStudentInGroups_studentInGroups_replacedInEveryGroup() {
+        ListOfGroups groupsWithStudents = new ListOfGroups(TypicalGroups.getListOfGroups());
+        Student renamedStudent = new StudentBuilder(TypicalStudents.STUDENT_ONE).withName(new Name("Jon Dee")).build();
+        groupsWithStudents.setStudentInGroups(TypicalStudents.STUDENT_ONE, renamedStudent);
+
+        // STUDENT_ONE is in GROUP_ONE and GROUP_THREE.
+        assertEquals(Arrays.asList(renamedStudent, TypicalStudents.STUDENT_TWO),
+                groupsWithStudents.getGroup(TypicalGroups.GROUP_ONE.getGroupId()).getObservableListStudents());
+        assertEquals(Arrays.asList(renamedStudent, TypicalStudents.STUDENT_THREE),
+                groupsWithStudents.getGroup(TypicalGroups.GROUP_THREE.getGroupId()).getObservableListStudents());
+        assertTrue(groupsWithStudents.getGroupIdsOf(TypicalStudents.STUDENT_ONE).isEmpty());
+        assertEquals(2, groupsWithStudents.getGroupIdsOf(renamedStudent).size());
+    }
+
+    @Test
+    public void removeStudentFromGroups_studentInGroups_removedFromEveryGroup() {
+        ListOfGroups groupsWithStudents = new ListOfGroups(TypicalGroups.getListOfGroups());
+        groupsWithStudents.removeStudentFromGroups(TypicalStudents.STUDENT_ONE);
+
+        assertEquals(Collections.singletonList(TypicalStudents.STUDENT_TWO),
+                groupsWithStudents.getGroup(TypicalGroups.GROUP_ONE.getGroupId()).getObservableListStudents());
+        assertEquals(Collections.singletonList(TypicalStudents.STUDENT_THREE),
+                groupsWithStudents.getGroup(TypicalGroups.GROUP_THREE.getGroupId()).getObservableListStudents());
+        assertTrue(groupsWithStudents.getGroupIdsOf(TypicalStudents.STUDENT_ONE).isEmpty());
+    }
 }
@@ -90,6 +90,11 @@ public class NotesRecordTest {
         public ObservableList<Note> getNotesList() {
             return notes;
         }
+
+        @Override
+        public long getVersion() {
+            return 0;
+        }
     }
 
 }
@@ -3,6 +3,7 @@ package seedu.address.model.question;
 import static java.util.Objects.requireNonNull;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
@@ -56,6 +57,31 @@ public class QuestionBankTest {
         assertTrue(questions.contains(editedQuestion));
     }
 
+    @Test
+    public void contains_sameTextDifferentType_returnsFalse() {
+        questions.addQuestion(differentQuestion);
+        assertFalse(questions.contains(mcqQuestion));
+    }
+
+    @Test
+    public void contains_afterDeletingAndReplacingQuestions_reflectsCurrentQuestions() {
+        questions.addQuestion(question);
+        questions.addQuestion(differentQuestion);
+        questions.deleteQuestion(Index.fromOneBased(1));
+        assertFalse(questions.contains(question));
+
+        questions.setQuestion(Index.fromOneBased(1), question);
+        assertTrue(questions.contains(question));
+        assertFalse(questions.contains(differentQuestion));
+
+        questions.setQuestion(question, mcqQuestion);
+        assertFalse(questions.contains(question));
+        assertTrue(questions.contains(mcqQuestion));
+
+        questions.deleteQuestion(mcqQuestion);
+        assertFalse(questions.contains(mcqQuestion));
+    }
+
     @Test
     public void addQuestion_nullQuestion_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> questions.addQuestion(null));
@@ -221,6 +247,18 @@ public class QuestionBankTest {
         assertEquals(result, expectedResult);
     }
 
+    @Test
+    public void searchQuestion_afterDeletingQuestion_numbersByCurrentPosition() {
+        questions.addQuestion(question);
+        questions.addQuestion(differentQuestion);
+        questions.deleteQuestion(Index.fromOneBased(1));
+
+        questions.searchQuestions("1+2");
+        assertEquals(1, questions.getSearchQuestions().size());
+        assertEquals(Index.fromOneBased(1), questions.getSearchQuestions().get(0).getIndex());
+        assertSame(differentQuestion, questions.getSearchQuestions().get(0).getQuestion());
+    }
+
     @Test
     public void searchQuestion_searchQuestionWithWrongSpelling_success() {
         questions.addQuestion(question);
@@ -279,6 +317,16 @@ public class QuestionBankTest {
             questions.setQuestions(listWithDuplicateQuestions));
     }
 
+    @Test
+    public void setQuestions_listWithDuplicateQuestions_keepsOwnQuestions() {
+        questions.addQuestion(differentQuestion);
+        assertThrows(DuplicateQuestionException.class, () ->
+            questions.setQuestions(Arrays.asList(question, mcqQuestion, question)));
+        assertTrue(questions.contains(differentQuestion));
+        assertFalse(questions.contains(question));
+        assertEquals(Collections.singletonList(differentQuestion), questions.getAllQuestions());
+    }
+
     @Test
     public void getAllQuestions_listIsNotEmpty_success() {
         questions.addQuestion(question);
@@ -323,6 +371,28 @@ public class QuestionBankTest {
         assertEquals(questions.getOpenEndedQuestions(), expectedList);
     }
 
+    @Test
+    public void getQuestionsByType_afterChangingQuestions_viewsStayUpToDate() {
+        ObservableList<Question> mcqQuestions = questions.getMcqQuestions();
+        ObservableList<Question> openEndedQuestions = questions.getOpenEndedQuestions();
+        questions.addQuestion(question);
+        questions.addQuestion(mcqQuestion);
+        assertEquals(Collections.singletonList(mcqQuestion), mcqQuestions);
+        assertEquals(Collections.singletonList(question), openEndedQuestions);
+
+        questions.setQuestion(Index.fromOneBased(1), differentQuestion);
+        questions.deleteQuestion(mcqQuestion);
+        assertTrue(mcqQuestions.isEmpty());
+        assertEquals(Collections.singletonList(differentQuestion), openEndedQuestions);
+        assertSame(mcqQuestions, questions.getMcqQuestions());
+        assertSame(openEndedQuestions, questions.getOpenEndedQuestions());
+    }
+
+    @Test
+    public void getMcqQuestions_modifyList_throwsUnsupportedOperationException() {
+        assertThrows(UnsupportedOperationException.class, () -> questions.getMcqQuestions().add(mcqQuestion));
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () ->
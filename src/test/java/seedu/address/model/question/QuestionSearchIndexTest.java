@@ -0,0 +1,138 @@
+package seedu.address.model.question;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.text.similarity.LevenshteinDistance;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.testutil.question.QuestionBuilder;
+
+public class QuestionSearchIndexTest {
+
+    private final QuestionSearchIndex searchIndex = new QuestionSearchIndex();
+
+    @Test
+    public void findContaining_textInQuestions_returnsPositionsInOrder() {
+        searchIndex.setAll(Arrays.asList(buildQuestion("What is an Atom?"), buildQuestion("Define velocity"),
+            buildQuestion("Who discovered the atom?")));
+
+        assertEquals(Arrays.asList(0, 2), positionsOf(searchIndex.findContaining("ATOM")));
+        assertEquals(Arrays.asList(0, 2), positionsOf(searchIndex.findContaining("m")));
+        assertEquals(Collections.emptyList(), positionsOf(searchIndex.findContaining("electron")));
+        assertEquals(Arrays.asList(0, 1, 2), positionsOf(searchIndex.findContaining("")));
+    }
+
+    @Test
+    public void findContaining_afterAddSetAndRemove_returnsCurrentPositions() {
+        searchIndex.add(0, buildQuestion("What is an atom?"));
+        searchIndex.add(1, buildQuestion("Define velocity"));
+        searchIndex.add(0, buildQuestion("Who discovered the atom?"));
+        assertEquals(Arrays.asList(0, 1), positionsOf(searchIndex.findContaining("atom")));
+
+        searchIndex.remove(0);
+        assertEquals(Collections.singletonList(0), positionsOf(searchIndex.findContaining("atom")));
+        assertEquals(Collections.singletonList(1), positionsOf(searchIndex.findContaining("velocity")));
+
+        searchIndex.set(1, buildQuestion("Define an atom"));
+        assertEquals(Arrays.asList(0, 1), positionsOf(searchIndex.findContaining("atom")));
+        assertEquals(Collections.emptyList(), positionsOf(searchIndex.findContaining("velocity")));
+    }
+
+    @Test
+    public void findSimilar_misspeltText_returnsQuestionsWithinDistance() {
+        searchIndex.setAll(Arrays.asList(buildQuestion("What is 1+1?"), buildQuestion("What is 1+2?"),
+            buildQuestion("What is the speed of light?")));
+
+        assertEquals(Arrays.asList(0, 1), positionsOf(searchIndex.findSimilar("Whxt is 1+1?", 4)));
+        assertEquals(Collections.singletonList(1), positionsOf(searchIndex.findSimilar("What is 1+1?", 4)));
+        assertEquals(Collections.emptyList(), positionsOf(searchIndex.findSimilar("What is 1+1?", 0)));
+    }
+
+    @Test
+    public void findSimilar_misspeltText_hitsReferToQuestionsWithDistanceAsScore() {
+        Question exactQuestion = buildQuestion("What is 1+1?");
+        Question closeQuestion = buildQuestion("What is 1+2?");
+        searchIndex.setAll(Arrays.asList(exactQuestion, closeQuestion));
+
+        List<QuestionSearchHit> hits = searchIndex.findSimilar("Whxt is 1+1?", 4);
+        assertSame(exactQuestion, hits.get(0).getQuestion());
+        assertEquals(1, hits.get(0).getScore());
+        assertSame(closeQuestion, hits.get(1).getQuestion());
+        assertEquals(2, hits.get(1).getScore());
+        assertEquals(0, searchIndex.findContaining("1+1").get(0).getScore());
+    }
+
+    @Test
+    public void find_randomQuestions_sameAsScanningEveryQuestion() {
+        assertSameAsScanningEveryQuestion(searchIndex);
+    }
+
+    @Test
+    public void find_randomQuestionsInParallel_sameAsScanningEveryQuestion() {
+        assertSameAsScanningEveryQuestion(new QuestionSearchIndex(1));
+        assertSameAsScanningEveryQuestion(new QuestionSearchIndex(7));
+    }
+
+    @Test
+    public void constructor_nonPositiveThreshold_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new QuestionSearchIndex(0));
+    }
+
+    private static void assertSameAsScanningEveryQuestion(QuestionSearchIndex searchIndex) {
+        Random random = new Random(2103);
+        List<Question> questions = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            questions.add(buildQuestion(randomText(random, 1 + random.nextInt(12))));
+        }
+        searchIndex.setAll(questions);
+
+        for (int i = 0; i < 200; i++) {
+            String textToFind = randomText(random, random.nextInt(6));
+            int maxDistance = (int) (textToFind.length() * 0.4);
+            List<QuestionSearchHit> expectedContaining = new ArrayList<>();
+            List<QuestionSearchHit> expectedSimilar = new ArrayList<>();
+            for (int position = 0; position < questions.size(); position++) {
+                Question question = questions.get(position);
+                int distance = LevenshteinDistance.getDefaultInstance().apply(textToFind, question.getQuestion());
+                if (StringUtils.containsIgnoreCase(question.getQuestion(), textToFind)) {
+                    expectedContaining.add(new QuestionSearchHit(Index.fromZeroBased(position), question, 0));
+                } else if (distance <= maxDistance) {
+                    expectedSimilar.add(new QuestionSearchHit(Index.fromZeroBased(position), question, distance));
+                }
+            }
+            assertEquals(expectedContaining, searchIndex.findContaining(textToFind));
+            assertEquals(expectedSimilar, searchIndex.findSimilar(textToFind, maxDistance));
+        }
+    }
+
+    private static List<Integer> positionsOf(List<QuestionSearchHit> hits) {
+        List<Integer> positions = new ArrayList<>();
+        for (QuestionSearchHit hit : hits) {
+            positions.add(hit.getIndex().getZeroBased());
+        }
+        return positions;
+    }
+
+    private static Question buildQuestion(String text) {
+        return new QuestionBuilder().withQuestion(text).withAnswer("answer").build();
+    }
+
+    private static String randomText(Random random, int length) {
+        String characters = "abAB c";
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < length; i++) {
+            text.append(characters.charAt(random.nextInt(characters.length())));
+        }
+        return text.toString();
+    }
+}
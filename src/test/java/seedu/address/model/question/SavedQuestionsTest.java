@@ -157,5 +157,10 @@ public class SavedQuestionsTest {
         public ObservableList<Question> getSavedQuestions() {
             return questions;
         }
+
+        @Override
+        public long getVersion() {
+            return 0;
+        }
     }
 }
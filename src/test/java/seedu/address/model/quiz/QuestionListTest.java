@@ -0,0 +1,68 @@
+package seedu.address.model.quiz;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.question.TypicalQuestions.QUESTION_FOUR;
+import static seedu.address.testutil.question.TypicalQuestions.QUESTION_ONE;
+import static seedu.address.testutil.question.TypicalQuestions.QUESTION_THREE;
+import static seedu.address.testutil.question.TypicalQuestions.QUESTION_TWO;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.question.Question;
+import seedu.address.testutil.question.QuestionBuilder;
+
+public class QuestionListTest {
+
+    @Test
+    public void addQuestion_sameQuestionText_notAdded() {
+        QuestionList questionList = new QuestionList();
+        assertTrue(questionList.addQuestion(QUESTION_ONE));
+
+        Question sameText = new QuestionBuilder().withQuestion(QUESTION_ONE.getQuestion()).withAnswer("1966").build();
+        assertFalse(questionList.addQuestion(sameText));
+        assertFalse(questionList.addQuestion(1, sameText));
+        assertEquals(Arrays.asList(QUESTION_ONE), questionList.getQuestions());
+        assertTrue(questionList.contains(sameText));
+    }
+
+    @Test
+    public void addQuestion_questionNumber_addsAtQuestionNumber() {
+        QuestionList questionList = new QuestionList();
+        assertTrue(questionList.addQuestion(1, QUESTION_ONE));
+        assertTrue(questionList.addQuestion(5, QUESTION_TWO));
+        assertTrue(questionList.addQuestion(1, QUESTION_THREE));
+        assertFalse(questionList.addQuestion(0, QUESTION_FOUR));
+
+        assertEquals(Arrays.asList(QUESTION_THREE, QUESTION_ONE, QUESTION_TWO), questionList.getQuestions());
+        assertFalse(questionList.contains(QUESTION_FOUR));
+    }
+
+    @Test
+    public void removeQuestion_removedQuestion_canBeAddedAgain() {
+        QuestionList questionList = new QuestionList();
+        questionList.addQuestion(QUESTION_ONE);
+        questionList.addQuestion(QUESTION_TWO);
+
+        assertEquals(QUESTION_ONE, questionList.removeQuestion(1));
+        assertFalse(questionList.contains(QUESTION_ONE));
+        assertTrue(questionList.addQuestion(QUESTION_ONE));
+        assertEquals(Arrays.asList(QUESTION_TWO, QUESTION_ONE), questionList.getQuestions());
+    }
+
+    @Test
+    public void setQuestions_replacesQuestions() {
+        QuestionList questionList = new QuestionList();
+        questionList.addQuestion(QUESTION_ONE);
+        questionList.setQuestions(new ArrayList<>(Arrays.asList(QUESTION_TWO, QUESTION_THREE)));
+
+        assertFalse(questionList.contains(QUESTION_ONE));
+        assertTrue(questionList.contains(QUESTION_TWO));
+        assertFalse(questionList.addQuestion(QUESTION_THREE));
+        assertTrue(questionList.addQuestion(QUESTION_ONE));
+    }
+}
@@ -0,0 +1,74 @@
+package seedu.address.model.quiz;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.quiz.TypicalSavedQuizzes.QUIZ_ONE;
+import static seedu.address.testutil.quiz.TypicalSavedQuizzes.QUIZ_THREE;
+import static seedu.address.testutil.quiz.TypicalSavedQuizzes.QUIZ_TWO;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.quiz.QuizBuilder;
+
+public class QuizBankTest {
+
+    @Test
+    public void findQuiz_quizInBank_returnsQuiz() {
+        QuizBank quizBank = new QuizBank();
+        quizBank.setQuizzes(Arrays.asList(QUIZ_ONE, QUIZ_TWO));
+
+        assertSame(QUIZ_TWO, quizBank.findQuiz(QUIZ_TWO.getQuizId()).get());
+        assertTrue(quizBank.hasQuiz(QUIZ_ONE.getQuizId()));
+        assertFalse(quizBank.findQuiz(QUIZ_THREE.getQuizId()).isPresent());
+        assertFalse(quizBank.hasQuiz(QUIZ_THREE.getQuizId()));
+    }
+
+    @Test
+    public void addQuiz_repeatedQuizId_notAdded() {
+        QuizBank quizBank = new QuizBank();
+        quizBank.addQuiz(QUIZ_ONE);
+        quizBank.addQuiz(new QuizBuilder().withQuizId(QUIZ_ONE.getQuizId()).build());
+
+        assertEquals(1, quizBank.asUnmodifiableObservableList().size());
+        assertSame(QUIZ_ONE, quizBank.findQuiz(QUIZ_ONE.getQuizId()).get());
+    }
+
+    @Test
+    public void setQuizzes_repeatedQuizId_keepsFirstQuiz() {
+        QuizBank quizBank = new QuizBank();
+        quizBank.addQuiz(QUIZ_THREE);
+        Quiz repeatedQuiz = new QuizBuilder().withQuizId(QUIZ_ONE.getQuizId()).build();
+        quizBank.setQuizzes(Arrays.asList(QUIZ_ONE, QUIZ_TWO, repeatedQuiz));
+
+        assertEquals(Arrays.asList(QUIZ_ONE, QUIZ_TWO), quizBank.asUnmodifiableObservableList());
+        assertSame(QUIZ_ONE, quizBank.findQuiz(QUIZ_ONE.getQuizId()).get());
+        assertFalse(quizBank.hasQuiz(QUIZ_THREE.getQuizId()));
+    }
+
+    @Test
+    public void removeQuiz_quizInBank_removesOnlyThatQuiz() {
+        QuizBank quizBank = new QuizBank();
+        quizBank.setQuizzes(Arrays.asList(QUIZ_ONE, QUIZ_TWO, QUIZ_THREE));
+        quizBank.removeQuiz(QUIZ_ONE.getQuizId());
+
+        assertEquals(Arrays.asList(QUIZ_TWO, QUIZ_THREE), quizBank.asUnmodifiableObservableList());
+        assertFalse(quizBank.hasQuiz(QUIZ_ONE.getQuizId()));
+
+        // a removed quiz can be added again
+        quizBank.addQuiz(QUIZ_ONE);
+        assertEquals(Arrays.asList(QUIZ_TWO, QUIZ_THREE, QUIZ_ONE), quizBank.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void removeQuiz_quizNotInBank_nothingRemoved() {
+        QuizBank quizBank = new QuizBank();
+        quizBank.setQuizzes(Arrays.asList(QUIZ_ONE, QUIZ_TWO));
+        quizBank.removeQuiz(QUIZ_THREE.getQuizId());
+
+        assertEquals(Arrays.asList(QUIZ_ONE, QUIZ_TWO), quizBank.asUnmodifiableObservableList());
+    }
+}
@@ -0,0 +1,169 @@
+package seedu.address.model.quiz;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.question.Question;
+import seedu.address.model.question.SavedQuestions;
+import seedu.address.testutil.question.QuestionBuilder;
+import seedu.address.testutil.question.TypicalQuestions;
+
+public class QuizManagerTest {
+
+    @Test
+    public void sampleQuestions_sampleSizeWithinQuestions_returnsDifferentQuestions() {
+        List<Question> questions = buildQuestions(50);
+        for (int sampleSize = 0; sampleSize <= questions.size(); sampleSize++) {
+            List<Question> sample =
+                    QuizManager.sampleQuestions(questions, sampleSize, new SplittableRandom(sampleSize));
+            assertEquals(sampleSize, sample.size());
+            assertEquals(sampleSize, new HashSet<>(sample).size());
+            assertTrue(questions.containsAll(sample));
+        }
+    }
+
+    @Test
+    public void sampleQuestions_sameSeed_returnsSameQuestions() {
+        List<Question> questions = buildQuestions(50);
+        assertEquals(QuizManager.sampleQuestions(questions, 10, new SplittableRandom(2103)),
+                QuizManager.sampleQuestions(questions, 10, new SplittableRandom(2103)));
+    }
+
+    @Test
+    public void sampleQuestions_manySamples_picksEveryQuestionEvenly() {
+        List<Question> questions = buildQuestions(5);
+        int[] timesPicked = new int[questions.size()];
+        SplittableRandom random = new SplittableRandom(2103);
+        for (int i = 0; i < 10000; i++) {
+            for (Question question : QuizManager.sampleQuestions(questions, 2, random)) {
+                timesPicked[questions.indexOf(question)]++;
+            }
+        }
+        // Each question is expected to be picked 4000 times.
+        for (int count : timesPicked) {
+            assertTrue(count > 3700 && count < 4300);
+        }
+    }
+
+    @Test
+    public void sampleQuestions_sampleSizeOutsideQuestions_throwsIllegalArgumentException() {
+        List<Question> questions = buildQuestions(3);
+        assertThrows(IllegalArgumentException.class, () ->
+                QuizManager.sampleQuestions(questions, 4, new SplittableRandom()));
+        assertThrows(IllegalArgumentException.class, () ->
+                QuizManager.sampleQuestions(questions, -1, new SplittableRandom()));
+    }
+
+    @Test
+    public void createQuizAutomatically_sameSeed_createsSameQuizzes() {
+        SavedQuestions savedQuestions = TypicalQuestions.getTypicalSavedQuestionsForQuiz();
+        QuizBank quizBank = new QuizBank();
+        assertTrue(QuizManager.createQuizAutomatically("first", 2, "all", savedQuestions, quizBank,
+                new SplittableRandom(2103)));
+        assertTrue(QuizManager.createQuizAutomatically("second", 2, "all", savedQuestions, quizBank,
+                new SplittableRandom(2103)));
+
+        assertEquals(quizBank.getQuiz(0).getQuestionList().getQuestions(),
+                quizBank.getQuiz(1).getQuestionList().getQuestions());
+    }
+
+    @Test
+    public void createQuizVariants_maxOverlap_variantsShareAtMostMaxOverlap() {
+        SavedQuestions savedQuestions = new SavedQuestions();
+        for (Question question : buildQuestions(40)) {
+            savedQuestions.addQuestion(question);
+        }
+        QuizBank quizBank = new QuizBank();
+        assertTrue(QuizManager.createQuizVariants("Finals", 6, 5, "all", 1, savedQuestions, quizBank,
+                new SplittableRandom(2103)));
+
+        assertEquals(6, quizBank.asUnmodifiableObservableList().size());
+        for (int i = 0; i < 6; i++) {
+            List<Question> variant = quizBank.getQuiz(i).getQuestionList().getQuestions();
+            assertEquals(QuizManager.getVariantQuizId("Finals", i + 1), quizBank.getQuiz(i).getQuizId());
+            assertEquals(5, variant.size());
+            for (int j = 0; j < i; j++) {
+                List<Question> sharedQuestions = new ArrayList<>(variant);
+                sharedQuestions.retainAll(quizBank.getQuiz(j).getQuestionList().getQuestions());
+                assertTrue(sharedQuestions.size() <= 1);
+            }
+        }
+    }
+
+    @Test
+    public void createQuizVariants_sameSeed_createsSameVariants() {
+        SavedQuestions savedQuestions = TypicalQuestions.getTypicalSavedQuestionsForQuiz();
+        QuizBank quizBank = new QuizBank();
+        QuizBank otherQuizBank = new QuizBank();
+        assertTrue(QuizManager.createQuizVariants("Finals", 5, 2, "all", 2, savedQuestions, quizBank,
+                new SplittableRandom(2103)));
+        assertTrue(QuizManager.createQuizVariants("Finals", 5, 2, "all", 2, savedQuestions, otherQuizBank,
+                new SplittableRandom(2103)));
+
+        for (int i = 0; i < 5; i++) {
+            assertEquals(quizBank.getQuiz(i).getQuestionList().getQuestions(),
+                    otherQuizBank.getQuiz(i).getQuestionList().getQuestions());
+        }
+    }
+
+    @Test
+    public void createQuizVariants_overlapCannotBeMet_addsNoQuizzes() {
+        SavedQuestions savedQuestions = TypicalQuestions.getTypicalSavedQuestionsForQuiz();
+        QuizBank quizBank = new QuizBank();
+        assertFalse(QuizManager.createQuizVariants("Finals", 2, 3, "all", 1, savedQuestions, quizBank,
+                new SplittableRandom(2103)));
+        assertTrue(quizBank.asUnmodifiableObservableList().isEmpty());
+    }
+
+    @Test
+    public void createQuizByQuotas_enoughQuestions_fillsEachQuota() {
+        SavedQuestions savedQuestions = TypicalQuestions.getTypicalSavedQuestionsForQuiz();
+        QuizBank quizBank = new QuizBank();
+        assertTrue(QuizManager.createQuizByQuotas("quiz", 1, 2, 0, savedQuestions, quizBank,
+                new SplittableRandom(2103)).isPresent());
+
+        List<Question> questions = quizBank.getQuiz(0).getQuestionList().getQuestions();
+        assertEquals(3, questions.size());
+        assertTrue(questions.containsAll(Arrays.asList(TypicalQuestions.QUESTION_ONE, TypicalQuestions.QUESTION_TWO)));
+        assertTrue(questions.contains(TypicalQuestions.QUESTION_THREE)
+                || questions.contains(TypicalQuestions.QUESTION_FOUR));
+    }
+
+    @Test
+    public void createQuizByQuotas_excludeRecentQuizzes_leavesOutTheirQuestions() {
+        SavedQuestions savedQuestions = TypicalQuestions.getTypicalSavedQuestionsForQuiz();
+        QuizBank quizBank = new QuizBank();
+        Quiz recentQuiz = new Quiz("recent");
+        recentQuiz.addQuestion(TypicalQuestions.QUESTION_ONE);
+        recentQuiz.addQuestion(TypicalQuestions.QUESTION_THREE);
+        quizBank.addQuiz(recentQuiz);
+
+        assertTrue(QuizManager.createQuizByQuotas("quiz", 1, 1, 1, savedQuestions, quizBank,
+                new SplittableRandom(2103)).isPresent());
+        List<Question> questions = quizBank.getQuiz(1).getQuestionList().getQuestions();
+        assertEquals(2, questions.size());
+        assertTrue(questions.containsAll(Arrays.asList(TypicalQuestions.QUESTION_TWO, TypicalQuestions.QUESTION_FOUR)));
+
+        assertFalse(QuizManager.createQuizByQuotas("other", 2, 0, 2, savedQuestions, quizBank,
+                new SplittableRandom(2103)).isPresent());
+        assertEquals(2, quizBank.asUnmodifiableObservableList().size());
+    }
+
+    private static List<Question> buildQuestions(int numQuestions) {
+        List<Question> questions = new ArrayList<>();
+        for (int i = 0; i < numQuestions; i++) {
+            questions.add(new QuestionBuilder().withQuestion("Question " + i).build());
+        }
+        return questions;
+    }
+}
@@ -1,10 +1,22 @@
 package seedu.address.model.quiz;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import seedu.address.model.question.Question;
+import seedu.address.testutil.question.TypicalQuestions;
+
 import seedu.address.testutil.quiz.QuizBuilder;
 import seedu.address.testutil.quiz.TypicalSavedQuizzes;
 
@@ -67,4 +79,66 @@ public class QuizTest {
         Quiz editedQuiz1 = new QuizBuilder(QUIZ_ONE).withQuizId("editedQuizID").build();
         assertFalse(editedQuiz1.equals(QUIZ_ONE));
     }
+
+    @Test
+    public void getFormattedQuestionsAndAnswers_mcqAndOpenEndedQuestions_formatsEachQuestion() {
+        Quiz quiz = new QuizBuilder().withQuizId("CS2103T").withQuestionList(TypicalSavedQuizzes.QUESTION_LIST_THREE)
+                .build();
+        assertEquals("CS2103T.\n\nQuestions:\n"
+                + "1. What year was Singapore independent?\n\n"
+                + "2. How many years is a CS degree?\nA. 1\nB. 2\nC. 3\nD. 4\n\n", quiz.getFormattedQuestions());
+        assertEquals("Answers [Teacher's Copy]:\n1. 1965\n\n2. 4\n\n", quiz.getFormattedAnswers());
+    }
+
+    @Test
+    public void getQuestionsForExport_mcqQuestion_formatsOptionsAsRadioButtons() {
+        String export = QUIZ_TWO.getQuestionsForExport();
+        assertTrue(export.startsWith("<!DOCTYPE html>\n<html>\n<body>\n<center><h2> TestQUIZ_TWO</h2></center>\n"
+                + "<font size=\"5\">1. How many years is a CS degree?</font>\n<br><br>\n"
+                + "<font size=\"4\">A) 1</font><input type=\"radio\" name =\"How many years is a CS degree?\""
+                + " value=\"1\"><br>\n"));
+        assertTrue(export.endsWith("</body>\n</html>"));
+    }
+
+    @Test
+    public void appendQuestionsForExport_writer_sameAsString() throws Exception {
+        StringWriter writer = new StringWriter();
+        QUIZ_ONE.appendQuestionsForExport(writer);
+        assertEquals(QUIZ_ONE.getQuestionsForExport(), writer.toString());
+    }
+
+    @Test
+    public void getStringQuestions_mcqAndOpenEndedQuestions_joinsQuestions() {
+        Quiz quiz = new QuizBuilder().withQuizId("CS2103T").withQuestionList(TypicalSavedQuizzes.QUESTION_LIST_THREE)
+                .build();
+        assertEquals("What year was Singapore independent?:1965//How many years is a CS degree?:4:1:2:3:4",
+                quiz.getStringQuestions());
+        assertEquals("", EMPTY_QUIZ.getStringQuestions());
+    }
+
+    @Test
+    public void getObservableListQuestions_questionsChanged_sameListUpdatedInPlace() {
+        Quiz quiz = new QuizBuilder().withQuizId("CS2103T").withQuestionList(TypicalSavedQuizzes.QUESTION_LIST_ONE)
+                .build();
+        ObservableList<Question> questions = quiz.getObservableListQuestions();
+        List<ListChangeListener.Change<? extends Question>> changes = new ArrayList<>();
+        questions.addListener((ListChangeListener<Question>) change -> changes.add(change));
+
+        quiz.addQuestion(TypicalQuestions.QUESTION_THREE);
+        quiz.removeQuestion(1);
+
+        assertSame(questions, quiz.getObservableListQuestions());
+        assertEquals(Arrays.asList(TypicalQuestions.QUESTION_TWO, TypicalQuestions.QUESTION_THREE), questions);
+        assertEquals(2, changes.size());
+    }
+
+    @Test
+    public void duplicate_questionsChanged_copyNotChanged() {
+        Quiz quiz = new QuizBuilder().withQuizId("CS2103T").withQuestionList(TypicalSavedQuizzes.QUESTION_LIST_ONE)
+                .build();
+        Quiz copy = quiz.duplicate();
+        quiz.addQuestion(TypicalQuestions.QUESTION_THREE);
+
+        assertEquals(TypicalSavedQuizzes.QUESTION_LIST_ONE, copy.getObservableListQuestions());
+    }
 }
@@ -93,5 +93,10 @@ public class StudentRecordTest {
         public ObservableList<Student> getStudentList() {
             return students;
         }
+
+        @Override
+        public long getVersion() {
+            return 0;
+        }
     }
 }
@@ -8,9 +8,11 @@ import static seedu.address.testutil.Assert.assertThrows;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.commons.core.index.Index;
 import seedu.address.model.student.exceptions.DuplicateStudentException;
 import seedu.address.model.student.exceptions.StudentNotFoundException;
 import seedu.address.testutil.student.StudentBuilder;
@@ -176,4 +178,67 @@ public class UniqueStudentListTest {
                 UnsupportedOperationException.class, () -> uniqueStudentList.asUnmodifiableObservableList()
                         .remove(0));
     }
+
+    @Test
+    public void getIndex_studentNotInList_returnsEmpty() {
+        uniqueStudentList.add(TypicalStudents.STUDENT_ONE);
+        assertEquals(Optional.empty(), uniqueStudentList.getIndex(TypicalStudents.STUDENT_TWO));
+    }
+
+    @Test
+    public void getIndex_afterInsertAndRemove_returnsCurrentIndex() {
+        uniqueStudentList.add(TypicalStudents.STUDENT_ONE);
+        uniqueStudentList.add(TypicalStudents.STUDENT_TWO);
+        uniqueStudentList.add(2, TypicalStudents.STUDENT_THREE);
+        assertEquals(Optional.of(Index.fromZeroBased(2)), uniqueStudentList.getIndex(TypicalStudents.STUDENT_TWO));
+
+        uniqueStudentList.remove(TypicalStudents.STUDENT_ONE);
+        assertEquals(Optional.of(Index.fromZeroBased(0)), uniqueStudentList.getIndex(TypicalStudents.STUDENT_THREE));
+        assertEquals(Optional.of(Index.fromZeroBased(1)), uniqueStudentList.getIndex(TypicalStudents.STUDENT_TWO));
+        assertFalse(uniqueStudentList.contains(TypicalStudents.STUDENT_ONE));
+    }
+
+    @Test
+    public void setStudent_editedStudentHasDifferentIdentity_previousIdentityRemoved() {
+        uniqueStudentList.add(TypicalStudents.STUDENT_ONE);
+        uniqueStudentList.setStudent(TypicalStudents.STUDENT_ONE, TypicalStudents.STUDENT_TWO);
+        assertFalse(uniqueStudentList.contains(TypicalStudents.STUDENT_ONE));
+        assertTrue(uniqueStudentList.contains(TypicalStudents.STUDENT_TWO));
+    }
+
+    @Test
+    public void setStudent_indexOfOtherStudentWithSameIdentity_throwsDuplicateStudentException() {
+        uniqueStudentList.add(TypicalStudents.STUDENT_ONE);
+        uniqueStudentList.add(TypicalStudents.STUDENT_TWO);
+        assertThrows(DuplicateStudentException.class, () -> uniqueStudentList
+                .setStudent(Index.fromZeroBased(0), TypicalStudents.STUDENT_TWO));
+    }
+
+    @Test
+    public void setStudent_indexOfStudentWithSameIdentity_replacesStudent() {
+        uniqueStudentList.add(TypicalStudents.STUDENT_ONE);
+        uniqueStudentList.add(TypicalStudents.STUDENT_TWO);
+        Student editedStudent = new StudentBuilder(TypicalStudents.STUDENT_TWO).withMark(true).build();
+        uniqueStudentList.setStudent(Index.fromZeroBased(1), editedStudent);
+
+        assertTrue(uniqueStudentList.asUnmodifiableObservableList().get(1).getIsMarked());
+        assertEquals(Optional.of(Index.fromZeroBased(1)), uniqueStudentList.getIndex(editedStudent));
+    }
+
+    @Test
+    public void setStudent_indexOfNewIdentity_previousIdentityRemoved() {
+        uniqueStudentList.add(TypicalStudents.STUDENT_ONE);
+        uniqueStudentList.setStudent(Index.fromZeroBased(0), TypicalStudents.STUDENT_TWO);
+
+        assertFalse(uniqueStudentList.contains(TypicalStudents.STUDENT_ONE));
+        assertEquals(Optional.of(Index.fromZeroBased(0)), uniqueStudentList.getIndex(TypicalStudents.STUDENT_TWO));
+    }
+
+    @Test
+    public void setStudents_list_replacesPreviousIdentities() {
+        uniqueStudentList.add(TypicalStudents.STUDENT_ONE);
+        uniqueStudentList.setStudents(Arrays.asList(TypicalStudents.STUDENT_TWO, TypicalStudents.STUDENT_THREE));
+        assertFalse(uniqueStudentList.contains(TypicalStudents.STUDENT_ONE));
+        assertEquals(Optional.of(Index.fromZeroBased(1)), uniqueStudentList.getIndex(TypicalStudents.STUDENT_THREE));
+    }
 }
@@ -1,11 +1,14 @@
 package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static seedu.address.testutil.event.TypicalEvents.getTypicalEventsRecord;
+import static seedu.address.testutil.group.TypicalGroups.getListOfGroups;
 import static seedu.address.testutil.note.TypicalNotes.getTypicalNotesRecord;
 import static seedu.address.testutil.question.TypicalQuestions.getTypicalSavedQuestions;
 import static seedu.address.testutil.quiz.TypicalSavedQuizzes.getSavedQuizzes;
+import static seedu.address.testutil.student.TypicalStudents.STUDENT_FIVE;
 import static seedu.address.testutil.student.TypicalStudents.getTypicalStudentRecord;
 
 import java.nio.file.Path;
@@ -18,6 +21,8 @@ import seedu.address.commons.core.GuiSettings;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.event.EventRecord;
 import seedu.address.model.event.ReadOnlyEvents;
+import seedu.address.model.group.ListOfGroups;
+import seedu.address.model.group.ReadOnlyGroups;
 import seedu.address.model.note.NotesRecord;
 import seedu.address.model.note.ReadOnlyNotesRecord;
 import seedu.address.model.question.ReadOnlyQuestions;
@@ -27,6 +32,7 @@ import seedu.address.model.quiz.SavedQuizzes;
 import seedu.address.model.student.ReadOnlyStudentRecord;
 import seedu.address.model.student.StudentRecord;
 import seedu.address.storage.event.JsonEventStorage;
+import seedu.address.storage.group.JsonGroupStorage;
 import seedu.address.storage.note.JsonNotesRecordStorage;
 import seedu.address.storage.question.JsonQuestionStorage;
 import seedu.address.storage.quiz.JsonQuizStorage;
@@ -53,8 +59,10 @@ public class StorageManagerTest {
                 new JsonNotesRecordStorage(getTempFilePath("notesRecordStorage"));
         JsonEventStorage eventStorage =
                 new JsonEventStorage(getTempFilePath("eventStorage"));
+        JsonGroupStorage groupStorage =
+                new JsonGroupStorage(getTempFilePath("groupStorage"));
         storageManager = new StorageManager(userPrefsStorage, studentRecordStorage, questionStorage, quizStorage,
-                notesRecordStorage , eventStorage);
+                notesRecordStorage , eventStorage, groupStorage);
     }
 
     private Path getTempFilePath(String fileName) {
@@ -99,6 +107,18 @@ public class StorageManagerTest {
         assertEquals(original, new NotesRecord(retrieved));
     }
 
+    @Test
+    public void groupsReadSave() throws Exception {
+        /*
+         * Note: This is an integration test that verifies the StorageManager is properly wired to the
+         * {@link JsonGroupStorage} class.
+         */
+        ListOfGroups original = getListOfGroups();
+        storageManager.saveGroups(original);
+        ReadOnlyGroups retrieved = storageManager.readGroups(getTypicalStudentRecord()).get();
+        assertEquals(original, new ListOfGroups(retrieved));
+    }
+
     @Test
     public void savedQuestionsReadSave() throws Exception {
         /*
@@ -134,6 +154,42 @@ public class StorageManagerTest {
         ReadOnlyStudentRecord retrieved = storageManager.readStudentRecord().get();
         assertEquals(original, new StudentRecord(retrieved));
     }
+    @Test
+    public void saveStudentRecord_unmodifiedRecord_skipsWrite() throws Exception {
+        StudentRecord original = new StudentRecord();
+        storageManager.saveStudentRecord(original);
+        assertEquals(0, storageManager.getSkippedWriteCount());
+
+        // same version as last saved -> skipped
+        storageManager.saveStudentRecord(original);
+        assertEquals(1, storageManager.getSkippedWriteCount());
+
+        // modified since last saved -> written
+        original.addStudent(STUDENT_FIVE);
+        storageManager.saveStudentRecord(original);
+        assertEquals(1, storageManager.getSkippedWriteCount());
+        assertEquals(original, new StudentRecord(storageManager.readStudentRecord().get()));
+
+        // different record with the same version -> written
+        storageManager.saveStudentRecord(new StudentRecord(original));
+        assertEquals(1, storageManager.getSkippedWriteCount());
+    }
+
+    @Test
+    public void saveStudentRecord_writeBehind_writesStateAtTimeOfSave() throws Exception {
+        storageManager.enableWriteBehind();
+        StudentRecord original = new StudentRecord();
+        original.addStudent(STUDENT_FIVE);
+        storageManager.saveStudentRecord(original);
+        StudentRecord expected = new StudentRecord(original);
+
+        // changes made after the save are not written
+        original.removeStudent(STUDENT_FIVE);
+        storageManager.flush();
+        assertEquals(expected, new StudentRecord(storageManager.readStudentRecord().get()));
+        assertFalse(storageManager.takeWriteFailure().isPresent());
+    }
+
     @Test
     public void getUserPrefsFilePath() {
         assertNotNull(storageManager.getUserPrefsFilePath());
@@ -144,6 +200,11 @@ public class StorageManagerTest {
         assertNotNull(storageManager.getEventRecordFilePath());
     }
 
+    @Test
+    public void getGroupsFilePath() {
+        assertNotNull(storageManager.getGroupsFilePath());
+    }
+
     @Test
     public void getNotesRecordFilePath() {
         assertNotNull(storageManager.getNotesRecordFilePath());
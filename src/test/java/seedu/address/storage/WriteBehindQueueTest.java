@@ -0,0 +1,81 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.jupiter.api.Test;
+
+public class WriteBehindQueueTest {
+
+    private static final Path FILE_A = Paths.get("a.json");
+    private static final Path FILE_B = Paths.get("b.json");
+
+    private final WriteBehindQueue queue = new WriteBehindQueue();
+
+    @Test
+    public void submit_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> queue.submit(null, () -> { }));
+        assertThrows(NullPointerException.class, () -> queue.submit(FILE_A, null));
+    }
+
+    @Test
+    public void submit_writesToSameFileWhileBusy_onlyLatestWritten() throws Exception {
+        CountDownLatch blocker = new CountDownLatch(1);
+        List<String> written = new ArrayList<>();
+        queue.submit(FILE_B, waitFor(blocker));
+
+        queue.submit(FILE_A, () -> written.add("first"));
+        queue.submit(FILE_A, () -> written.add("second"));
+        blocker.countDown();
+        queue.flush();
+
+        assertEquals(List.of("second"), written);
+        assertEquals(1, queue.getCoalescedWriteCount());
+    }
+
+    @Test
+    public void flush_failedWrite_failureReportedOnce() throws Exception {
+        queue.submit(FILE_A, () -> {
+            throw new IOException("disk full");
+        });
+        assertThrows(IOException.class, queue::flush);
+
+        queue.flush();
+        assertFalse(queue.takeFailure().isPresent());
+    }
+
+    @Test
+    public void takeFailure_failedWrite_returnsFailureOnce() throws Exception {
+        CountDownLatch done = new CountDownLatch(1);
+        queue.submit(FILE_A, () -> {
+            throw new IOException("disk full");
+        });
+        queue.submit(FILE_B, done::countDown);
+        done.await();
+
+        assertTrue(queue.takeFailure().isPresent());
+        assertFalse(queue.takeFailure().isPresent());
+    }
+
+    /**
+     * Returns a write that does not finish until {@code latch} is counted down.
+     */
+    private static WriteBehindQueue.FileWrite waitFor(CountDownLatch latch) {
+        return () -> {
+            try {
+                latch.await();
+            } catch (InterruptedException e) {
+                throw new IOException(e);
+            }
+        };
+    }
+}
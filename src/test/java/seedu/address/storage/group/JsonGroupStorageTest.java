@@ -0,0 +1,85 @@
+package seedu.address.storage.group;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.group.TypicalGroups.GROUP_ONE;
+import static seedu.address.testutil.group.TypicalGroups.getListOfGroups;
+import static seedu.address.testutil.student.TypicalStudents.STUDENT_ONE;
+import static seedu.address.testutil.student.TypicalStudents.STUDENT_TWO;
+import static seedu.address.testutil.student.TypicalStudents.getTypicalStudentRecord;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.group.ListOfGroups;
+import seedu.address.model.group.ReadOnlyGroups;
+import seedu.address.model.student.StudentRecord;
+
+public class JsonGroupStorageTest {
+
+    private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonGroupStorageTest");
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readGroups_nullFilePath_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () ->
+            new JsonGroupStorage(null).readGroups(getTypicalStudentRecord(), null));
+    }
+
+    @Test
+    public void readGroups_missingFile_emptyResult() throws Exception {
+        Path filePath = testFolder.resolve("NonExistentFile.json");
+        assertFalse(new JsonGroupStorage(filePath).readGroups(getTypicalStudentRecord()).isPresent());
+    }
+
+    @Test
+    public void readGroups_duplicateGroups_throwsDataConversionException() {
+        JsonGroupStorage jsonGroupStorage = new JsonGroupStorage(TEST_DATA_FOLDER.resolve("duplicateGroups.json"));
+        assertThrows(DataConversionException.class, () -> jsonGroupStorage.readGroups(getTypicalStudentRecord()));
+    }
+
+    @Test
+    public void readGroups_duplicateStudentInGroup_throwsDataConversionException() {
+        JsonGroupStorage jsonGroupStorage = new JsonGroupStorage(
+            TEST_DATA_FOLDER.resolve("duplicateStudentInGroup.json"));
+        assertThrows(DataConversionException.class, () -> jsonGroupStorage.readGroups(getTypicalStudentRecord()));
+    }
+
+    @Test
+    public void readAndSaveGroups_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("TempGroups.json");
+        JsonGroupStorage jsonGroupStorage = new JsonGroupStorage(filePath);
+        ListOfGroups original = getListOfGroups();
+
+        jsonGroupStorage.saveGroups(original);
+        ReadOnlyGroups readBack = jsonGroupStorage.readGroups(getTypicalStudentRecord()).get();
+        assertEquals(original, new ListOfGroups(readBack));
+        for (int i = 0; i < original.getGroupList().size(); i++) {
+            assertEquals(original.getGroup(i).getObservableListStudents(),
+                readBack.getGroupList().get(i).getObservableListStudents());
+        }
+    }
+
+    @Test
+    public void readGroups_studentNotInStudentRecord_leftOutOfGroup() throws Exception {
+        Path filePath = testFolder.resolve("TempGroups.json");
+        JsonGroupStorage jsonGroupStorage = new JsonGroupStorage(filePath);
+        jsonGroupStorage.saveGroups(getListOfGroups());
+
+        StudentRecord studentRecord = new StudentRecord();
+        studentRecord.addStudent(STUDENT_TWO);
+        ListOfGroups readBack = new ListOfGroups(jsonGroupStorage.readGroups(studentRecord).get());
+
+        // GROUP_ONE has STUDENT_ONE and STUDENT_TWO.
+        assertEquals(Arrays.asList(STUDENT_TWO), readBack.getGroup(GROUP_ONE.getGroupId()).getObservableListStudents());
+        assertFalse(readBack.isStudentInGroup(GROUP_ONE.getGroupId(), STUDENT_ONE));
+    }
+}
@@ -0,0 +1,61 @@
+package seedu.address.storage.journal;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class TextCommandJournalStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private TextCommandJournalStorage journalStorage;
+
+    @BeforeEach
+    public void setUp() {
+        journalStorage = new TextCommandJournalStorage(testFolder.resolve("data").resolve("journal.txt"));
+    }
+
+    @Test
+    public void readCommandJournal_missingFile_emptyResult() throws Exception {
+        assertTrue(journalStorage.readCommandJournal().isEmpty());
+        assertEquals(0, journalStorage.getCommandJournalSize());
+    }
+
+    @Test
+    public void appendToCommandJournal_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> journalStorage.appendToCommandJournal(null));
+    }
+
+    @Test
+    public void appendToCommandJournal_multipleLines_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> journalStorage.appendToCommandJournal("note\nadd"));
+    }
+
+    @Test
+    public void appendAndRead_allInOrder_success() throws Exception {
+        journalStorage.appendToCommandJournal("student add n/Alice");
+        journalStorage.appendToCommandJournal("student delete 1");
+        assertEquals(2, journalStorage.getCommandJournalSize());
+
+        TextCommandJournalStorage reopened =
+                new TextCommandJournalStorage(journalStorage.getCommandJournalFilePath());
+        assertEquals(List.of("student add n/Alice", "student delete 1"), reopened.readCommandJournal());
+        assertEquals(2, reopened.getCommandJournalSize());
+    }
+
+    @Test
+    public void clearCommandJournal_afterAppend_emptyJournal() throws Exception {
+        journalStorage.appendToCommandJournal("student add n/Alice");
+        journalStorage.clearCommandJournal();
+        assertEquals(0, journalStorage.getCommandJournalSize());
+        assertTrue(journalStorage.readCommandJournal().isEmpty());
+    }
+}
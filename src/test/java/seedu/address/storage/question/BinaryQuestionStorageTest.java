@@ -0,0 +1,85 @@
+package seedu.address.storage.question;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.question.TypicalQuestions.NOT_IN_TYPICAL;
+import static seedu.address.testutil.question.TypicalQuestions.OPEN_ENDED;
+
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.question.ReadOnlyQuestions;
+import seedu.address.model.question.SavedQuestions;
+import seedu.address.storage.DataFileConverter;
+import seedu.address.testutil.question.TypicalQuestions;
+
+public class BinaryQuestionStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readQuestions_nullFilePath_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () ->
+            new BinaryQuestionStorage(testFolder.resolve("questions.bin")).readQuestions(null));
+    }
+
+    @Test
+    public void read_missingFile_emptyResult() throws Exception {
+        assertFalse(new BinaryQuestionStorage(testFolder.resolve("NonExistentFile.bin")).readQuestions().isPresent());
+    }
+
+    @Test
+    public void read_notBinaryFormat_exceptionThrown() throws Exception {
+        Path filePath = testFolder.resolve("questions.bin");
+        FileUtil.writeToFile(filePath, "{ \"questions\": [] }");
+        assertThrows(DataConversionException.class, () -> new BinaryQuestionStorage(filePath).readQuestions());
+    }
+
+    @Test
+    public void readAndSaveQuestions_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("questions.bin");
+        SavedQuestions original = TypicalQuestions.getTypicalSavedQuestions();
+        BinaryQuestionStorage binaryQuestionStorage = new BinaryQuestionStorage(filePath);
+
+        // Save in new file and read back
+        binaryQuestionStorage.saveQuestions(original);
+        ReadOnlyQuestions readBack = binaryQuestionStorage.readQuestions().get();
+        assertEquals(original, new SavedQuestions(readBack));
+
+        // Modify data, overwrite exiting file, and read back
+        original.addQuestion(NOT_IN_TYPICAL);
+        original.deleteQuestion(OPEN_ENDED);
+        binaryQuestionStorage.saveQuestions(original);
+        readBack = binaryQuestionStorage.readQuestions().get();
+        assertEquals(original, new SavedQuestions(readBack));
+    }
+
+    @Test
+    public void convertQuestions_jsonToBinaryAndBack_noDataLost() throws Exception {
+        SavedQuestions original = TypicalQuestions.getTypicalSavedQuestions();
+        JsonQuestionStorage jsonStorage = new JsonQuestionStorage(testFolder.resolve("questions.json"));
+        BinaryQuestionStorage binaryStorage = new BinaryQuestionStorage(testFolder.resolve("questions.bin"));
+        JsonQuestionStorage convertedJsonStorage = new JsonQuestionStorage(testFolder.resolve("converted.json"));
+        jsonStorage.saveQuestions(original);
+
+        DataFileConverter.convertQuestions(jsonStorage, binaryStorage);
+        DataFileConverter.convertQuestions(binaryStorage, convertedJsonStorage);
+
+        assertEquals(original, new SavedQuestions(binaryStorage.readQuestions().get()));
+        assertEquals(FileUtil.readFromFile(jsonStorage.getSavedQuestionsFilePath()),
+            FileUtil.readFromFile(convertedJsonStorage.getSavedQuestionsFilePath()));
+    }
+
+    @Test
+    public void saveQuestions_nullSavedQuestions_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () ->
+            new BinaryQuestionStorage(testFolder.resolve("questions.bin")).saveQuestions(null));
+    }
+
+}
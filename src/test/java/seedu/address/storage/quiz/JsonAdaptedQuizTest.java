@@ -2,10 +2,14 @@ package seedu.address.storage.quiz;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static seedu.address.storage.quiz.JsonAdaptedQuiz.MISSING_FIELD_MESSAGE_FORMAT;
+import static seedu.address.storage.quiz.JsonAdaptedQuiz.MISSING_QUESTION_MESSAGE_FORMAT;
 import static seedu.address.testutil.Assert.assertThrows;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
 
 import org.junit.jupiter.api.Test;
 
@@ -18,7 +22,8 @@ import seedu.address.testutil.quiz.QuizBuilder;
 public class JsonAdaptedQuizTest {
 
     private static final String QUIZ_ID = "1";
-    private static final String QUESTIONS_STRING = "1";
+    private static final String QUESTIONS_STRING = "What is 1+1?:2";
+    private static final String MALFORMED_QUESTIONS_STRING = "What is 1+1?";
     private static final String INVALID_QUIZ_ID = "";
     private static final String INVALID_QUESTIONS_STRING = "";
     private static final Question QUESTION = new QuestionBuilder().withQuestion("What is 1+1?")
@@ -32,27 +37,49 @@ public class JsonAdaptedQuizTest {
     @Test
     public void toModelType_validQuizDetails_returnsQuiz() throws Exception {
         JsonAdaptedQuiz quiz = new JsonAdaptedQuiz(QUIZ_ID, QUESTIONS_STRING);
-        assertEquals(this.quiz, quiz.toModelType());
+        assertEquals(this.quiz, quiz.toModelType(Collections.emptyMap()));
+        assertEquals(QUESTIONS, quiz.toModelType(Collections.emptyMap()).getQuestionList().getQuestions());
+    }
+
+    @Test
+    public void toModelType_malformedQuestions_throwsIllegalValueException() {
+        JsonAdaptedQuiz quiz = new JsonAdaptedQuiz(QUIZ_ID, MALFORMED_QUESTIONS_STRING);
+        assertThrows(IllegalValueException.class, () -> quiz.toModelType(Collections.emptyMap()));
     }
 
     @Test
     public void toModelType_invalidQuiz_throwsIllegalValueException() {
         JsonAdaptedQuiz quiz = new JsonAdaptedQuiz(INVALID_QUIZ_ID, QUESTIONS_STRING);
         String expectedMessage = String.format(MISSING_FIELD_MESSAGE_FORMAT, "QUIZ");
-        assertThrows(IllegalValueException.class, expectedMessage, quiz::toModelType);
+        assertThrows(IllegalValueException.class, expectedMessage, () -> quiz.toModelType(Collections.emptyMap()));
     }
 
     @Test
     public void toModelType_invalidQuestions_throwsIllegalValueException() {
         JsonAdaptedQuiz quiz = new JsonAdaptedQuiz(QUIZ_ID, INVALID_QUESTIONS_STRING);
         String expectedMessage = String.format(MISSING_FIELD_MESSAGE_FORMAT, "QUIZ");
-        assertThrows(IllegalValueException.class, expectedMessage, quiz::toModelType);
+        assertThrows(IllegalValueException.class, expectedMessage, () -> quiz.toModelType(Collections.emptyMap()));
     }
 
     @Test
     public void toModelType_nullQuiz_throwsIllegalValueException() {
         JsonAdaptedQuiz quiz = new JsonAdaptedQuiz(null, QUESTIONS_STRING);
         String expectedMessage = String.format(MISSING_FIELD_MESSAGE_FORMAT, "QUIZ");
-        assertThrows(IllegalValueException.class, expectedMessage, quiz::toModelType);
+        assertThrows(IllegalValueException.class, expectedMessage, () -> quiz.toModelType(Collections.emptyMap()));
+    }
+
+    @Test
+    public void toModelType_validQuestionIds_returnsQuizWithQuestions() throws Exception {
+        JsonAdaptedQuiz quiz = new JsonAdaptedQuiz(QUIZ_ID, List.of("a"), null);
+        Quiz modelQuiz = quiz.toModelType(Map.of("a", QUESTION));
+        assertEquals(this.quiz, modelQuiz);
+        assertEquals(QUESTIONS, modelQuiz.getQuestionList().getQuestions());
+    }
+
+    @Test
+    public void toModelType_unknownQuestionId_throwsIllegalValueException() {
+        JsonAdaptedQuiz quiz = new JsonAdaptedQuiz(QUIZ_ID, List.of("a", "b"), null);
+        String expectedMessage = String.format(MISSING_QUESTION_MESSAGE_FORMAT, "b");
+        assertThrows(IllegalValueException.class, expectedMessage, () -> quiz.toModelType(Map.of("a", QUESTION)));
     }
 }
@@ -0,0 +1,74 @@
+package seedu.address.storage.quiz;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.quiz.ReadOnlyQuizzes;
+import seedu.address.model.quiz.SavedQuizzes;
+import seedu.address.testutil.quiz.TypicalSavedQuizzes;
+
+public class JsonQuizStorageTest {
+
+    private static final Path LEGACY_QUIZZES_FILE = Paths.get(
+        "src", "test", "data", "JsonSerializableQuizzesTest", "legacyQuizzes.json");
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readQuizzes_nullFilePath_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new JsonQuizStorage(null).readQuizzes(null));
+    }
+
+    @Test
+    public void readQuizzes_missingFile_emptyResult() throws Exception {
+        Path filePath = testFolder.resolve("NonExistentFile.json");
+        assertFalse(new JsonQuizStorage(filePath).readQuizzes().isPresent());
+    }
+
+    @Test
+    public void readAndSaveQuizzes_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("TempQuizzes.json");
+        JsonQuizStorage jsonQuizStorage = new JsonQuizStorage(filePath);
+        SavedQuizzes original = TypicalSavedQuizzes.getSavedQuizzes();
+
+        jsonQuizStorage.saveQuizzes(original);
+        assertSameQuestions(original, jsonQuizStorage.readQuizzes().get());
+    }
+
+    @Test
+    public void readQuizzes_legacyFile_migratesFile() throws Exception {
+        Path filePath = testFolder.resolve("legacyQuizzes.json");
+        Files.copy(LEGACY_QUIZZES_FILE, filePath);
+        JsonQuizStorage jsonQuizStorage = new JsonQuizStorage(filePath);
+
+        ReadOnlyQuizzes legacyQuizzes = jsonQuizStorage.readQuizzes().get();
+        assertFalse(JsonUtil.readJsonFile(filePath, JsonSerializableQuizzes.class).get().hasLegacyQuizzes());
+
+        // the quiz with a single question keeps it after the migration
+        ReadOnlyQuizzes migratedQuizzes = jsonQuizStorage.readQuizzes().get();
+        assertEquals(1, migratedQuizzes.getSavedQuizzes().get(1).getQuestionList().getQuestions().size());
+        assertSameQuestions(legacyQuizzes, migratedQuizzes);
+    }
+
+    /**
+     * Asserts that {@code actual} has the same quizzes as {@code expected}, each with the same questions in the
+     * same order, as quizzes are equal if they only have the same identifier.
+     */
+    private static void assertSameQuestions(ReadOnlyQuizzes expected, ReadOnlyQuizzes actual) {
+        assertEquals(expected.getSavedQuizzes(), actual.getSavedQuizzes());
+        for (int i = 0; i < expected.getSavedQuizzes().size(); i++) {
+            assertEquals(expected.getSavedQuizzes().get(i).getQuestionList().getQuestions(),
+                actual.getSavedQuizzes().get(i).getQuestionList().getQuestions());
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package seedu.address.storage.quiz;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.storage.quiz.JsonAdaptedQuiz.MISSING_QUESTION_MESSAGE_FORMAT;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.question.McqQuestion;
+import seedu.address.model.question.OpenEndedQuestion;
+import seedu.address.model.question.Question;
+import seedu.address.model.quiz.Quiz;
+import seedu.address.model.quiz.SavedQuizzes;
+import seedu.address.testutil.question.QuestionBuilder;
+import seedu.address.testutil.quiz.QuizBuilder;
+import seedu.address.testutil.quiz.TypicalSavedQuizzes;
+
+public class JsonSerializableQuizzesTest {
+
+    private static final Path TEST_DATA_FOLDER = Paths.get(
+        "src", "test", "data", "JsonSerializableQuizzesTest");
+    private static final Path LEGACY_QUIZZES_FILE = TEST_DATA_FOLDER.resolve("legacyQuizzes.json");
+    private static final Path MISSING_QUESTION_QUIZZES_FILE = TEST_DATA_FOLDER
+        .resolve("missingQuestionQuizzes.json");
+
+    @Test
+    public void toModelType_savedQuizzes_keepsQuestionsInOrder() throws Exception {
+        SavedQuizzes original = TypicalSavedQuizzes.getSavedQuizzes();
+        SavedQuizzes converted = roundTrip(original);
+
+        assertEquals(original, converted);
+        for (int i = 0; i < original.getSavedQuizzes().size(); i++) {
+            assertEquals(original.getSavedQuizzes().get(i).getQuestionList().getQuestions(),
+                converted.getSavedQuizzes().get(i).getQuestionList().getQuestions());
+        }
+    }
+
+    @Test
+    public void toModelType_questionsWithDelimiters_keepsQuestionText() throws Exception {
+        Question question = new QuestionBuilder().withQuestion("Ratio of 1:2//3?").withAnswer("1:5").build();
+        SavedQuizzes original = new SavedQuizzes();
+        original.addQuiz(new QuizBuilder().withQuizId("Ratios")
+            .withQuestionList(new ArrayList<>(Arrays.asList(question))).build());
+
+        assertEquals(Arrays.asList(question),
+            roundTrip(original).getSavedQuizzes().get(0).getQuestionList().getQuestions());
+    }
+
+    @Test
+    public void toModelType_questionInManyQuizzes_storedOnceAndShared() throws Exception {
+        SavedQuizzes original = TypicalSavedQuizzes.getSavedQuizzes();
+        String json = JsonUtil.toJsonString(new JsonSerializableQuizzes(original));
+        String firstQuestionText = TypicalSavedQuizzes.QUESTION_LIST_ONE.get(0).getQuestion();
+        assertEquals(json.indexOf(firstQuestionText), json.lastIndexOf(firstQuestionText));
+
+        SavedQuizzes converted = JsonUtil.fromJsonString(json, JsonSerializableQuizzes.class).toModelType();
+        // QUIZ_ONE and QUIZ_THREE both start with QUESTION_ONE.
+        assertSame(converted.getSavedQuizzes().get(0).getQuestionList().getQuestions().get(0),
+            converted.getSavedQuizzes().get(2).getQuestionList().getQuestions().get(0));
+    }
+
+    @Test
+    public void getQuestionId_sameFields_sameId() {
+        String[] fields = {"What is 1+1?", "2", "open", null, null, null, null};
+        String[] otherFields = {"What is 1+1?", "3", "open", null, null, null, null};
+        assertEquals(JsonSerializableQuizzes.getQuestionId(fields),
+            JsonSerializableQuizzes.getQuestionId(fields.clone()));
+        assertFalse(JsonSerializableQuizzes.getQuestionId(fields)
+            .equals(JsonSerializableQuizzes.getQuestionId(otherFields)));
+    }
+
+    @Test
+    public void toModelType_legacyQuizzesFile_readsEmbeddedQuestions() throws Exception {
+        JsonSerializableQuizzes dataFromFile = JsonUtil.readJsonFile(LEGACY_QUIZZES_FILE,
+            JsonSerializableQuizzes.class).get();
+        assertTrue(dataFromFile.hasLegacyQuizzes());
+
+        List<Quiz> quizzes = dataFromFile.toModelType().getSavedQuizzes();
+        assertEquals(Arrays.asList(new OpenEndedQuestion("What is 1+1?", "2"),
+            new McqQuestion("What is 1+2?", "B", "1", "2", "3", "4")),
+            quizzes.get(0).getQuestionList().getQuestions());
+        // a quiz with a single question has no "//" in its questions
+        assertEquals(Arrays.asList(new OpenEndedQuestion("What is 2+2?", "4")),
+            quizzes.get(1).getQuestionList().getQuestions());
+        assertFalse(new JsonSerializableQuizzes(dataFromFile.toModelType()).hasLegacyQuizzes());
+    }
+
+    @Test
+    public void toModelType_missingQuestion_throwsIllegalValueException() throws Exception {
+        JsonSerializableQuizzes dataFromFile = JsonUtil.readJsonFile(MISSING_QUESTION_QUIZZES_FILE,
+            JsonSerializableQuizzes.class).get();
+        assertThrows(IllegalValueException.class,
+            String.format(MISSING_QUESTION_MESSAGE_FORMAT, "0000000000000000"), dataFromFile::toModelType);
+    }
+
+    private static SavedQuizzes roundTrip(SavedQuizzes quizzes) throws Exception {
+        String json = JsonUtil.toJsonString(new JsonSerializableQuizzes(quizzes));
+        return JsonUtil.fromJsonString(json, JsonSerializableQuizzes.class).toModelType();
+    }
+}
@@ -0,0 +1,101 @@
+package seedu.address.storage.student;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.student.TypicalStudents.STUDENT_FIVE;
+import static seedu.address.testutil.student.TypicalStudents.STUDENT_ONE;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.student.ReadOnlyStudentRecord;
+import seedu.address.model.student.StudentRecord;
+import seedu.address.storage.DataFileConverter;
+import seedu.address.testutil.student.TypicalStudents;
+
+public class BinaryStudentRecordStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readStudentRecord_nullFilePath_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () ->
+            new BinaryStudentRecordStorage(testFolder.resolve("students.bin")).readStudentRecord(null));
+    }
+
+    @Test
+    public void read_missingFile_emptyResult() throws Exception {
+        assertFalse(new BinaryStudentRecordStorage(testFolder.resolve("NonExistentFile.bin"))
+            .readStudentRecord().isPresent());
+    }
+
+    @Test
+    public void read_notBinaryFormat_exceptionThrown() throws Exception {
+        Path filePath = testFolder.resolve("students.bin");
+        FileUtil.writeToFile(filePath, "{ \"students\": [] }");
+        assertThrows(DataConversionException.class, () -> new BinaryStudentRecordStorage(filePath)
+            .readStudentRecord());
+    }
+
+    @Test
+    public void read_truncatedFile_exceptionThrown() throws Exception {
+        Path filePath = testFolder.resolve("students.bin");
+        new BinaryStudentRecordStorage(filePath).saveStudentRecord(TypicalStudents.getTypicalStudentRecord());
+        byte[] bytes = Files.readAllBytes(filePath);
+        Files.write(filePath, Arrays.copyOf(bytes, bytes.length - 3));
+
+        assertThrows(DataConversionException.class, () -> new BinaryStudentRecordStorage(filePath)
+            .readStudentRecord());
+    }
+
+    @Test
+    public void readAndSaveStudentRecord_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("students.bin");
+        StudentRecord original = TypicalStudents.getTypicalStudentRecord();
+        BinaryStudentRecordStorage binaryStudentRecordStorage = new BinaryStudentRecordStorage(filePath);
+
+        // Save in new file and read back
+        binaryStudentRecordStorage.saveStudentRecord(original);
+        ReadOnlyStudentRecord readBack = binaryStudentRecordStorage.readStudentRecord().get();
+        assertEquals(original, new StudentRecord(readBack));
+
+        // Modify data, overwrite exiting file, and read back
+        original.removeStudent(STUDENT_ONE);
+        original.removeStudent(STUDENT_FIVE);
+        binaryStudentRecordStorage.saveStudentRecord(original);
+        readBack = binaryStudentRecordStorage.readStudentRecord().get();
+        assertEquals(original, new StudentRecord(readBack));
+    }
+
+    @Test
+    public void convertStudentRecord_jsonToBinaryAndBack_noDataLost() throws Exception {
+        StudentRecord original = TypicalStudents.getTypicalStudentRecord();
+        JsonStudentRecordStorage jsonStorage = new JsonStudentRecordStorage(testFolder.resolve("students.json"));
+        BinaryStudentRecordStorage binaryStorage = new BinaryStudentRecordStorage(testFolder.resolve("students.bin"));
+        JsonStudentRecordStorage convertedJsonStorage =
+            new JsonStudentRecordStorage(testFolder.resolve("converted.json"));
+        jsonStorage.saveStudentRecord(original);
+
+        DataFileConverter.convertStudentRecord(jsonStorage, binaryStorage);
+        DataFileConverter.convertStudentRecord(binaryStorage, convertedJsonStorage);
+
+        assertEquals(original, new StudentRecord(binaryStorage.readStudentRecord().get()));
+        assertEquals(FileUtil.readFromFile(jsonStorage.getStudentRecordFilePath()),
+            FileUtil.readFromFile(convertedJsonStorage.getStudentRecordFilePath()));
+    }
+
+    @Test
+    public void saveStudentRecord_nullStudentRecord_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () ->
+            new BinaryStudentRecordStorage(testFolder.resolve("students.bin")).saveStudentRecord(null));
+    }
+
+}
@@ -2,6 +2,7 @@ package seedu.address.testutil.model;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Comparator;
@@ -20,9 +21,11 @@ import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.event.EventScheduleViewMode;
 import seedu.address.model.event.ReadOnlyEvents;
 import seedu.address.model.event.ReadOnlyVEvents;
+import seedu.address.model.group.ReadOnlyGroups;
 import seedu.address.model.note.Note;
 import seedu.address.model.note.ReadOnlyNotesRecord;
 import seedu.address.model.question.Question;
+import seedu.address.model.question.QuestionSearchHit;
 import seedu.address.model.question.ReadOnlyQuestions;
 import seedu.address.model.quiz.ReadOnlyQuizzes;
 import seedu.address.model.statistics.ReadOnlyStatisticsRecord;
@@ -72,7 +75,7 @@ public class ModelStub implements Model {
     }
 
     @Override
-    public ObservableList<Question> getSearchQuestions() {
+    public ObservableList<QuestionSearchHit> getSearchQuestions() {
         throw new AssertionError("This method should not be called.");
     }
 
@@ -116,6 +119,18 @@ public class ModelStub implements Model {
         throw new AssertionError("This method should not be called.");
     }
 
+    @Override
+    public boolean createQuizVariants(String quizId, int numVariants, int numQuestions, String type,
+                                      int maxOverlap) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public Optional<Duration> createQuizByQuotas(String quizId, int numMcqQuestions, int numOpenEndedQuestions,
+                                                 int numRecentQuizzes) {
+        throw new AssertionError("This method should not be called.");
+    }
+
     @Override
     public boolean addQuizQuestion(String quizId, int questionNumber, int quizQuestionNumber) {
         throw new AssertionError("This method should not be called.");
@@ -376,6 +391,11 @@ public class ModelStub implements Model {
         throw new AssertionError("This method should not be called.");
     }
 
+    @Override
+    public void addStudents(List<Student> students) {
+        throw new AssertionError("This method should not be called.");
+    }
+
     @Override
     public Optional<Index> getIndexFromStudentList(Student student) {
         throw new AssertionError("This method should not be called.");
@@ -450,4 +470,9 @@ public class ModelStub implements Model {
     public int getGroupSize(String groupId) {
         throw new AssertionError("This method should not be called.");
     }
+
+    @Override
+    public ReadOnlyGroups getGroups() {
+        throw new AssertionError("This method should not be called.");
+    }
 }
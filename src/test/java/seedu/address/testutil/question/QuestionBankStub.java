@@ -8,6 +8,7 @@ import javafx.collections.ObservableList;
 import seedu.address.commons.core.index.Index;
 import seedu.address.model.question.Question;
 import seedu.address.model.question.QuestionBank;
+import seedu.address.model.question.QuestionSearchHit;
 
 /**
  * A stub QuestionBank whose questions list can violate interface constraints.
@@ -57,7 +58,7 @@ public class QuestionBankStub extends QuestionBank {
     }
 
     @Override
-    public ObservableList<Question> getSearchQuestions() {
+    public ObservableList<QuestionSearchHit> getSearchQuestions() {
         throw new AssertionError("This method should not be called.");
     }
 
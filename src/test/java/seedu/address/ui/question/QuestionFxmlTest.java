@@ -14,7 +14,7 @@ public class QuestionFxmlTest {
     @Test
     public void initialiseQuestionListPanel_unableToFindFxmlFile_throwsExceptionInInitializerError() {
         assertThrows(ExceptionInInitializerError.class, ()
-            -> new QuestionListPanel(FXCollections.observableArrayList(), false));
+            -> new QuestionListPanel(FXCollections.observableArrayList()));
     }
 
     @Test